@@ -0,0 +1,52 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Positions of the fields accessed by the benchmarks of the dynamic arrays.
+ */
+public enum AccessPattern {
+	/** Always the first field. */
+	FIRST,
+	/** Always the field in the middle of the record. */
+	MIDDLE,
+	/** Always the last field. */
+	LAST,
+	/** All the fields, from the first to the last. */
+	SEQUENTIAL,
+	/** Random fields. */
+	RANDOM;
+
+	/**
+	 * Obtains the cycle of field positions, 1-based, accessed with this pattern.
+	 * @param fields Number of fields of the record.
+	 * @param random The generator of the random positions.
+	 * @return The positions.
+	 */
+	int[] GetPositions(int fields, Random random)
+	{
+		switch (this)
+		{
+			case FIRST:
+				return new int[] { 1 };
+			case MIDDLE:
+				return new int[] { (fields + 1) / 2 };
+			case LAST:
+				return new int[] { fields };
+			case SEQUENTIAL:
+			{
+				int[] positions = new int[fields];
+				for (int i = 0; i < fields; i++)
+					positions[i] = i + 1;
+				return positions;
+			}
+			default:
+			{
+				int[] positions = new int[1024];
+				for (int i = 0; i < positions.length; i++)
+					positions[i] = 1 + random.nextInt(fields);
+				return positions;
+			}
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package linkar.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the Linkar Framework with the GC profiler, which reports the allocation rate and the bytes allocated per operation.
+ * <p>
+ * The arguments are the ones of the JMH command line: a regular expression to select the benchmarks, -p to select the parameters, -f, -wi, -i...
+ * Without arguments, all the benchmarks are run.
+ * <p>
+ * Example:
+ * <pre>
+ * java -cp ... linkar.benchmarks.BenchmarkRunner MvOperationsBenchmark.Extract -p fields=10,5000
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception
+	{
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(commandLine);
+		if (commandLine.getIncludes().isEmpty())
+			builder.include("linkar\\.benchmarks\\..*");
+		Options options = builder.addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+}
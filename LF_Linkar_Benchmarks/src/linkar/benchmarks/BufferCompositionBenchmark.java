@@ -0,0 +1,81 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkar.data.LkItems;
+
+/**
+ * Benchmarks of the composition of the buffers of the Read, Update and Delete operations from a list of {@link LkItems}.
+ * <p>
+ * The cost of the composition grows with the square of the number of records, so the default parameters stop at 10000 records;
+ * 100000 can be selected with -p records=100000, but every invocation takes minutes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class BufferCompositionBenchmark {
+
+	/** Number of items of the list. */
+	@Param({ "1", "100", "1000", "10000" })
+	public int records;
+
+	/** Number of fields of every record. */
+	@Param({ "20" })
+	public int fields;
+
+	/** Average length of every field. */
+	@Param({ "10" })
+	public int valueLength;
+
+	private LkItems Items;
+
+	@Setup
+	public void Setup()
+	{
+		this.Items = MvResponses.Items(new Random(42), this.records, this.fields, this.valueLength);
+	}
+
+	@Benchmark
+	public String ComposeReadBuffer(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return this.Items.ComposeReadBuffer();
+	}
+
+	@Benchmark
+	public String ComposeUpdateBuffer(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return this.Items.ComposeUpdateBuffer(false);
+	}
+
+	@Benchmark
+	public String ComposeUpdateBufferWithOriginals(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return this.Items.ComposeUpdateBuffer(true);
+	}
+
+	@Benchmark
+	public String ComposeDeleteBufferWithOriginals(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return this.Items.ComposeDeleteBuffer(true);
+	}
+}
@@ -0,0 +1,104 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkar.data.LkItem;
+
+/**
+ * Benchmarks of the accessors of {@link LkItem}, by field index and by dictionary name, over records of different sizes, multivalue depths
+ * and access patterns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LkItemBenchmark {
+
+	/** Number of fields of the record. */
+	@Param({ "10", "100", "1000", "5000" })
+	public int fields;
+
+	/** Number of multivalues of every field. */
+	@Param({ "1", "5" })
+	public int values;
+
+	/** Fields accessed by every invocation. */
+	@Param({ "FIRST", "LAST", "RANDOM" })
+	public AccessPattern pattern;
+
+	private LkItem Item;
+	private String[] Dictionaries;
+	private String NewValue;
+	private int[] Positions;
+	private int Next;
+
+	@Setup
+	public void Setup()
+	{
+		Random random = new Random(42);
+		this.Dictionaries = MvRecords.Dictionaries(this.fields);
+		this.Item = new LkItem("ID", MvRecords.Record(random, this.fields, this.values, 2, 8), "", "", new String[] { "ID" }, this.Dictionaries);
+		this.NewValue = MvRecords.Value(random, 8);
+		this.Positions = this.pattern.GetPositions(this.fields, random);
+	}
+
+	private int NextPosition()
+	{
+		int position = this.Positions[this.Next];
+		this.Next = (this.Next + 1 == this.Positions.length ? 0 : this.Next + 1);
+		return position;
+	}
+
+	@Benchmark
+	public String GetByIndex()
+	{
+		return this.Item.get(NextPosition());
+	}
+
+	@Benchmark
+	public String GetValueByIndex()
+	{
+		return this.Item.get(NextPosition(), this.values);
+	}
+
+	@Benchmark
+	public LkItem SetByIndex()
+	{
+		this.Item.set(this.NewValue, NextPosition());
+		return this.Item;
+	}
+
+	@Benchmark
+	public String GetByName() throws Exception
+	{
+		return this.Item.get(this.Dictionaries[NextPosition() - 1]);
+	}
+
+	@Benchmark
+	public String GetValueByName() throws Exception
+	{
+		return this.Item.get(this.Dictionaries[NextPosition() - 1], this.values);
+	}
+
+	@Benchmark
+	public LkItem SetByName() throws Exception
+	{
+		this.Item.set(this.NewValue, this.Dictionaries[NextPosition() - 1]);
+		return this.Item;
+	}
+}
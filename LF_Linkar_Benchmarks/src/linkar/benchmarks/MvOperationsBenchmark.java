@@ -0,0 +1,121 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkar.functions.DBMV_Mark;
+import linkar.functions.MvOperations;
+
+/**
+ * Benchmarks of the functions of {@link MvOperations} over records of different sizes, multivalue depths and access patterns.
+ * <p>
+ * Example, with the allocation rates of the GC profiler:
+ * <pre>
+ * java -cp ... linkar.benchmarks.BenchmarkRunner MvOperationsBenchmark -p fields=1000 -p pattern=RANDOM
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MvOperationsBenchmark {
+
+	/** Number of fields of the record. */
+	@Param({ "10", "100", "1000", "5000" })
+	public int fields;
+
+	/** Number of multivalues of every field. */
+	@Param({ "1", "5" })
+	public int values;
+
+	/** Fields accessed by every invocation. */
+	@Param({ "FIRST", "LAST", "RANDOM" })
+	public AccessPattern pattern;
+
+	private String Record;
+	private String NewValue;
+	private String OldText;
+	private String NewText;
+	private int[] Positions;
+	private int Next;
+
+	@Setup
+	public void Setup()
+	{
+		Random random = new Random(42);
+		this.Record = MvRecords.Record(random, this.fields, this.values, 2, 8);
+		this.NewValue = MvRecords.Value(random, 8);
+		this.OldText = MvOperations.LkExtract(this.Record, (this.fields + 1) / 2, 1, 1);
+		this.NewText = MvRecords.Value(random, 8);
+		this.Positions = this.pattern.GetPositions(this.fields, random);
+	}
+
+	private int NextPosition()
+	{
+		int position = this.Positions[this.Next];
+		this.Next = (this.Next + 1 == this.Positions.length ? 0 : this.Next + 1);
+		return position;
+	}
+
+	@Benchmark
+	public String ExtractField()
+	{
+		return MvOperations.LkExtract(this.Record, NextPosition());
+	}
+
+	@Benchmark
+	public String ExtractValue()
+	{
+		return MvOperations.LkExtract(this.Record, NextPosition(), this.values);
+	}
+
+	@Benchmark
+	public String ExtractSubvalue()
+	{
+		return MvOperations.LkExtract(this.Record, NextPosition(), this.values, 2);
+	}
+
+	@Benchmark
+	public String ReplaceField()
+	{
+		return MvOperations.LkReplace(this.Record, this.NewValue, NextPosition());
+	}
+
+	@Benchmark
+	public String ReplaceValue()
+	{
+		return MvOperations.LkReplace(this.Record, this.NewValue, NextPosition(), this.values);
+	}
+
+	@Benchmark
+	public String Change()
+	{
+		return MvOperations.LkChange(this.Record, this.OldText, this.NewText);
+	}
+
+	@Benchmark
+	public int DCountFields()
+	{
+		return MvOperations.LkDCount(this.Record, DBMV_Mark.AM_str);
+	}
+
+	@Benchmark
+	public int CountValues()
+	{
+		return MvOperations.LkCount(this.Record, DBMV_Mark.VM_str);
+	}
+}
@@ -0,0 +1,77 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+
+import linkar.functions.DBMV_Mark;
+
+/**
+ * Generator of the dynamic arrays used by the benchmarks. The same arguments and seed always generate the same data.
+ */
+class MvRecords {
+
+	private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .-";
+
+	/**
+	 * Generates a record.
+	 * @param random The generator of the contents.
+	 * @param fields Number of fields (attributes) of the record.
+	 * @param values Number of multivalues of every field.
+	 * @param subvalues Number of subvalues of every multivalue.
+	 * @param valueLength Average length of every subvalue.
+	 * @return The record.
+	 */
+	static String Record(Random random, int fields, int values, int subvalues, int valueLength)
+	{
+		StringBuilder record = new StringBuilder(fields * values * subvalues * (valueLength + 1));
+		for (int f = 1; f <= fields; f++)
+		{
+			if (f > 1)
+				record.append(DBMV_Mark.AM);
+			for (int v = 1; v <= values; v++)
+			{
+				if (v > 1)
+					record.append(DBMV_Mark.VM);
+				for (int s = 1; s <= subvalues; s++)
+				{
+					if (s > 1)
+						record.append(DBMV_Mark.SM);
+					AppendValue(record, random, valueLength);
+				}
+			}
+		}
+		return record.toString();
+	}
+
+	/**
+	 * Generates the names of the dictionaries of a record.
+	 * @param fields Number of fields of the record.
+	 * @return The names DICT1, DICT2... of every field.
+	 */
+	static String[] Dictionaries(int fields)
+	{
+		String[] dictionaries = new String[fields];
+		for (int f = 0; f < fields; f++)
+			dictionaries[f] = "DICT" + (f + 1);
+		return dictionaries;
+	}
+
+	/**
+	 * Generates a value without marks.
+	 * @param random The generator of the contents.
+	 * @param valueLength Average length of the value. The real length is between the half and one and a half times this length.
+	 * @return The value.
+	 */
+	static String Value(Random random, int valueLength)
+	{
+		StringBuilder value = new StringBuilder(valueLength * 2);
+		AppendValue(value, random, valueLength);
+		return value.toString();
+	}
+
+	private static void AppendValue(StringBuilder text, Random random, int valueLength)
+	{
+		int length = (valueLength < 2 ? valueLength : valueLength / 2 + random.nextInt(valueLength + 1));
+		for (int i = 0; i < length; i++)
+			text.append(CHARS.charAt(random.nextInt(CHARS.length())));
+	}
+}
@@ -0,0 +1,109 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+
+import linkar.data.LkItem;
+import linkar.data.LkItems;
+import linkar.functions.ASCII_Chars;
+import linkar.functions.DBMV_Mark;
+import linkar.strings.StringFunctions;
+
+/**
+ * Generator of the MV results of the operations, as returned by the Linkar Server, used by the benchmarks of parsing and composition.
+ * The same arguments and seed always generate the same data.
+ */
+class MvResponses {
+
+	/**
+	 * Generates the result of a Read or Select operation in MV output format.
+	 * @param random The generator of the contents.
+	 * @param records Number of records.
+	 * @param fields Number of fields of every record.
+	 * @param valueLength Average length of every field.
+	 * @param originalRecords Include the ORIGINALRECORD block.
+	 * @param calculated Include the CALCULATED block, with 2 calculated dictionaries.
+	 * @param schemas Include the ROWHEADERS and ROWPROPERTIES blocks of the LkSchemas and LkProperties operations.
+	 * @return The result.
+	 */
+	static String CrudResult(Random random, int records, int fields, int valueLength, boolean originalRecords, boolean calculated, boolean schemas)
+	{
+		StringBuilder header = new StringBuilder("THISLIST");
+		StringBuilder blocks = new StringBuilder();
+		AppendBlock(header, blocks, StringFunctions.TOTAL_RECORDS_KEY, String.valueOf(records));
+		AppendBlock(header, blocks, StringFunctions.RECORD_ID_DICTS_KEY, "ID");
+		AppendBlock(header, blocks, StringFunctions.RECORD_DICTS_KEY, String.join(DBMV_Mark.AM_str, MvRecords.Dictionaries(fields)));
+		if (calculated)
+			AppendBlock(header, blocks, StringFunctions.CALCULATED_DICTS_KEY, "CALC1" + DBMV_Mark.AM_str + "CALC2");
+
+		String[] recordIds = new String[records];
+		String[] contents = new String[records];
+		for (int i = 0; i < records; i++)
+		{
+			recordIds[i] = String.valueOf(i + 1);
+			contents[i] = MvRecords.Record(random, fields, 1, 1, valueLength);
+		}
+		AppendBlock(header, blocks, StringFunctions.RECORD_IDS_KEY, String.join(ASCII_Chars.RS_str, recordIds));
+		AppendBlock(header, blocks, StringFunctions.RECORDS_KEY, String.join(ASCII_Chars.RS_str, contents));
+		if (calculated)
+		{
+			String[] calculateds = new String[records];
+			for (int i = 0; i < records; i++)
+				calculateds[i] = MvRecords.Record(random, 2, 1, 1, valueLength);
+			AppendBlock(header, blocks, StringFunctions.CALCULATED_KEY, String.join(ASCII_Chars.RS_str, calculateds));
+		}
+		if (originalRecords)
+			AppendBlock(header, blocks, StringFunctions.ORIGINAL_RECORDS_KEY, String.join(ASCII_Chars.RS_str, contents));
+		if (schemas)
+		{
+			AppendBlock(header, blocks, StringFunctions.ROWHEADERS_KEY, String.join(DBMV_Mark.AM_str, MvRecords.Dictionaries(fields)));
+			AppendBlock(header, blocks, StringFunctions.ROWPROPERTIES_KEY, String.join(DBMV_Mark.AM_str, MvRecords.Dictionaries(fields)));
+		}
+		AppendBlock(header, blocks, StringFunctions.ERRORS_KEY, "");
+		return header.append(blocks).toString();
+	}
+
+	/**
+	 * Generates the result of a Subroutine operation.
+	 * @param random The generator of the contents.
+	 * @param arguments Number of arguments of the subroutine.
+	 * @param fields Number of fields of every argument.
+	 * @param valueLength Average length of every field.
+	 * @return The result.
+	 */
+	static String SubroutineResult(Random random, int arguments, int fields, int valueLength)
+	{
+		String[] values = new String[arguments];
+		for (int i = 0; i < arguments; i++)
+			values[i] = MvRecords.Record(random, fields, 1, 1, valueLength);
+		StringBuilder header = new StringBuilder("THISLIST");
+		StringBuilder blocks = new StringBuilder();
+		AppendBlock(header, blocks, StringFunctions.ARGUMENTS_KEY, String.join(StringFunctions.DC4_str, values));
+		AppendBlock(header, blocks, StringFunctions.ERRORS_KEY, "");
+		return header.append(blocks).toString();
+	}
+
+	/**
+	 * Generates a list of items with their original records, ready to compose the buffers of the Read, Update, New and Delete operations.
+	 * @param random The generator of the contents.
+	 * @param records Number of items.
+	 * @param fields Number of fields of every record.
+	 * @param valueLength Average length of every field.
+	 * @return The list of items.
+	 */
+	static LkItems Items(Random random, int records, int fields, int valueLength)
+	{
+		LkItems items = new LkItems();
+		for (int i = 0; i < records; i++)
+		{
+			String record = MvRecords.Record(random, fields, 1, 1, valueLength);
+			items.add(new LkItem(String.valueOf(i + 1), record, "", record));
+		}
+		return items;
+	}
+
+	private static void AppendBlock(StringBuilder header, StringBuilder blocks, String tag, String value)
+	{
+		header.append(DBMV_Mark.AM).append(tag);
+		blocks.append(ASCII_Chars.FS_chr).append(value);
+	}
+}
@@ -0,0 +1,17 @@
+package linkar.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary result of the benchmarks that process many records in every invocation: the number of processed records, reported as records
+ * per second. The bytes allocated per record are the gc.alloc.rate.norm of the GC profiler divided by the records parameter.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class RecordCounter {
+
+	/** Processed records. */
+	public long records;
+}
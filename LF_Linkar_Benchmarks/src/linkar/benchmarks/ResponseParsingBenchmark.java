@@ -0,0 +1,135 @@
+package linkar.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import linkar.data.LkDataCRUD;
+import linkar.data.LkDataSchProp;
+import linkar.data.LkDataSubroutine;
+import linkar.strings.StringFunctions;
+
+/**
+ * Benchmarks of the parsing of the MV results: the Extract functions of {@link StringFunctions} and the constructors of {@link LkDataCRUD},
+ * {@link LkDataSchProp} and {@link LkDataSubroutine}, over generated results from 1 to 100000 records, with and without the ORIGINALRECORD
+ * and CALCULATED blocks.
+ * <p>
+ * Example, with the bytes allocated by the GC profiler:
+ * <pre>
+ * java -cp ... linkar.benchmarks.BenchmarkRunner ResponseParsingBenchmark -p records=10000
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+public class ResponseParsingBenchmark {
+
+	/** Number of records of the result. */
+	@Param({ "1", "100", "10000", "100000" })
+	public int records;
+
+	/** Number of fields of every record. */
+	@Param({ "20" })
+	public int fields;
+
+	/** Average length of every field. */
+	@Param({ "10" })
+	public int valueLength;
+
+	/** The result includes the ORIGINALRECORD block. */
+	@Param({ "false", "true" })
+	public boolean originalRecords;
+
+	/** The result includes the CALCULATED block. */
+	@Param({ "false", "true" })
+	public boolean calculated;
+
+	private String CrudResult;
+	private String SchPropResult;
+	private String SubroutineResult;
+
+	@Setup
+	public void Setup()
+	{
+		this.CrudResult = MvResponses.CrudResult(new Random(42), this.records, this.fields, this.valueLength, this.originalRecords, this.calculated, false);
+		this.SchPropResult = MvResponses.CrudResult(new Random(42), this.records, this.fields, this.valueLength, this.originalRecords, this.calculated, true);
+		this.SubroutineResult = MvResponses.SubroutineResult(new Random(42), this.records, this.fields, this.valueLength);
+	}
+
+	@Benchmark
+	public int ExtractTotalRecords(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractTotalRecords(this.CrudResult);
+	}
+
+	@Benchmark
+	public String[] ExtractRecordIds(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractRecordIds(this.CrudResult);
+	}
+
+	@Benchmark
+	public String[] ExtractRecords(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractRecords(this.CrudResult);
+	}
+
+	@Benchmark
+	public String[] ExtractOriginalRecords(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractOriginalRecords(this.CrudResult);
+	}
+
+	@Benchmark
+	public String[] ExtractRecordsCalculated(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractRecordsCalculated(this.CrudResult);
+	}
+
+	@Benchmark
+	public String[] ExtractErrors(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return StringFunctions.ExtractErrors(this.CrudResult);
+	}
+
+	@Benchmark
+	public LkDataCRUD LkDataCRUD(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return new LkDataCRUD(this.CrudResult);
+	}
+
+	@Benchmark
+	public LkDataSchProp LkDataSchProp(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return new LkDataSchProp(this.SchPropResult);
+	}
+
+	@Benchmark
+	public LkDataSubroutine LkDataSubroutine(RecordCounter counter)
+	{
+		counter.records += this.records;
+		return new LkDataSubroutine(this.SubroutineResult);
+	}
+}
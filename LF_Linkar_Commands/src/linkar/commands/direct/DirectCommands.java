@@ -1,11 +1,11 @@
 package linkar.commands.direct;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
-import linkar.Linkar;
 import linkar.commands.*;
+import linkar.functions.AsyncOperations;
+import linkar.functions.OperationExecutor;
 
 /**
  * These functions perform synchronous direct (without establishing permanent session) operations with any kind of output format type.
@@ -35,7 +35,7 @@ public class DirectCommands {
             opCode = (byte)OPERATION_CODE.COMMAND_XML.getnumVal();
         byte byteInputFormat = (byte)DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = (byte)DATAFORMAT_TYPE.MV.getnumVal();
-        String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, sendCommandArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, sendCommandArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -63,13 +63,7 @@ public class DirectCommands {
 	 */
     public static CompletableFuture<String> SendCommandAsync(CredentialOptions credentialOptions, String command, ENVELOPE_FORMAT commandFormat, int receiveTimeout) throws Exception
     { 	
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return SendCommand(credentialOptions,command, commandFormat, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> SendCommand(credentialOptions,command, commandFormat, receiveTimeout));
     }
     
 	/**
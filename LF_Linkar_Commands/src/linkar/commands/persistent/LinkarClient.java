@@ -1,14 +1,14 @@
 package linkar.commands.persistent;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.ConnectionInfo;
 import linkar.CredentialOptions;
-import linkar.Linkar;
 import linkar.commands.ENVELOPE_FORMAT;
 import linkar.commands.DATAFORMAT_TYPE;
 import linkar.commands.OPERATION_CODE;
+import linkar.functions.AsyncOperations;
+import linkar.functions.OperationExecutor;
 
 public class LinkarClient {
     private ConnectionInfo ConnectionInfo;
@@ -71,7 +71,7 @@ public class LinkarClient {
                     receiveTimeout = this.ReceiveTimeout;
             }
             ConnectionInfo connectionInfo = new ConnectionInfo("", "", "", credentialOptions);
-            String loginResult = Linkar.ExecutePersistentOperation(connectionInfo, byteOpCode, loginArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String loginResult = OperationExecutor.ExecutePersistentOperation(connectionInfo, byteOpCode, loginArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
 
             if (!(loginResult == null || loginResult.length() == 0))
             {
@@ -109,13 +109,7 @@ public class LinkarClient {
      */
     public CompletableFuture<Void> LoginAsync(CredentialOptions credentialOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.Login(credentialOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.Login(credentialOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -167,7 +161,7 @@ public class LinkarClient {
             if (this.ReceiveTimeout > 0)
                 receiveTimeout = this.ReceiveTimeout;
         }
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, byteOpCode, logoutArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = OperationExecutor.ExecutePersistentOperation(this.ConnectionInfo, byteOpCode, logoutArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         if (!(result == null || result.length() == 0))
             this.ConnectionInfo = null;
     }
@@ -183,13 +177,7 @@ public class LinkarClient {
      */
     public CompletableFuture<Void> LogoutAsync(String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.Logout(customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.Logout(customVars, receiveTimeout));
     }
     
     /**
@@ -239,7 +227,7 @@ public class LinkarClient {
             opCode = OPERATION_CODE.COMMAND_XML.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = DATAFORMAT_TYPE.MV.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, sendCommandArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = OperationExecutor.ExecutePersistentOperation(this.ConnectionInfo, opCode, sendCommandArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -265,13 +253,7 @@ public class LinkarClient {
      */
     public CompletableFuture<String> SendCommandAsync(String command, ENVELOPE_FORMAT commandFormat, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return SendCommand(command, commandFormat, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> SendCommand(command, commandFormat, receiveTimeout));
     }
     
     /**
@@ -0,0 +1,130 @@
+package linkar.diagnostics;
+
+import java.util.function.Function;
+
+/**
+ * Object that works as an argument in the {@link TrafficRecorder} and defines which operations are captured, how their contents are redacted and how they are written.
+ */
+public class CaptureOptions {
+
+	private double _SampleRate;
+	/**
+	 * Fraction of the operations that are captured, from 0 to 1. Every operation is chosen at random.
+	 * @return value
+	 */
+	public double getSampleRate()
+	{
+		return this._SampleRate;
+	}
+
+	private Function<String, String> _ArgumentsRedactor;
+	/**
+	 * Function that receives the arguments of every captured operation and returns what is written. When it is null, the arguments are written as they are.
+	 * @return value
+	 */
+	public Function<String, String> getArgumentsRedactor()
+	{
+		return this._ArgumentsRedactor;
+	}
+
+	private Function<String, String> _ResultRedactor;
+	/**
+	 * Function that receives the result of every captured operation and returns what is written. When it is null, the results are written as they are.
+	 * @return value
+	 */
+	public Function<String, String> getResultRedactor()
+	{
+		return this._ResultRedactor;
+	}
+
+	private long _MaxBytes;
+	/**
+	 * Maximum number of bytes, before compression, of the operations written by the recorder. The operations beyond the limit are only counted. 0 means no limit.
+	 * @return value
+	 */
+	public long getMaxBytes()
+	{
+		return this._MaxBytes;
+	}
+
+	private boolean _Compress;
+	/**
+	 * Compress the file with gzip. All the captures appended to the same file must use the same value.
+	 * @return value
+	 */
+	public boolean getCompress()
+	{
+		return this._Compress;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CaptureOptions} class.
+	* @param sampleRate				Fraction of the operations that are captured, from 0 to 1.
+	* @param argumentsRedactor		Function that receives the arguments of every captured operation and returns what is written. If null, the arguments are written as they are.
+	* @param resultRedactor			Function that receives the result of every captured operation and returns what is written. If null, the results are written as they are.
+	* @param maxBytes				Maximum number of bytes, before compression, of the operations written by the recorder. 0 means no limit.
+	* @param compress				Compress the file with gzip.
+	*/
+	public CaptureOptions(double sampleRate, Function<String, String> argumentsRedactor, Function<String, String> resultRedactor, long maxBytes, boolean compress)
+	{
+		this._SampleRate = Math.min(Math.max(sampleRate, 0), 1);
+		this._ArgumentsRedactor = argumentsRedactor;
+		this._ResultRedactor = resultRedactor;
+		this._MaxBytes = (maxBytes < 0 ? 0 : maxBytes);
+		this._Compress = compress;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CaptureOptions} class.
+	* @param sampleRate				Fraction of the operations that are captured, from 0 to 1.
+	* @param argumentsRedactor		Function that receives the arguments of every captured operation and returns what is written. If null, the arguments are written as they are.
+	* @param resultRedactor			Function that receives the result of every captured operation and returns what is written. If null, the results are written as they are.
+	* @custom.note 					The omitted arguments with following values:
+	<pre>
+	{@code
+	maxBytes = 0
+	compress = true
+	}
+	</pre>
+	*/
+	public CaptureOptions(double sampleRate, Function<String, String> argumentsRedactor, Function<String, String> resultRedactor)
+	{
+		this(sampleRate, argumentsRedactor, resultRedactor, 0, true);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CaptureOptions} class.
+	* @param sampleRate				Fraction of the operations that are captured, from 0 to 1.
+	* @custom.note 					The omitted arguments with following values:
+	<pre>
+	{@code
+	argumentsRedactor = null
+	resultRedactor = null
+	maxBytes = 0
+	compress = true
+	}
+	</pre>
+	*/
+	public CaptureOptions(double sampleRate)
+	{
+		this(sampleRate, null, null, 0, true);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CaptureOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	sampleRate = 1
+	argumentsRedactor = null
+	resultRedactor = null
+	maxBytes = 0
+	compress = true
+	}
+	</pre>
+	*/
+	public CaptureOptions()
+	{
+		this(1, null, null, 0, true);
+	}
+}
@@ -0,0 +1,125 @@
+package linkar.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-min sketch: estimates the frequency of every key in a fixed amount of memory, never below the real frequency. With a width w and
+ * a depth d, the estimation exceeds the real frequency by more than e/w of the total count with a probability lower than e^-d.
+ * Adding a key does not allocate memory nor take locks.
+ * <p>
+ * The row of every counter is chosen with a 64-bit hash of the characters of the key mixed with a different seed in every row, so the keys
+ * that collide in a row, even with the same String.hashCode, rarely collide in the others.
+ */
+public class CountMinSketch {
+
+	private static final long[] SEEDS = { 0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+		0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L };
+
+	private final int Width;
+	private final int Depth;
+	private final int Mask;
+	private final AtomicLongArray Counters;
+	private final LongAdder Total = new LongAdder();
+
+	/**
+	 * Initializes a new instance of the CountMinSketch class.
+	 * @param width Number of counters of every row. It is rounded up to a power of 2.
+	 * @param depth Number of rows, each one with a different hash function. Between 1 and 8.
+	 */
+	public CountMinSketch(int width, int depth)
+	{
+		int w = 16;
+		while (w < width && w < (1 << 24))
+			w <<= 1;
+		this.Width = w;
+		this.Mask = w - 1;
+		this.Depth = Math.max(1, Math.min(depth, SEEDS.length));
+		this.Counters = new AtomicLongArray(this.Width * this.Depth);
+	}
+
+	/**
+	 * Adds an occurrence of a key.
+	 * @param key The key.
+	 * @return The estimated frequency of the key, including this occurrence.
+	 */
+	public long Add(String key)
+	{
+		long hash = Hash(key);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < this.Depth; row++)
+		{
+			long value = this.Counters.incrementAndGet(GetIndex(hash, row));
+			if (value < estimate)
+				estimate = value;
+		}
+		this.Total.increment();
+		return estimate;
+	}
+
+	/**
+	 * Estimates the frequency of a key.
+	 * @param key The key.
+	 * @return The estimated frequency.
+	 */
+	public long Estimate(String key)
+	{
+		long hash = Hash(key);
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < this.Depth; row++)
+			estimate = Math.min(estimate, this.Counters.get(GetIndex(hash, row)));
+		return estimate;
+	}
+
+	/**
+	 * Number of occurrences added since the creation or the last {@link #Reset}, not affected by {@link #Halve}.
+	 * @return value
+	 */
+	public long getTotal()
+	{
+		return this.Total.sum();
+	}
+
+	/**
+	 * Halves all the counters, so the old occurrences weigh less than the recent ones.
+	 */
+	public void Halve()
+	{
+		for (int i = 0; i < this.Counters.length(); i++)
+			this.Counters.getAndUpdate(i, value -> value >> 1);
+	}
+
+	/**
+	 * Removes all the occurrences.
+	 */
+	public void Reset()
+	{
+		for (int i = 0; i < this.Counters.length(); i++)
+			this.Counters.set(i, 0);
+		this.Total.reset();
+	}
+
+	private int GetIndex(long hash, int row)
+	{
+		// Finalizer of SplitMix64: every bit of the hash and the seed of the row affects the bits of the index.
+		long x = hash ^ SEEDS[row];
+		x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+		x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+		x ^= (x >>> 31);
+		return row * this.Width + (int)(x & this.Mask);
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of the characters of a key.
+	 */
+	private static long Hash(String key)
+	{
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < key.length(); i++)
+		{
+			hash ^= key.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,101 @@
+package linkar.diagnostics;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The K keys with the highest estimated frequency in a {@link CountMinSketch}. Only the keys whose estimation exceeds the lowest one of the top take a lock.
+ */
+class HeavyHitters {
+
+	private final CountMinSketch Sketch;
+	private final int TopK;
+	private final HashMap<String, Long> Top;
+	private volatile long MinEstimate;
+
+	HeavyHitters(int topK, int width, int depth)
+	{
+		this.Sketch = new CountMinSketch(width, depth);
+		this.TopK = Math.max(1, topK);
+		this.Top = new HashMap<String, Long>(this.TopK * 2);
+	}
+
+	void Add(String key)
+	{
+		long estimate = this.Sketch.Add(key);
+		if (estimate <= this.MinEstimate)
+			return;
+		synchronized (this)
+		{
+			if (this.Top.containsKey(key) || this.Top.size() < this.TopK)
+				this.Top.put(key, estimate);
+			else
+			{
+				String minKey = null;
+				long min = Long.MAX_VALUE;
+				for (Map.Entry<String, Long> entry : this.Top.entrySet())
+				{
+					if (entry.getValue() < min)
+					{
+						min = entry.getValue();
+						minKey = entry.getKey();
+					}
+				}
+				if (estimate <= min)
+					return;
+				this.Top.remove(minKey);
+				this.Top.put(key, estimate);
+			}
+			UpdateMinEstimate();
+		}
+	}
+
+	long getTotal()
+	{
+		return this.Sketch.getTotal();
+	}
+
+	synchronized List<Map.Entry<String, Long>> GetTop()
+	{
+		List<Map.Entry<String, Long>> top = new ArrayList<Map.Entry<String, Long>>(this.Top.size());
+		for (Map.Entry<String, Long> entry : this.Top.entrySet())
+			top.add(new AbstractMap.SimpleImmutableEntry<String, Long>(entry));
+		top.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+		return top;
+	}
+
+	void Halve()
+	{
+		// The sketch is halved without the lock, so the keys added meanwhile do not wait for the whole scan.
+		this.Sketch.Halve();
+		synchronized (this)
+		{
+			for (Map.Entry<String, Long> entry : this.Top.entrySet())
+				entry.setValue(entry.getValue() >> 1);
+			UpdateMinEstimate();
+		}
+	}
+
+	synchronized void Reset()
+	{
+		this.Sketch.Reset();
+		this.Top.clear();
+		this.MinEstimate = 0;
+	}
+
+	private void UpdateMinEstimate()
+	{
+		if (this.Top.size() < this.TopK)
+		{
+			this.MinEstimate = 0;
+			return;
+		}
+		long min = Long.MAX_VALUE;
+		for (Long value : this.Top.values())
+			min = Math.min(min, value);
+		this.MinEstimate = min;
+	}
+}
@@ -0,0 +1,45 @@
+package linkar.diagnostics;
+
+/**
+ * File or record among the most used ones, obtained from a {@link HotKeyTracker}.
+ */
+public class HotKey {
+
+	private final String File;
+	private final String RecordId;
+	private final long Estimate;
+
+	HotKey(String file, String recordId, long estimate)
+	{
+		this.File = file;
+		this.RecordId = recordId;
+		this.Estimate = estimate;
+	}
+
+	/**
+	 * The file.
+	 * @return value
+	 */
+	public String getFile()
+	{
+		return this.File;
+	}
+
+	/**
+	 * The record id, or empty for the hot files.
+	 * @return value
+	 */
+	public String getRecordId()
+	{
+		return this.RecordId;
+	}
+
+	/**
+	 * Estimated number of operations of the file or record, never below the real number.
+	 * @return value
+	 */
+	public long getEstimate()
+	{
+		return this.Estimate;
+	}
+}
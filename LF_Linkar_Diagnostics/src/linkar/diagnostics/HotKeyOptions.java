@@ -0,0 +1,96 @@
+package linkar.diagnostics;
+
+/**
+ * Object that works as an argument in the {@link HotKeyTracker} and defines how many hot keys are tracked and the precision and aging of their frequencies.
+ */
+public class HotKeyOptions {
+
+	private int _TopK;
+	/**
+	 * Number of hot files and of hot records tracked.
+	 * @return value
+	 */
+	public int getTopK()
+	{
+		return this._TopK;
+	}
+
+	private int _Width;
+	/**
+	 * Number of counters of every row of the count-min sketches. Higher values estimate the frequencies with more precision and use more memory.
+	 * @return value
+	 */
+	public int getWidth()
+	{
+		return this._Width;
+	}
+
+	private int _Depth;
+	/**
+	 * Number of rows of the count-min sketches, between 1 and 8.
+	 * @return value
+	 */
+	public int getDepth()
+	{
+		return this._Depth;
+	}
+
+	private long _DecayInterval;
+	/**
+	 * Time in milliseconds after which all the frequencies are halved, so the tracker follows the changes of the traffic. 0 means never.
+	 * @return value
+	 */
+	public long getDecayInterval()
+	{
+		return this._DecayInterval;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HotKeyOptions} class.
+	* @param topK			Number of hot files and of hot records tracked.
+	* @param width			Number of counters of every row of the count-min sketches. It is rounded up to a power of 2.
+	* @param depth			Number of rows of the count-min sketches, between 1 and 8.
+	* @param decayInterval	Time in milliseconds after which all the frequencies are halved. 0 means never.
+	*/
+	public HotKeyOptions(int topK, int width, int depth, long decayInterval)
+	{
+		this._TopK = (topK < 1 ? 1 : topK);
+		this._Width = (width < 16 ? 16 : width);
+		this._Depth = Math.max(1, Math.min(depth, 8));
+		this._DecayInterval = (decayInterval < 0 ? 0 : decayInterval);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HotKeyOptions} class.
+	* @param topK			Number of hot files and of hot records tracked.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	width = 4096
+	depth = 4
+	decayInterval = 60000
+	}
+	</pre>
+	*/
+	public HotKeyOptions(int topK)
+	{
+		this(topK, 4096, 4, 60000);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HotKeyOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	topK = 20
+	width = 4096
+	depth = 4
+	decayInterval = 60000
+	}
+	</pre>
+	*/
+	public HotKeyOptions()
+	{
+		this(20, 4096, 4, 60000);
+	}
+}
@@ -0,0 +1,260 @@
+package linkar.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import linkar.functions.ASCII_Chars;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationArguments;
+import linkar.functions.OperationExecutor;
+import linkar.functions.OperationInfo;
+import linkar.functions.OperationInterceptor;
+
+/**
+ * Detector of the files and records that dominate the traffic, fed by the file names and record ids of the Read, Update, UpdatePartial and
+ * Delete operations. The frequencies are estimated with count-min sketches, so the memory used is fixed, and only the top keys are kept.
+ * The frequencies are halved every decay interval by a background task, never in the threads of the operations.
+ * <p>
+ * The top keys can be read directly, exported as a JMX MBean with {@link #RegisterMBean}, or obtained in the text format of Prometheus
+ * with {@link #ToPrometheusText}.
+ * <p>
+ * Example:
+ * <pre>
+ * HotKeyTracker tracker = HotKeyTracker.Install(new HotKeyOptions(50));
+ * tracker.RegisterMBean("linkar");
+ * </pre>
+ */
+public class HotKeyTracker implements OperationInterceptor, HotKeyTrackerMXBean {
+
+	private final HotKeyOptions Options;
+	private final HeavyHitters Files;
+	private final HeavyHitters Records;
+	private volatile MBeanServer MBeanServer;
+	private volatile ObjectName Name;
+
+	/**
+	 * Initializes a new instance of the HotKeyTracker class. It does not track anything until it is registered with {@link OperationExecutor#AddInterceptor},
+	 * or installed with {@link #Install}.
+	 * @param hotKeyOptions Object that defines how many hot keys are tracked and the precision and aging of their frequencies.
+	 */
+	public HotKeyTracker(HotKeyOptions hotKeyOptions)
+	{
+		this.Options = (hotKeyOptions == null ? new HotKeyOptions() : hotKeyOptions);
+		this.Files = new HeavyHitters(this.Options.getTopK(), this.Options.getWidth(), this.Options.getDepth());
+		this.Records = new HeavyHitters(this.Options.getTopK(), this.Options.getWidth(), this.Options.getDepth());
+		long decayInterval = this.Options.getDecayInterval();
+		if (decayInterval > 0)
+		{
+			// The task only holds a weak reference, so a tracker that is no longer used can be collected. Throwing stops its executions.
+			WeakReference<HotKeyTracker> reference = new WeakReference<HotKeyTracker>(this);
+			DecayScheduler.INSTANCE.scheduleWithFixedDelay(() -> {
+				HotKeyTracker tracker = reference.get();
+				if (tracker == null)
+					throw new CancellationException();
+				tracker.Decay();
+			}, decayInterval, decayInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Installs a new HotKeyTracker for all the operations.
+	 * @param hotKeyOptions Object that defines how many hot keys are tracked and the precision and aging of their frequencies.
+	 * @return The installed tracker.
+	 */
+	public static HotKeyTracker Install(HotKeyOptions hotKeyOptions)
+	{
+		HotKeyTracker tracker = new HotKeyTracker(hotKeyOptions);
+		OperationExecutor.AddInterceptor(tracker);
+		return tracker;
+	}
+
+	/**
+	 * Stops tracking the operations. The tracked keys are kept.
+	 */
+	public void Uninstall()
+	{
+		OperationExecutor.RemoveInterceptor(this);
+	}
+
+	/**
+	 * Adds the occurrence of a file and, optionally, of some records of the file.
+	 * @param file The file.
+	 * @param recordIds The record ids separated by the RS char. It can be empty or null.
+	 */
+	public void Add(String file, String recordIds)
+	{
+		if (recordIds == null)
+			recordIds = "";
+		this.Files.Add(file);
+		int start = 0;
+		while (start < recordIds.length())
+		{
+			int end = recordIds.indexOf(ASCII_Chars.RS_chr, start);
+			if (end < 0)
+				end = recordIds.length();
+			if (end > start)
+				this.Records.Add(file + ASCII_Chars.US_chr + recordIds.substring(start, end));
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * The most used files, from the most used one.
+	 * @return value
+	 */
+	@Override
+	public List<HotKey> getTopFiles()
+	{
+		List<HotKey> top = new ArrayList<HotKey>();
+		for (Map.Entry<String, Long> entry : this.Files.GetTop())
+			top.add(new HotKey(entry.getKey(), "", entry.getValue()));
+		return top;
+	}
+
+	/**
+	 * The most used records, from the most used one.
+	 * @return value
+	 */
+	@Override
+	public List<HotKey> getTopRecords()
+	{
+		List<HotKey> top = new ArrayList<HotKey>();
+		for (Map.Entry<String, Long> entry : this.Records.GetTop())
+		{
+			String key = entry.getKey();
+			int separator = key.indexOf(ASCII_Chars.US_chr);
+			top.add(new HotKey(key.substring(0, separator), key.substring(separator + 1), entry.getValue()));
+		}
+		return top;
+	}
+
+	/**
+	 * Number of operations tracked since the creation or the last {@link #Reset}.
+	 * @return value
+	 */
+	@Override
+	public long getTrackedOperations()
+	{
+		return this.Files.getTotal();
+	}
+
+	/**
+	 * Number of record ids tracked since the creation or the last {@link #Reset}.
+	 * @return value
+	 */
+	@Override
+	public long getTrackedRecords()
+	{
+		return this.Records.getTotal();
+	}
+
+	/**
+	 * Removes all the tracked keys.
+	 */
+	public void Reset()
+	{
+		this.Files.Reset();
+		this.Records.Reset();
+	}
+
+	/**
+	 * Exports the tracker as a JMX MBean in the platform MBean server, with the name domain:type=HotKeys.
+	 * @param domain The domain of the name of the MBean.
+	 * @throws JMException
+	 */
+	public synchronized void RegisterMBean(String domain) throws JMException
+	{
+		UnregisterMBean();
+		ObjectName name = new ObjectName(domain + ":type=HotKeys");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		server.registerMBean(this, name);
+		this.MBeanServer = server;
+		this.Name = name;
+	}
+
+	/**
+	 * Removes the MBean exported by {@link #RegisterMBean}.
+	 * @throws JMException
+	 */
+	public synchronized void UnregisterMBean() throws JMException
+	{
+		MBeanServer server = this.MBeanServer;
+		if (server == null)
+			return;
+		this.MBeanServer = null;
+		if (server.isRegistered(this.Name))
+			server.unregisterMBean(this.Name);
+	}
+
+	/**
+	 * Obtains a snapshot of the top keys in the text format of Prometheus: the gauges linkar_hot_file_operations, with the label file,
+	 * and linkar_hot_record_operations, with the labels file and record_id.
+	 * @return The snapshot.
+	 */
+	public String ToPrometheusText()
+	{
+		StringBuilder text = new StringBuilder();
+		text.append("# HELP linkar_hot_file_operations Estimated operations of the most used files.\n");
+		text.append("# TYPE linkar_hot_file_operations gauge\n");
+		for (HotKey hotKey : getTopFiles())
+		{
+			text.append("linkar_hot_file_operations{file=\"");
+			MetricsRegistry.AppendLabelValue(text, hotKey.getFile());
+			text.append("\"} ").append(hotKey.getEstimate()).append('\n');
+		}
+		text.append("# HELP linkar_hot_record_operations Estimated operations of the most used records.\n");
+		text.append("# TYPE linkar_hot_record_operations gauge\n");
+		for (HotKey hotKey : getTopRecords())
+		{
+			text.append("linkar_hot_record_operations{file=\"");
+			MetricsRegistry.AppendLabelValue(text, hotKey.getFile());
+			text.append("\",record_id=\"");
+			MetricsRegistry.AppendLabelValue(text, hotKey.getRecordId());
+			text.append("\"} ").append(hotKey.getEstimate()).append('\n');
+		}
+		return text.toString();
+	}
+
+	@Override
+	public void Before(OperationInfo operation)
+	{
+		byte operationCode = operation.getOperationCode();
+		if (operationCode != OPERATION_CODE.READ.getnumVal() && operationCode != OPERATION_CODE.UPDATE.getnumVal()
+			&& operationCode != OPERATION_CODE.UPDATEPARTIAL.getnumVal() && operationCode != OPERATION_CODE.DELETE.getnumVal())
+			return;
+		String file = operation.getFilename();
+		if (file.isEmpty())
+			return;
+		Add(file, OperationArguments.GetRecordIds(operationCode, operation.getOperationArgs()));
+	}
+
+	@Override
+	public void After(OperationInfo operation)
+	{ }
+
+	private void Decay()
+	{
+		this.Files.Halve();
+		this.Records.Halve();
+	}
+
+	private static final class DecayScheduler
+	{
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "linkar-hot-keys");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
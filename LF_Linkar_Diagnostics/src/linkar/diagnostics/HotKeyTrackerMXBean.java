@@ -0,0 +1,17 @@
+package linkar.diagnostics;
+
+import java.util.List;
+
+/**
+ * Management interface of the {@link HotKeyTracker}, exported through JMX.
+ */
+public interface HotKeyTrackerMXBean {
+
+	List<HotKey> getTopFiles();
+
+	List<HotKey> getTopRecords();
+
+	long getTrackedOperations();
+
+	long getTrackedRecords();
+}
@@ -0,0 +1,133 @@
+package linkar.diagnostics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with logarithmic buckets, each one divided in 16 linear sub-buckets, so every value is recorded with a relative
+ * error lower than 6.25%, from 1 microsecond to several days. Recording a value does not allocate memory nor take locks.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray Counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder Count = new LongAdder();
+	private final LongAdder Sum = new LongAdder();
+	private final AtomicLong Max = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 * @param nanos The latency in nanoseconds.
+	 */
+	public void Record(long nanos)
+	{
+		long micros = (nanos < 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos));
+		this.Counts.incrementAndGet(GetIndex(micros));
+		this.Count.increment();
+		this.Sum.add(nanos < 0 ? 0 : nanos);
+		long max = this.Max.get();
+		while (micros > max && !this.Max.compareAndSet(max, micros))
+			max = this.Max.get();
+	}
+
+	/**
+	 * Number of recorded latencies.
+	 * @return value
+	 */
+	public long getCount()
+	{
+		return this.Count.sum();
+	}
+
+	/**
+	 * Sum of the recorded latencies in nanoseconds.
+	 * @return value
+	 */
+	public long getSum()
+	{
+		return this.Sum.sum();
+	}
+
+	/**
+	 * Highest recorded latency in milliseconds.
+	 * @return value
+	 */
+	public double getMaxMillis()
+	{
+		return this.Max.get() / 1000.0;
+	}
+
+	/**
+	 * Mean of the recorded latencies in milliseconds.
+	 * @return value
+	 */
+	public double getMeanMillis()
+	{
+		long count = this.Count.sum();
+		return (count == 0 ? 0 : this.Sum.sum() / 1000000.0 / count);
+	}
+
+	/**
+	 * Obtains the latency below which are a percentage of the recorded latencies.
+	 * @param percentile The percentage, from 0 to 100.
+	 * @return The latency in milliseconds, or 0 if no latency has been recorded.
+	 */
+	public double GetPercentile(double percentile)
+	{
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			counts[i] = this.Counts.get(i);
+			total += counts[i];
+		}
+		if (total == 0)
+			return 0;
+		long rank = (long)Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * total);
+		if (rank < 1)
+			rank = 1;
+		long accumulated = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			accumulated += counts[i];
+			if (accumulated >= rank)
+				return Math.min(GetHighestValue(i), this.Max.get()) / 1000.0;
+		}
+		return getMaxMillis();
+	}
+
+	/**
+	 * Removes all the recorded latencies.
+	 */
+	public void Reset()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+			this.Counts.set(i, 0);
+		this.Count.reset();
+		this.Sum.reset();
+		this.Max.set(0);
+	}
+
+	static int GetIndex(long micros)
+	{
+		if (micros < SUB_BUCKETS)
+			return (int)micros;
+		int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+		int subBucket = (int)(micros >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long GetHighestValue(int index)
+	{
+		if (index < SUB_BUCKETS)
+			return index;
+		int shift = index / SUB_BUCKETS - 1;
+		long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
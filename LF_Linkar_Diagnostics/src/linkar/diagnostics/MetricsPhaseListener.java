@@ -0,0 +1,71 @@
+package linkar.diagnostics;
+
+import linkar.functions.OPERATION_PHASE;
+import linkar.functions.OperationPhases;
+import linkar.functions.PhaseListener;
+
+/**
+ * Listener that records in a {@link MetricsRegistry} the duration and size of every phase of the work of the client, so the time spent in the
+ * client (composition of arguments and buffers, parsing of results) can be compared with the time waiting for the server.
+ * <p>
+ * Example:
+ * <pre>
+ * MetricsRegistry registry = new MetricsRegistry();
+ * MetricsTransport.Install(registry);
+ * MetricsPhaseListener.Install(registry);
+ * </pre>
+ */
+public class MetricsPhaseListener implements PhaseListener {
+
+	private final MetricsRegistry Registry;
+
+	/**
+	 * Initializes a new instance of the MetricsPhaseListener class.
+	 * @param registry The registry where the metrics are recorded.
+	 */
+	public MetricsPhaseListener(MetricsRegistry registry)
+	{
+		this.Registry = (registry == null ? new MetricsRegistry() : registry);
+	}
+
+	/**
+	 * Installs a new MetricsPhaseListener for the phases of all the operations.
+	 * @param registry The registry where the metrics are recorded.
+	 * @return The installed listener.
+	 */
+	public static MetricsPhaseListener Install(MetricsRegistry registry)
+	{
+		MetricsPhaseListener listener = new MetricsPhaseListener(registry);
+		OperationPhases.AddListener(listener);
+		return listener;
+	}
+
+	/**
+	 * Stops recording the phases.
+	 */
+	public void Uninstall()
+	{
+		OperationPhases.RemoveListener(this);
+	}
+
+	/**
+	 * The registry where the metrics are recorded.
+	 * @return value
+	 */
+	public MetricsRegistry getRegistry()
+	{
+		return this.Registry;
+	}
+
+	@Override
+	public Object Begin(OPERATION_PHASE phase)
+	{
+		return null;
+	}
+
+	@Override
+	public void End(OPERATION_PHASE phase, Object state, long nanos, int chars)
+	{
+		this.Registry.GetPhase(phase).Record(nanos, chars);
+	}
+}
@@ -0,0 +1,290 @@
+package linkar.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OPERATION_PHASE;
+
+/**
+ * Registry of the metrics of the operations, by operation code, file and target (Linkar Server and EntryPoint), filled by the {@link MetricsTransport},
+ * and of the phases of the work of the client, filled by the {@link MetricsPhaseListener}.
+ * <p>
+ * The metrics can be read directly, exported as JMX MBeans with {@link #RegisterMBeans}, or obtained as a snapshot in the text format of Prometheus
+ * with {@link #ToPrometheusText}. To limit the memory used, once the maximum number of series has been reached, the operations of new files
+ * are registered with the file name "_other".
+ * <p>
+ * Example:
+ * <pre>
+ * MetricsRegistry registry = new MetricsRegistry();
+ * MetricsTransport.Install(registry);
+ * registry.RegisterMBeans("linkar");
+ * String snapshot = registry.ToPrometheusText();
+ * </pre>
+ */
+public class MetricsRegistry {
+
+	private static final String OTHER_FILE = "_other";
+	private static final double[] QUANTILES = { 0.5, 0.9, 0.95, 0.99 };
+	private static final String[] OPERATION_NAMES = new String[256];
+	static
+	{
+		for (OPERATION_CODE operationCode : OPERATION_CODE.values())
+			OPERATION_NAMES[operationCode.getnumVal() & 0xFF] = operationCode.name();
+	}
+
+	private final int MaxSeries;
+	private final ConcurrentHashMap<String, OperationMetrics> Series = new ConcurrentHashMap<String, OperationMetrics>();
+	private final EnumMap<OPERATION_PHASE, PhaseMetrics> Phases = new EnumMap<OPERATION_PHASE, PhaseMetrics>(OPERATION_PHASE.class);
+	private volatile MBeanServer MBeanServer;
+	private volatile String Domain;
+
+	/**
+	 * Initializes a new instance of the MetricsRegistry class.
+	 * @param maxSeries Maximum number of different combinations of operation code, file and target.
+	 */
+	public MetricsRegistry(int maxSeries)
+	{
+		this.MaxSeries = (maxSeries < 1 ? 1 : maxSeries);
+		for (OPERATION_PHASE phase : OPERATION_PHASE.values())
+			this.Phases.put(phase, new PhaseMetrics(phase));
+	}
+
+	/**
+	 * Initializes a new instance of the MetricsRegistry class, with up to 1000 series.
+	 */
+	public MetricsRegistry()
+	{
+		this(1000);
+	}
+
+	/**
+	 * Obtains the metrics of an operation code, file and target, creating them the first time.
+	 * @param operationCode The code of the operation.
+	 * @param file The file of the operation.
+	 * @param target The Linkar Server and EntryPoint of the operation.
+	 * @return The metrics.
+	 */
+	public OperationMetrics Get(byte operationCode, String file, String target)
+	{
+		String key = operationCode + "\u001F" + file + "\u001F" + target;
+		OperationMetrics metrics = this.Series.get(key);
+		if (metrics != null)
+			return metrics;
+		if (this.Series.size() >= this.MaxSeries && !OTHER_FILE.equals(file))
+			return Get(operationCode, OTHER_FILE, target);
+		return this.Series.computeIfAbsent(key, k -> {
+			OperationMetrics created = new OperationMetrics(GetOperationName(operationCode), file, target);
+			Register(created);
+			return created;
+		});
+	}
+
+	/**
+	 * The metrics of all the series registered until now.
+	 * @return value
+	 */
+	public List<OperationMetrics> getMetrics()
+	{
+		return new ArrayList<OperationMetrics>(this.Series.values());
+	}
+
+	/**
+	 * Obtains the metrics of a phase of the work of the client.
+	 * @param phase The phase.
+	 * @return The metrics.
+	 */
+	public PhaseMetrics GetPhase(OPERATION_PHASE phase)
+	{
+		return this.Phases.get(phase);
+	}
+
+	/**
+	 * The metrics of all the phases of the work of the client.
+	 * @return value
+	 */
+	public List<PhaseMetrics> getPhaseMetrics()
+	{
+		return new ArrayList<PhaseMetrics>(this.Phases.values());
+	}
+
+	/**
+	 * Exports the metrics of every series as a JMX MBean in the platform MBean server, with the name
+	 * domain:type=Operation,operation=...,file=...,target=..., and the metrics of every phase with the name domain:type=Phase,phase=...
+	 * The series created later are exported too.
+	 * @param domain The domain of the names of the MBeans.
+	 * @throws JMException
+	 */
+	public synchronized void RegisterMBeans(String domain) throws JMException
+	{
+		UnregisterMBeans();
+		this.Domain = domain;
+		this.MBeanServer = ManagementFactory.getPlatformMBeanServer();
+		for (OperationMetrics metrics : this.Series.values())
+			this.MBeanServer.registerMBean(metrics, GetObjectName(domain, metrics));
+		for (PhaseMetrics metrics : this.Phases.values())
+			this.MBeanServer.registerMBean(metrics, GetObjectName(domain, metrics));
+	}
+
+	/**
+	 * Removes the MBeans exported by {@link #RegisterMBeans}.
+	 * @throws JMException
+	 */
+	public synchronized void UnregisterMBeans() throws JMException
+	{
+		MBeanServer server = this.MBeanServer;
+		if (server == null)
+			return;
+		this.MBeanServer = null;
+		for (OperationMetrics metrics : this.Series.values())
+		{
+			ObjectName name = GetObjectName(this.Domain, metrics);
+			if (server.isRegistered(name))
+				server.unregisterMBean(name);
+		}
+		for (PhaseMetrics metrics : this.Phases.values())
+		{
+			ObjectName name = GetObjectName(this.Domain, metrics);
+			if (server.isRegistered(name))
+				server.unregisterMBean(name);
+		}
+	}
+
+	/**
+	 * Obtains a snapshot of the metrics in the text format of Prometheus: the counters linkar_operations_total, linkar_operation_errors_total,
+	 * linkar_operation_request_chars_total and linkar_operation_response_chars_total, and the summary linkar_operation_duration_seconds,
+	 * with the labels operation, file and target; and the counter linkar_phase_chars_total and the summary linkar_phase_duration_seconds,
+	 * with the label phase.
+	 * @return The snapshot.
+	 */
+	public String ToPrometheusText()
+	{
+		List<OperationMetrics> series = getMetrics();
+		StringBuilder text = new StringBuilder();
+		AppendHeader(text, "linkar_operations_total", "counter", "Operations executed.");
+		for (OperationMetrics metrics : series)
+			AppendSample(text, "linkar_operations_total", metrics, null, metrics.getCount());
+		AppendHeader(text, "linkar_operation_errors_total", "counter", "Operations that have thrown an exception.");
+		for (OperationMetrics metrics : series)
+			AppendSample(text, "linkar_operation_errors_total", metrics, null, metrics.getErrors());
+		AppendHeader(text, "linkar_operation_request_chars_total", "counter", "Characters sent in the arguments of the operations.");
+		for (OperationMetrics metrics : series)
+			AppendSample(text, "linkar_operation_request_chars_total", metrics, null, metrics.getRequestChars());
+		AppendHeader(text, "linkar_operation_response_chars_total", "counter", "Characters received in the results of the operations.");
+		for (OperationMetrics metrics : series)
+			AppendSample(text, "linkar_operation_response_chars_total", metrics, null, metrics.getResponseChars());
+		AppendHeader(text, "linkar_operation_duration_seconds", "summary", "Latency of the operations.");
+		for (OperationMetrics metrics : series)
+		{
+			LatencyHistogram latency = metrics.getLatency();
+			for (double quantile : QUANTILES)
+				AppendSample(text, "linkar_operation_duration_seconds", metrics, Double.toString(quantile), latency.GetPercentile(quantile * 100) / 1000);
+			AppendSample(text, "linkar_operation_duration_seconds_sum", metrics, null, latency.getSum() / 1e9);
+			AppendSample(text, "linkar_operation_duration_seconds_count", metrics, null, latency.getCount());
+		}
+		AppendHeader(text, "linkar_phase_chars_total", "counter", "Characters composed, received or parsed in the phases of the client.");
+		for (PhaseMetrics metrics : this.Phases.values())
+			AppendPhaseSample(text, "linkar_phase_chars_total", metrics, null, metrics.getChars());
+		AppendHeader(text, "linkar_phase_duration_seconds", "summary", "Duration of the phases of the client.");
+		for (PhaseMetrics metrics : this.Phases.values())
+		{
+			LatencyHistogram latency = metrics.getLatency();
+			for (double quantile : QUANTILES)
+				AppendPhaseSample(text, "linkar_phase_duration_seconds", metrics, Double.toString(quantile), latency.GetPercentile(quantile * 100) / 1000);
+			AppendPhaseSample(text, "linkar_phase_duration_seconds_sum", metrics, null, latency.getSum() / 1e9);
+			AppendPhaseSample(text, "linkar_phase_duration_seconds_count", metrics, null, latency.getCount());
+		}
+		return text.toString();
+	}
+
+	private void Register(OperationMetrics metrics)
+	{
+		MBeanServer server = this.MBeanServer;
+		if (server == null)
+			return;
+		try
+		{
+			server.registerMBean(metrics, GetObjectName(this.Domain, metrics));
+		}
+		catch (JMException e)
+		{
+			// The metrics are still recorded and exported as text, although they are not visible through JMX.
+		}
+	}
+
+	private static ObjectName GetObjectName(String domain, OperationMetrics metrics) throws JMException
+	{
+		return new ObjectName(domain + ":type=Operation,operation=" + metrics.getOperation() + ",file=" + ObjectName.quote(metrics.getFile())
+			+ ",target=" + ObjectName.quote(metrics.getTarget()));
+	}
+
+	private static ObjectName GetObjectName(String domain, PhaseMetrics metrics) throws JMException
+	{
+		return new ObjectName(domain + ":type=Phase,phase=" + metrics.getPhase());
+	}
+
+	private static String GetOperationName(byte operationCode)
+	{
+		String name = OPERATION_NAMES[operationCode & 0xFF];
+		return (name == null ? "OPERATION_" + (operationCode & 0xFF) : name);
+	}
+
+	private static void AppendHeader(StringBuilder text, String name, String type, String help)
+	{
+		text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	private static void AppendSample(StringBuilder text, String name, OperationMetrics metrics, String quantile, double value)
+	{
+		text.append(name).append("{operation=\"").append(metrics.getOperation()).append("\",file=\"");
+		AppendLabelValue(text, metrics.getFile());
+		text.append("\",target=\"");
+		AppendLabelValue(text, metrics.getTarget());
+		text.append('"');
+		if (quantile != null)
+			text.append(",quantile=\"").append(quantile).append('"');
+		text.append("} ");
+		AppendValue(text, value);
+	}
+
+	private static void AppendPhaseSample(StringBuilder text, String name, PhaseMetrics metrics, String quantile, double value)
+	{
+		text.append(name).append("{phase=\"").append(metrics.getPhase()).append('"');
+		if (quantile != null)
+			text.append(",quantile=\"").append(quantile).append('"');
+		text.append("} ");
+		AppendValue(text, value);
+	}
+
+	private static void AppendValue(StringBuilder text, double value)
+	{
+		if (value == Math.rint(value) && Math.abs(value) < 1e15)
+			text.append((long)value);
+		else
+			text.append(String.format(Locale.ROOT, "%.6g", value));
+		text.append('\n');
+	}
+
+	static void AppendLabelValue(StringBuilder text, String value)
+	{
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			if (c == '\\' || c == '"')
+				text.append('\\').append(c);
+			else if (c == '\n')
+				text.append("\\n");
+			else
+				text.append(c);
+		}
+	}
+}
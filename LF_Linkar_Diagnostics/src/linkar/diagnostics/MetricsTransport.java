@@ -0,0 +1,120 @@
+package linkar.diagnostics;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationArguments;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that records in a {@link MetricsRegistry} the count, errors, latency and sizes of every direct and persistent operation,
+ * by operation code, file and target (Linkar Server and EntryPoint).
+ * <p>
+ * Example:
+ * <pre>
+ * MetricsRegistry registry = new MetricsRegistry();
+ * MetricsTransport transport = MetricsTransport.Install(registry);
+ * </pre>
+ */
+public class MetricsTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final MetricsRegistry Registry;
+
+	/**
+	 * Initializes a new instance of the MetricsTransport class.
+	 * @param registry The registry where the metrics are recorded.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public MetricsTransport(MetricsRegistry registry, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.Registry = (registry == null ? new MetricsRegistry() : registry);
+	}
+
+	/**
+	 * Initializes a new instance of the MetricsTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param registry The registry where the metrics are recorded.
+	 */
+	public MetricsTransport(MetricsRegistry registry)
+	{
+		this(registry, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new MetricsTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param registry The registry where the metrics are recorded.
+	 * @return The installed transport.
+	 */
+	public static MetricsTransport Install(MetricsRegistry registry)
+	{
+		MetricsTransport transport = new MetricsTransport(registry);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * The registry where the metrics are recorded.
+	 * @return value
+	 */
+	public MetricsRegistry getRegistry()
+	{
+		return this.Registry;
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		long start = System.nanoTime();
+		String result = null;
+		boolean error = true;
+		try
+		{
+			result = this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			error = false;
+			return result;
+		}
+		finally
+		{
+			Record(credentialOptions, operationCode, operationArgs, result, error, start);
+		}
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		long start = System.nanoTime();
+		String result = null;
+		boolean error = true;
+		try
+		{
+			result = this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			error = false;
+			return result;
+		}
+		finally
+		{
+			Record(connectionInfo == null ? null : connectionInfo.getCredentialOptions(), operationCode, operationArgs, result, error, start);
+		}
+	}
+
+	private void Record(CredentialOptions credentialOptions, byte operationCode, String operationArgs, String result, boolean error, long start)
+	{
+		long nanos = System.nanoTime() - start;
+		String target = (credentialOptions == null ? "" : CredentialOptionsKey.GetEntryPoint(credentialOptions));
+		String file = OperationArguments.GetFilename(operationCode, operationArgs);
+		this.Registry.Get(operationCode, file, target).Record(nanos, (operationArgs == null ? 0 : operationArgs.length()), (result == null ? 0 : result.length()), error);
+	}
+}
@@ -0,0 +1,151 @@
+package linkar.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the operations with the same operation code, file and target (Linkar Server and EntryPoint) registered in a {@link MetricsRegistry}.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+	private final String Operation;
+	private final String File;
+	private final String Target;
+	private final LongAdder Count = new LongAdder();
+	private final LongAdder Errors = new LongAdder();
+	private final LongAdder RequestChars = new LongAdder();
+	private final LongAdder ResponseChars = new LongAdder();
+	private final LatencyHistogram Latency = new LatencyHistogram();
+
+	OperationMetrics(String operation, String file, String target)
+	{
+		this.Operation = operation;
+		this.File = file;
+		this.Target = target;
+	}
+
+	/**
+	 * Records an executed operation.
+	 * @param nanos The latency of the operation in nanoseconds.
+	 * @param requestChars The size of the arguments of the operation in characters.
+	 * @param responseChars The size of the result of the operation in characters.
+	 * @param error The operation has thrown an exception.
+	 */
+	public void Record(long nanos, int requestChars, int responseChars, boolean error)
+	{
+		this.Count.increment();
+		if (error)
+			this.Errors.increment();
+		this.RequestChars.add(requestChars);
+		this.ResponseChars.add(responseChars);
+		this.Latency.Record(nanos);
+	}
+
+	/**
+	 * Name of the operation code.
+	 * @return value
+	 */
+	@Override
+	public String getOperation()
+	{
+		return this.Operation;
+	}
+
+	/**
+	 * File of the operations, the subroutine name in the Subroutine operations, or empty.
+	 * @return value
+	 */
+	@Override
+	public String getFile()
+	{
+		return this.File;
+	}
+
+	/**
+	 * Linkar Server and EntryPoint of the operations.
+	 * @return value
+	 */
+	@Override
+	public String getTarget()
+	{
+		return this.Target;
+	}
+
+	/**
+	 * Number of executed operations.
+	 * @return value
+	 */
+	@Override
+	public long getCount()
+	{
+		return this.Count.sum();
+	}
+
+	/**
+	 * Number of operations that have thrown an exception. The errors returned by the database inside the result are not included.
+	 * @return value
+	 */
+	@Override
+	public long getErrors()
+	{
+		return this.Errors.sum();
+	}
+
+	/**
+	 * Total size of the arguments of the operations in characters.
+	 * @return value
+	 */
+	@Override
+	public long getRequestChars()
+	{
+		return this.RequestChars.sum();
+	}
+
+	/**
+	 * Total size of the results of the operations in characters.
+	 * @return value
+	 */
+	@Override
+	public long getResponseChars()
+	{
+		return this.ResponseChars.sum();
+	}
+
+	/**
+	 * Histogram of the latencies of the operations.
+	 * @return value
+	 */
+	public LatencyHistogram getLatency()
+	{
+		return this.Latency;
+	}
+
+	@Override
+	public double getMeanMillis()
+	{
+		return this.Latency.getMeanMillis();
+	}
+
+	@Override
+	public double getP50Millis()
+	{
+		return this.Latency.GetPercentile(50);
+	}
+
+	@Override
+	public double getP95Millis()
+	{
+		return this.Latency.GetPercentile(95);
+	}
+
+	@Override
+	public double getP99Millis()
+	{
+		return this.Latency.GetPercentile(99);
+	}
+
+	@Override
+	public double getMaxMillis()
+	{
+		return this.Latency.getMaxMillis();
+	}
+}
@@ -0,0 +1,31 @@
+package linkar.diagnostics;
+
+/**
+ * Management interface of the {@link OperationMetrics}, exported through JMX.
+ */
+public interface OperationMetricsMXBean {
+
+	String getOperation();
+
+	String getFile();
+
+	String getTarget();
+
+	long getCount();
+
+	long getErrors();
+
+	long getRequestChars();
+
+	long getResponseChars();
+
+	double getMeanMillis();
+
+	double getP50Millis();
+
+	double getP95Millis();
+
+	double getP99Millis();
+
+	double getMaxMillis();
+}
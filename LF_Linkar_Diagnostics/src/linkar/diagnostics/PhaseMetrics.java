@@ -0,0 +1,122 @@
+package linkar.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import linkar.functions.OPERATION_PHASE;
+
+/**
+ * Metrics of a phase of the work of the client (composition of arguments, wait for the server, parsing of results or composition of buffers)
+ * registered in a {@link MetricsRegistry}.
+ */
+public class PhaseMetrics implements PhaseMetricsMXBean {
+
+	private final OPERATION_PHASE Phase;
+	private final LongAdder Chars = new LongAdder();
+	private final LatencyHistogram Latency = new LatencyHistogram();
+
+	PhaseMetrics(OPERATION_PHASE phase)
+	{
+		this.Phase = phase;
+	}
+
+	/**
+	 * Records an executed phase.
+	 * @param nanos The duration of the phase in nanoseconds.
+	 * @param chars The number of characters composed, received or parsed in the phase.
+	 */
+	public void Record(long nanos, int chars)
+	{
+		this.Chars.add(chars);
+		this.Latency.Record(nanos);
+	}
+
+	/**
+	 * Name of the phase.
+	 * @return value
+	 */
+	@Override
+	public String getPhase()
+	{
+		return this.Phase.name();
+	}
+
+	/**
+	 * Number of executed phases.
+	 * @return value
+	 */
+	@Override
+	public long getCount()
+	{
+		return this.Latency.getCount();
+	}
+
+	/**
+	 * Total number of characters composed, received or parsed in the phases.
+	 * @return value
+	 */
+	@Override
+	public long getChars()
+	{
+		return this.Chars.sum();
+	}
+
+	/**
+	 * Total duration of the phases in milliseconds.
+	 * @return value
+	 */
+	@Override
+	public double getTotalMillis()
+	{
+		return this.Latency.getSum() / 1e6;
+	}
+
+	/**
+	 * Characters composed, received or parsed per millisecond of the phases.
+	 * @return value, or 0 if no time has been recorded.
+	 */
+	@Override
+	public double getCharsPerMillisecond()
+	{
+		long sum = this.Latency.getSum();
+		return (sum <= 0 ? 0 : getChars() * 1e6 / sum);
+	}
+
+	/**
+	 * Histogram of the durations of the phases.
+	 * @return value
+	 */
+	public LatencyHistogram getLatency()
+	{
+		return this.Latency;
+	}
+
+	@Override
+	public double getMeanMillis()
+	{
+		return this.Latency.getMeanMillis();
+	}
+
+	@Override
+	public double getP50Millis()
+	{
+		return this.Latency.GetPercentile(50);
+	}
+
+	@Override
+	public double getP95Millis()
+	{
+		return this.Latency.GetPercentile(95);
+	}
+
+	@Override
+	public double getP99Millis()
+	{
+		return this.Latency.GetPercentile(99);
+	}
+
+	@Override
+	public double getMaxMillis()
+	{
+		return this.Latency.getMaxMillis();
+	}
+}
@@ -0,0 +1,27 @@
+package linkar.diagnostics;
+
+/**
+ * Management interface of the {@link PhaseMetrics}, exported through JMX.
+ */
+public interface PhaseMetricsMXBean {
+
+	String getPhase();
+
+	long getCount();
+
+	long getChars();
+
+	double getTotalMillis();
+
+	double getCharsPerMillisecond();
+
+	double getMeanMillis();
+
+	double getP50Millis();
+
+	double getP95Millis();
+
+	double getP99Millis();
+
+	double getMaxMillis();
+}
@@ -0,0 +1,101 @@
+package linkar.diagnostics;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Object that works as an argument in the {@link TrafficReplayer} and defines the pacing, the concurrency and the processing of the replayed operations.
+ */
+public class ReplayOptions {
+
+	private double _Speed;
+	/**
+	 * Pacing of the replay: 1 starts every operation at its original time, 2 twice as fast, etc. 0 starts every operation as soon as there is a free thread.
+	 * @return value
+	 */
+	public double getSpeed()
+	{
+		return this._Speed;
+	}
+
+	private int _Threads;
+	/**
+	 * Maximum number of operations replayed at the same time. When all the threads are busy, the next operations are started later than their time.
+	 * @return value
+	 */
+	public int getThreads()
+	{
+		return this._Threads;
+	}
+
+	private boolean _ReplayLatency;
+	/**
+	 * The {@link ReplayTransport} waits the captured duration of every operation, divided by the speed when it is bigger than 0, before returning its result.
+	 * When it is false, the results are returned immediately, to measure only the client.
+	 * @return value
+	 */
+	public boolean getReplayLatency()
+	{
+		return this._ReplayLatency;
+	}
+
+	private BiConsumer<TrafficEntry, String> _Handler;
+	/**
+	 * Function that receives every replayed operation with its result, for example to load it in a LkDataCRUD, as the application would do.
+	 * Its time is included in the latency of the operation. When it is null, the results in MV format are parsed with the LkData class of their
+	 * operation; a handler that does nothing measures only the transports and the interceptors.
+	 * @return value
+	 */
+	public BiConsumer<TrafficEntry, String> getHandler()
+	{
+		return this._Handler;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReplayOptions} class.
+	* @param speed			Pacing of the replay: 1 for the original pacing, 2 twice as fast, etc. 0 means as fast as possible.
+	* @param threads		Maximum number of operations replayed at the same time.
+	* @param replayLatency	Wait the captured duration of every operation, divided by the speed, before returning its result.
+	* @param handler		Function that receives every replayed operation with its result. If null, the results are parsed with the LkData class of their operation.
+	*/
+	public ReplayOptions(double speed, int threads, boolean replayLatency, BiConsumer<TrafficEntry, String> handler)
+	{
+		this._Speed = (speed < 0 ? 0 : speed);
+		this._Threads = (threads < 1 ? 1 : threads);
+		this._ReplayLatency = replayLatency;
+		this._Handler = handler;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReplayOptions} class.
+	* @param speed			Pacing of the replay: 1 for the original pacing, 2 twice as fast, etc. 0 means as fast as possible.
+	* @param threads		Maximum number of operations replayed at the same time.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	replayLatency = false
+	handler = null
+	}
+	</pre>
+	*/
+	public ReplayOptions(double speed, int threads)
+	{
+		this(speed, threads, false, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReplayOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	speed = 0
+	threads = 8
+	replayLatency = false
+	handler = null
+	}
+	</pre>
+	*/
+	public ReplayOptions()
+	{
+		this(0, 8, false, null);
+	}
+}
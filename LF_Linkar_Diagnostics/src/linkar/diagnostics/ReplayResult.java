@@ -0,0 +1,88 @@
+package linkar.diagnostics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a replay of the {@link TrafficReplayer}.
+ */
+public class ReplayResult {
+
+	private final long Operations;
+	private final long Failed;
+	private final long Errors;
+	private final long ElapsedNanos;
+	private final LatencyHistogram Latency;
+
+	ReplayResult(long operations, long failed, long errors, long elapsedNanos, LatencyHistogram latency)
+	{
+		this.Operations = operations;
+		this.Failed = failed;
+		this.Errors = errors;
+		this.ElapsedNanos = elapsedNanos;
+		this.Latency = latency;
+	}
+
+	/**
+	 * Number of replayed operations.
+	 * @return value
+	 */
+	public long getOperations()
+	{
+		return this.Operations;
+	}
+
+	/**
+	 * Number of replayed operations that threw an exception, as they did when they were captured.
+	 * @return value
+	 */
+	public long getFailed()
+	{
+		return this.Failed;
+	}
+
+	/**
+	 * Number of replayed operations that threw an exception that was not captured, for example because their arguments did not match
+	 * the captured ones, or because the handler threw an exception.
+	 * @return value
+	 */
+	public long getErrors()
+	{
+		return this.Errors;
+	}
+
+	/**
+	 * Duration of the replay in milliseconds.
+	 * @return value
+	 */
+	public double getElapsedMillis()
+	{
+		return this.ElapsedNanos / 1000000.0;
+	}
+
+	/**
+	 * Operations replayed per second.
+	 * @return value
+	 */
+	public double getThroughput()
+	{
+		return (this.ElapsedNanos == 0 ? 0 : this.Operations * (double)TimeUnit.SECONDS.toNanos(1) / this.ElapsedNanos);
+	}
+
+	/**
+	 * Latencies of the replayed operations, including the handler.
+	 * @return value
+	 */
+	public LatencyHistogram getLatency()
+	{
+		return this.Latency;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(Locale.ROOT, "%d operations in %.1fms (%.1f ops/s), failed=%d errors=%d, latency mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms",
+				this.Operations, getElapsedMillis(), getThroughput(), this.Failed, this.Errors, this.Latency.getMeanMillis(),
+				this.Latency.GetPercentile(50), this.Latency.GetPercentile(99), this.Latency.getMaxMillis());
+	}
+}
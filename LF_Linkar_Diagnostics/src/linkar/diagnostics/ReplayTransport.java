@@ -0,0 +1,124 @@
+package linkar.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that answers the operations replayed by the {@link TrafficReplayer} with their captured results, without any server.
+ * <p>
+ * Every operation is matched with the captured one by its operation code and arguments, so the interceptors that change the arguments of the operations
+ * must not be registered during the replay. Transports installed over this one, for example a MetricsTransport, are measured with the replayed traffic.
+ */
+public class ReplayTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final ReplayOptions Options;
+	private final ConcurrentHashMap<String, ArrayDeque<TrafficEntry>> Pending = new ConcurrentHashMap<String, ArrayDeque<TrafficEntry>>();
+
+	/**
+	 * Initializes a new instance of the ReplayTransport class.
+	 * @param replayOptions Object that defines if the captured latencies are replayed, and the speed of the replay.
+	 * @param transport The transport restored by {@link #Uninstall}.
+	 */
+	public ReplayTransport(ReplayOptions replayOptions, LinkarTransport transport)
+	{
+		this.Options = (replayOptions == null ? new ReplayOptions() : replayOptions);
+		this.Transport = transport;
+	}
+
+	/**
+	 * Initializes a new instance of the ReplayTransport class, that restores the current transport of {@link OperationExecutor} when it is uninstalled.
+	 * @param replayOptions Object that defines if the captured latencies are replayed, and the speed of the replay.
+	 */
+	public ReplayTransport(ReplayOptions replayOptions)
+	{
+		this(replayOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new ReplayTransport as the transport of {@link OperationExecutor}, for all the functions.
+	 * @param replayOptions Object that defines if the captured latencies are replayed, and the speed of the replay.
+	 * @return The installed transport.
+	 */
+	public static ReplayTransport Install(ReplayOptions replayOptions)
+	{
+		ReplayTransport transport = new ReplayTransport(replayOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * Registers a captured operation that is going to be replayed, so its result is returned when the operation arrives.
+	 * @param entry The captured operation.
+	 */
+	void Expect(TrafficEntry entry)
+	{
+		this.Pending.compute(GetKey(entry.getOperationCode(), entry.getOperationArgs()), (key, entries) -> {
+			if (entries == null)
+				entries = new ArrayDeque<TrafficEntry>(1);
+			entries.add(entry);
+			return entries;
+		});
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Execute(operationCode, operationArgs);
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Execute(operationCode, operationArgs);
+	}
+
+	private String Execute(byte operationCode, String operationArgs) throws Exception
+	{
+		TrafficEntry[] found = new TrafficEntry[1];
+		this.Pending.computeIfPresent(GetKey(operationCode, operationArgs), (key, entries) -> {
+			found[0] = entries.poll();
+			return (entries.isEmpty() ? null : entries);
+		});
+		TrafficEntry entry = found[0];
+		if (entry == null)
+			throw new IllegalStateException("The operation has not been captured");
+
+		if (this.Options.getReplayLatency())
+		{
+			double speed = this.Options.getSpeed();
+			long nanos = (speed > 0 ? (long)(entry.getDuration() / speed) : entry.getDuration());
+			long deadline = System.nanoTime() + nanos;
+			while (nanos > 0)
+			{
+				LockSupport.parkNanos(nanos);
+				nanos = deadline - System.nanoTime();
+			}
+		}
+		if (entry.getError() != null)
+			throw new Exception(entry.getError());
+		return entry.getResult();
+	}
+
+	private static String GetKey(byte operationCode, String operationArgs)
+	{
+		return (char)(operationCode & 0xFF) + (operationArgs == null ? "" : operationArgs);
+	}
+}
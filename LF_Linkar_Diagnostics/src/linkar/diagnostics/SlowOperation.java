@@ -0,0 +1,207 @@
+package linkar.diagnostics;
+
+import java.util.Locale;
+
+/**
+ * Slow operation captured by the {@link SlowOperationLog}.
+ */
+public class SlowOperation {
+
+	private final long Timestamp;
+	private final String Operation;
+	private final String File;
+	private final String Target;
+	private final String SessionId;
+	private final String SelectClause;
+	private final String SortClause;
+	private final String Dictionaries;
+	private final String RecordIds;
+	private final String Records;
+	private final int RecordCount;
+	private final int RequestChars;
+	private final int ResponseChars;
+	private final double DurationMillis;
+	private final String Error;
+
+	SlowOperation(long timestamp, String operation, String file, String target, String sessionId, String selectClause, String sortClause,
+		String dictionaries, String recordIds, String records, int recordCount, int requestChars, int responseChars, double durationMillis, String error)
+	{
+		this.Timestamp = timestamp;
+		this.Operation = operation;
+		this.File = file;
+		this.Target = target;
+		this.SessionId = sessionId;
+		this.SelectClause = selectClause;
+		this.SortClause = sortClause;
+		this.Dictionaries = dictionaries;
+		this.RecordIds = recordIds;
+		this.Records = records;
+		this.RecordCount = recordCount;
+		this.RequestChars = requestChars;
+		this.ResponseChars = responseChars;
+		this.DurationMillis = durationMillis;
+		this.Error = error;
+	}
+
+	/**
+	 * Moment when the operation ended, in milliseconds since the epoch.
+	 * @return value
+	 */
+	public long getTimestamp()
+	{
+		return this.Timestamp;
+	}
+
+	/**
+	 * Name of the operation code.
+	 * @return value
+	 */
+	public String getOperation()
+	{
+		return this.Operation;
+	}
+
+	/**
+	 * File of the operation, the subroutine name in the Subroutine operation, or empty.
+	 * @return value
+	 */
+	public String getFile()
+	{
+		return this.File;
+	}
+
+	/**
+	 * Linkar Server and EntryPoint of the operation.
+	 * @return value
+	 */
+	public String getTarget()
+	{
+		return this.Target;
+	}
+
+	/**
+	 * Session of the persistent operation, empty in the direct ones. It is not included in {@link #toString}, that only writes a hash of it
+	 * to relate the operations of the same session, because the text is usually written in the logs of the application.
+	 * @return value
+	 */
+	public String getSessionId()
+	{
+		return this.SessionId;
+	}
+
+	/**
+	 * Truncated selectClause of the Select operation, or empty.
+	 * @return value
+	 */
+	public String getSelectClause()
+	{
+		return this.SelectClause;
+	}
+
+	/**
+	 * Truncated sortClause of the Select operation, or empty.
+	 * @return value
+	 */
+	public String getSortClause()
+	{
+		return this.SortClause;
+	}
+
+	/**
+	 * Truncated dictionaries of the Read, Select and UpdatePartial operations, or empty.
+	 * @return value
+	 */
+	public String getDictionaries()
+	{
+		return this.Dictionaries;
+	}
+
+	/**
+	 * Truncated record ids of the Read, Update, UpdatePartial, New and Delete operations, or empty.
+	 * @return value
+	 */
+	public String getRecordIds()
+	{
+		return this.RecordIds;
+	}
+
+	/**
+	 * Contents of the records, or arguments of the subroutine, as returned by the redactor and truncated. Only their size when there is not a redactor.
+	 * @return value
+	 */
+	public String getRecords()
+	{
+		return this.Records;
+	}
+
+	/**
+	 * Number of records sent in the operation.
+	 * @return value
+	 */
+	public int getRecordCount()
+	{
+		return this.RecordCount;
+	}
+
+	/**
+	 * Size of the arguments of the operation in characters.
+	 * @return value
+	 */
+	public int getRequestChars()
+	{
+		return this.RequestChars;
+	}
+
+	/**
+	 * Size of the result of the operation in characters.
+	 * @return value
+	 */
+	public int getResponseChars()
+	{
+		return this.ResponseChars;
+	}
+
+	/**
+	 * Duration of the operation in milliseconds.
+	 * @return value
+	 */
+	public double getDurationMillis()
+	{
+		return this.DurationMillis;
+	}
+
+	/**
+	 * Exception thrown by the operation, or empty.
+	 * @return value
+	 */
+	public String getError()
+	{
+		return this.Error;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder text = new StringBuilder();
+		text.append(String.format(Locale.ROOT, "%s %s took %.1fms", this.Operation, this.File, this.DurationMillis));
+		text.append(" target=").append(this.Target);
+		if (!this.SessionId.isEmpty())
+			text.append(" session=#").append(String.format(Locale.ROOT, "%08x", this.SessionId.hashCode()));
+		text.append(" recordCount=").append(this.RecordCount);
+		text.append(" requestChars=").append(this.RequestChars);
+		text.append(" responseChars=").append(this.ResponseChars);
+		if (!this.SelectClause.isEmpty())
+			text.append(" selectClause=[").append(this.SelectClause).append(']');
+		if (!this.SortClause.isEmpty())
+			text.append(" sortClause=[").append(this.SortClause).append(']');
+		if (!this.Dictionaries.isEmpty())
+			text.append(" dictionaries=[").append(this.Dictionaries).append(']');
+		if (!this.RecordIds.isEmpty())
+			text.append(" recordIds=[").append(this.RecordIds).append(']');
+		if (!this.Records.isEmpty())
+			text.append(" records=[").append(this.Records).append(']');
+		if (!this.Error.isEmpty())
+			text.append(" error=").append(this.Error);
+		return text.toString();
+	}
+}
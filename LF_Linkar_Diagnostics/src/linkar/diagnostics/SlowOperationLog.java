@@ -0,0 +1,265 @@
+package linkar.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import linkar.CredentialOptions;
+import linkar.functions.ASCII_Chars;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.DBMV_Mark;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationArguments;
+import linkar.functions.OperationExecutor;
+import linkar.functions.OperationInfo;
+import linkar.functions.OperationInterceptor;
+
+/**
+ * Detector of slow operations. The operations that last more than a threshold are captured with their operation code, file, truncated
+ * selectClause, sortClause and dictionaries, record count, sizes and duration, are sent to a sink (java.util.logging by default), and the last ones
+ * are kept in memory to be queried with {@link #getEntries}.
+ * <p>
+ * The captures are limited per second; the slow operations beyond the limit are only counted. The contents of the records are not captured
+ * unless a redactor is provided in the {@link SlowOperationOptions}.
+ * <p>
+ * Example:
+ * <pre>
+ * SlowOperationLog log = SlowOperationLog.Install(new SlowOperationOptions(2000));
+ * ...
+ * for (SlowOperation operation : log.getEntries())
+ * 	System.out.println(operation);
+ * </pre>
+ */
+public class SlowOperationLog implements OperationInterceptor {
+
+	private static final Logger LOGGER = Logger.getLogger(SlowOperationLog.class.getName());
+
+	private final SlowOperationOptions Options;
+	private final long ThresholdNanos;
+	private final SlowOperation[] Entries;
+	private int Next;
+	private int Size;
+	private long Second;
+	private int CapturedInSecond;
+	private final LongAdder SlowCount = new LongAdder();
+	private final LongAdder Suppressed = new LongAdder();
+
+	/**
+	 * Initializes a new instance of the SlowOperationLog class. It does not capture anything until it is registered with {@link OperationExecutor#AddInterceptor},
+	 * or installed with {@link #Install}.
+	 * @param slowOperationOptions Object that defines which operations are slow and how they are captured.
+	 */
+	public SlowOperationLog(SlowOperationOptions slowOperationOptions)
+	{
+		this.Options = (slowOperationOptions == null ? new SlowOperationOptions() : slowOperationOptions);
+		this.ThresholdNanos = TimeUnit.MILLISECONDS.toNanos(this.Options.getThreshold());
+		this.Entries = new SlowOperation[this.Options.getMaxEntries()];
+	}
+
+	/**
+	 * Installs a new SlowOperationLog for all the operations.
+	 * @param slowOperationOptions Object that defines which operations are slow and how they are captured.
+	 * @return The installed log.
+	 */
+	public static SlowOperationLog Install(SlowOperationOptions slowOperationOptions)
+	{
+		SlowOperationLog log = new SlowOperationLog(slowOperationOptions);
+		OperationExecutor.AddInterceptor(log);
+		return log;
+	}
+
+	/**
+	 * Stops capturing the slow operations. The captured ones are kept.
+	 */
+	public void Uninstall()
+	{
+		OperationExecutor.RemoveInterceptor(this);
+	}
+
+	/**
+	 * Number of slow operations detected, captured or not.
+	 * @return value
+	 */
+	public long getSlowCount()
+	{
+		return this.SlowCount.sum();
+	}
+
+	/**
+	 * Number of slow operations not captured because of the limit per second.
+	 * @return value
+	 */
+	public long getSuppressed()
+	{
+		return this.Suppressed.sum();
+	}
+
+	/**
+	 * The last captured slow operations, from the oldest to the newest.
+	 * @return value
+	 */
+	public synchronized List<SlowOperation> getEntries()
+	{
+		List<SlowOperation> entries = new ArrayList<SlowOperation>(this.Size);
+		int first = (this.Next - this.Size + this.Entries.length) % this.Entries.length;
+		for (int i = 0; i < this.Size; i++)
+			entries.add(this.Entries[(first + i) % this.Entries.length]);
+		return entries;
+	}
+
+	/**
+	 * Removes the captured slow operations.
+	 */
+	public synchronized void Clear()
+	{
+		for (int i = 0; i < this.Entries.length; i++)
+			this.Entries[i] = null;
+		this.Next = 0;
+		this.Size = 0;
+	}
+
+	@Override
+	public void Before(OperationInfo operation)
+	{ }
+
+	@Override
+	public void After(OperationInfo operation)
+	{
+		if (operation.getDuration() < this.ThresholdNanos)
+			return;
+		this.SlowCount.increment();
+		if (!TryAcquire())
+		{
+			this.Suppressed.increment();
+			return;
+		}
+
+		SlowOperation slowOperation = Capture(operation);
+		Add(slowOperation);
+		Consumer<SlowOperation> sink = this.Options.getSink();
+		if (sink != null)
+			sink.accept(slowOperation);
+		else if (LOGGER.isLoggable(Level.WARNING))
+			LOGGER.warning("Slow Linkar operation: " + slowOperation);
+	}
+
+	private synchronized boolean TryAcquire()
+	{
+		int maxPerSecond = this.Options.getMaxPerSecond();
+		if (maxPerSecond == 0)
+			return true;
+		long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+		if (second != this.Second)
+		{
+			this.Second = second;
+			this.CapturedInSecond = 0;
+		}
+		if (this.CapturedInSecond >= maxPerSecond)
+			return false;
+		this.CapturedInSecond++;
+		return true;
+	}
+
+	private synchronized void Add(SlowOperation slowOperation)
+	{
+		this.Entries[this.Next] = slowOperation;
+		this.Next = (this.Next + 1) % this.Entries.length;
+		if (this.Size < this.Entries.length)
+			this.Size++;
+	}
+
+	private SlowOperation Capture(OperationInfo operation)
+	{
+		byte operationCode = operation.getOperationCode();
+		String operationArgs = operation.getOperationArgs();
+		String inputData = GetInputData(operationArgs);
+		String selectClause = "";
+		String sortClause = "";
+		String dictionaries = "";
+		String recordIds = "";
+		String records = "";
+		if (operationCode == OPERATION_CODE.SELECT.getnumVal())
+		{
+			String[] items = inputData.split(DBMV_Mark.AM_str, -1);
+			selectClause = GetItem(items, 1);
+			sortClause = GetItem(items, 2);
+			dictionaries = GetItem(items, 3);
+		}
+		else if (operationCode == OPERATION_CODE.READ.getnumVal())
+		{
+			String[] items = inputData.split(DBMV_Mark.AM_str, -1);
+			recordIds = GetItem(items, 1);
+			dictionaries = GetItem(items, 2);
+		}
+		else if (operationCode == OPERATION_CODE.UPDATE.getnumVal() || operationCode == OPERATION_CODE.NEW.getnumVal()
+			|| operationCode == OPERATION_CODE.DELETE.getnumVal() || operationCode == OPERATION_CODE.UPDATEPARTIAL.getnumVal())
+		{
+			// The records contain AM marks, so the buffer is everything after the file name.
+			int start = inputData.indexOf(DBMV_Mark.AM);
+			String buffer = (start < 0 ? "" : inputData.substring(start + 1));
+			int end = buffer.indexOf(ASCII_Chars.FS_chr);
+			recordIds = (end < 0 ? buffer : buffer.substring(0, end));
+			String contents = (end < 0 ? "" : buffer.substring(end + 1));
+			if (operationCode == OPERATION_CODE.UPDATEPARTIAL.getnumVal())
+			{
+				int dictionariesStart = contents.lastIndexOf(ASCII_Chars.FS_chr);
+				dictionaries = (dictionariesStart < 0 ? "" : contents.substring(dictionariesStart + 1));
+				contents = (dictionariesStart < 0 ? contents : contents.substring(0, dictionariesStart));
+			}
+			records = Redact(contents);
+		}
+		else if (operationCode == OPERATION_CODE.SUBROUTINE.getnumVal())
+		{
+			int start = inputData.indexOf(ASCII_Chars.FS_chr);
+			records = Redact(start < 0 ? "" : inputData.substring(start + 1));
+		}
+
+		CredentialOptions credentialOptions = operation.getCredentialOptions();
+		String result = operation.getResult();
+		Exception exception = operation.getException();
+		return new SlowOperation(System.currentTimeMillis(), operation.getOperationName(), operation.getFilename(),
+			(credentialOptions == null ? "" : CredentialOptionsKey.GetEntryPoint(credentialOptions)), operation.getSessionId(),
+			Truncate(selectClause), Truncate(sortClause), Truncate(dictionaries), Truncate(recordIds), Truncate(records),
+			OperationArguments.GetRecordCount(operationCode, operationArgs), operation.getArgsLength(), (result == null ? 0 : result.length()),
+			operation.getDuration() / 1e6, (exception == null ? "" : exception.getClass().getName() + ": " + exception.getMessage()));
+	}
+
+	private String Redact(String contents)
+	{
+		if (contents.isEmpty())
+			return "";
+		Function<String, String> redactor = this.Options.getRedactor();
+		if (redactor == null)
+			return "<" + contents.length() + " chars>";
+		String redacted = redactor.apply(contents);
+		return (redacted == null ? "" : redacted);
+	}
+
+	private String Truncate(String value)
+	{
+		int maxLength = this.Options.getMaxArgumentLength();
+		if (value.length() <= maxLength)
+			return value;
+		return value.substring(0, maxLength) + "...";
+	}
+
+	private static String GetInputData(String operationArgs)
+	{
+		if (operationArgs == null)
+			return "";
+		int start = operationArgs.indexOf(ASCII_Chars.US_chr);
+		if (start >= 0)
+			start = operationArgs.indexOf(ASCII_Chars.US_chr, start + 1);
+		return (start < 0 ? "" : operationArgs.substring(start + 1));
+	}
+
+	private static String GetItem(String[] items, int index)
+	{
+		return (index < items.length ? items[index] : "");
+	}
+}
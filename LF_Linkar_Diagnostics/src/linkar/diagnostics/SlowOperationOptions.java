@@ -0,0 +1,147 @@
+package linkar.diagnostics;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Object that works as an argument in the {@link SlowOperationLog} and defines which operations are slow, how many are captured, and how their arguments are captured.
+ */
+public class SlowOperationOptions {
+
+	private long _Threshold;
+	/**
+	 * Duration in milliseconds from which an operation is slow.
+	 * @return value
+	 */
+	public long getThreshold()
+	{
+		return this._Threshold;
+	}
+
+	private int _MaxEntries;
+	/**
+	 * Number of the last slow operations kept in memory.
+	 * @return value
+	 */
+	public int getMaxEntries()
+	{
+		return this._MaxEntries;
+	}
+
+	private int _MaxPerSecond;
+	/**
+	 * Maximum number of slow operations captured and logged per second. The rest are only counted. 0 means no limit.
+	 * @return value
+	 */
+	public int getMaxPerSecond()
+	{
+		return this._MaxPerSecond;
+	}
+
+	private int _MaxArgumentLength;
+	/**
+	 * Maximum length of every captured argument: selectClause, sortClause, dictionaries, record ids and records. The longer ones are truncated.
+	 * @return value
+	 */
+	public int getMaxArgumentLength()
+	{
+		return this._MaxArgumentLength;
+	}
+
+	private Function<String, String> _Redactor;
+	/**
+	 * Function that receives the contents of the records, or the arguments of a subroutine, and returns what can be captured.
+	 * When it is null, the contents are not captured, only their size.
+	 * @return value
+	 */
+	public Function<String, String> getRedactor()
+	{
+		return this._Redactor;
+	}
+
+	private Consumer<SlowOperation> _Sink;
+	/**
+	 * Destination of the captured slow operations. When it is null, they are written as warnings in the java.util.logging logger "linkar.diagnostics.SlowOperationLog".
+	 * @return value
+	 */
+	public Consumer<SlowOperation> getSink()
+	{
+		return this._Sink;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SlowOperationOptions} class.
+	* @param threshold			Duration in milliseconds from which an operation is slow.
+	* @param maxEntries			Number of the last slow operations kept in memory.
+	* @param maxPerSecond		Maximum number of slow operations captured and logged per second. 0 means no limit.
+	* @param maxArgumentLength	Maximum length of every captured argument.
+	* @param redactor			Function that returns what can be captured of the contents of the records. If null, only their size is captured.
+	* @param sink				Destination of the captured slow operations. If null, they are logged with java.util.logging.
+	*/
+	public SlowOperationOptions(long threshold, int maxEntries, int maxPerSecond, int maxArgumentLength, Function<String, String> redactor, Consumer<SlowOperation> sink)
+	{
+		this._Threshold = (threshold < 0 ? 0 : threshold);
+		this._MaxEntries = (maxEntries < 1 ? 1 : maxEntries);
+		this._MaxPerSecond = (maxPerSecond < 0 ? 0 : maxPerSecond);
+		this._MaxArgumentLength = (maxArgumentLength < 0 ? 0 : maxArgumentLength);
+		this._Redactor = redactor;
+		this._Sink = sink;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SlowOperationOptions} class.
+	* @param threshold			Duration in milliseconds from which an operation is slow.
+	* @param maxEntries			Number of the last slow operations kept in memory.
+	* @param maxPerSecond		Maximum number of slow operations captured and logged per second. 0 means no limit.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	maxArgumentLength = 500
+	redactor = null
+	sink = null
+	}
+	</pre>
+	*/
+	public SlowOperationOptions(long threshold, int maxEntries, int maxPerSecond)
+	{
+		this(threshold, maxEntries, maxPerSecond, 500, null, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SlowOperationOptions} class.
+	* @param threshold			Duration in milliseconds from which an operation is slow.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	maxEntries = 100
+	maxPerSecond = 10
+	maxArgumentLength = 500
+	redactor = null
+	sink = null
+	}
+	</pre>
+	*/
+	public SlowOperationOptions(long threshold)
+	{
+		this(threshold, 100, 10, 500, null, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SlowOperationOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	threshold = 1000
+	maxEntries = 100
+	maxPerSecond = 10
+	maxArgumentLength = 500
+	redactor = null
+	sink = null
+	}
+	</pre>
+	*/
+	public SlowOperationOptions()
+	{
+		this(1000, 100, 10, 500, null, null);
+	}
+}
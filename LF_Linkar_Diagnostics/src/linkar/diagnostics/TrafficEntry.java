@@ -0,0 +1,137 @@
+package linkar.diagnostics;
+
+import linkar.functions.OPERATION_CODE;
+
+/**
+ * Operation captured by a {@link TrafficRecorder} and read by a {@link TrafficReader}.
+ */
+public class TrafficEntry {
+
+	private final long Time;
+	private final long Duration;
+	private final boolean Persistent;
+	private final String SessionId;
+	private final byte OperationCode;
+	private final byte InputFormat;
+	private final byte OutputFormat;
+	private final String OperationArgs;
+	private final String Result;
+	private final String Error;
+
+	TrafficEntry(long time, long duration, boolean persistent, String sessionId, byte operationCode, byte inputFormat, byte outputFormat,
+			String operationArgs, String result, String error)
+	{
+		this.Time = time;
+		this.Duration = duration;
+		this.Persistent = persistent;
+		this.SessionId = (sessionId == null ? "" : sessionId);
+		this.OperationCode = operationCode;
+		this.InputFormat = inputFormat;
+		this.OutputFormat = outputFormat;
+		this.OperationArgs = (operationArgs == null ? "" : operationArgs);
+		this.Result = result;
+		this.Error = error;
+	}
+
+	/**
+	 * Time when the operation started, in microseconds since the epoch.
+	 * @return value
+	 */
+	public long getTime()
+	{
+		return this.Time;
+	}
+
+	/**
+	 * Duration of the operation in nanoseconds.
+	 * @return value
+	 */
+	public long getDuration()
+	{
+		return this.Duration;
+	}
+
+	/**
+	 * Indicates if the operation was executed in a persistent session.
+	 * @return value
+	 */
+	public boolean isPersistent()
+	{
+		return this.Persistent;
+	}
+
+	/**
+	 * Session id of the persistent operations, or empty for the direct ones.
+	 * @return value
+	 */
+	public String getSessionId()
+	{
+		return this.SessionId;
+	}
+
+	/**
+	 * Code of the operation.
+	 * @return value
+	 */
+	public byte getOperationCode()
+	{
+		return this.OperationCode;
+	}
+
+	/**
+	 * Name of the operation.
+	 * @return value
+	 */
+	public String getOperationName()
+	{
+		for (OPERATION_CODE operationCode : OPERATION_CODE.values())
+			if (operationCode.getnumVal() == this.OperationCode)
+				return operationCode.name();
+		return String.valueOf(this.OperationCode & 0xFF);
+	}
+
+	/**
+	 * Input format of the operation.
+	 * @return value
+	 */
+	public byte getInputFormat()
+	{
+		return this.InputFormat;
+	}
+
+	/**
+	 * Output format of the operation.
+	 * @return value
+	 */
+	public byte getOutputFormat()
+	{
+		return this.OutputFormat;
+	}
+
+	/**
+	 * Arguments of the operation, after the redaction.
+	 * @return value
+	 */
+	public String getOperationArgs()
+	{
+		return this.OperationArgs;
+	}
+
+	/**
+	 * Result of the operation, after the redaction, or null when it threw an exception.
+	 * @return value
+	 */
+	public String getResult()
+	{
+		return this.Result;
+	}
+
+	/**
+	 * Message of the exception thrown by the operation, or null when it ended successfully.
+	 * @return value
+	 */
+	public String getError()
+	{
+		return this.Error;
+	}
+}
@@ -0,0 +1,105 @@
+package linkar.diagnostics;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reader of the files written by the {@link TrafficRecorder}, compressed or not. The operations are read in the order they were written,
+ * which is the order of their end. An operation partially written, for example because the process ended during the capture, ends the reading.
+ */
+public class TrafficReader implements Closeable {
+
+	private final DataInputStream Input;
+
+	/**
+	 * Initializes a new instance of the TrafficReader class.
+	 * @param path The path of the file.
+	 * @throws IOException
+	 */
+	public TrafficReader(String path) throws IOException
+	{
+		InputStream input = new BufferedInputStream(new FileInputStream(path), 65536);
+		input.mark(2);
+		int magic = input.read() | (input.read() << 8);
+		input.reset();
+		if (magic == GZIPInputStream.GZIP_MAGIC)
+			input = new BufferedInputStream(new GZIPInputStream(input, 65536), 65536);
+		this.Input = new DataInputStream(input);
+	}
+
+	/**
+	 * Reads all the operations of a file.
+	 * @param path The path of the file.
+	 * @return The operations.
+	 * @throws IOException
+	 */
+	public static List<TrafficEntry> ReadAll(String path) throws IOException
+	{
+		List<TrafficEntry> entries = new ArrayList<TrafficEntry>();
+		try (TrafficReader reader = new TrafficReader(path))
+		{
+			TrafficEntry entry;
+			while ((entry = reader.Next()) != null)
+				entries.add(entry);
+		}
+		return entries;
+	}
+
+	/**
+	 * Reads the next operation.
+	 * @return The operation, or null at the end of the file.
+	 * @throws IOException When the file has not been written by a TrafficRecorder.
+	 */
+	public TrafficEntry Next() throws IOException
+	{
+		try
+		{
+			int version = this.Input.read();
+			if (version < 0)
+				return null;
+			if (version != TrafficRecorder.VERSION)
+				throw new IOException("Unknown version " + version + " of the captured traffic");
+			byte flags = this.Input.readByte();
+			long time = this.Input.readLong();
+			long duration = this.Input.readLong();
+			byte operationCode = this.Input.readByte();
+			byte inputFormat = this.Input.readByte();
+			byte outputFormat = this.Input.readByte();
+			String sessionId = ReadString();
+			String operationArgs = ReadString();
+			String content = ReadString();
+			boolean failed = (flags & TrafficRecorder.FAILED) != 0;
+			return new TrafficEntry(time, duration, (flags & TrafficRecorder.PERSISTENT) != 0, sessionId, operationCode, inputFormat, outputFormat,
+					operationArgs, (failed ? null : content), (failed ? content : null));
+		}
+		catch (EOFException ex)
+		{
+			return null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		this.Input.close();
+	}
+
+	private String ReadString() throws IOException
+	{
+		int length = this.Input.readInt();
+		if (length < 0)
+			return null;
+		byte[] value = new byte[length];
+		this.Input.readFully(value);
+		return new String(value, StandardCharsets.UTF_8);
+	}
+}
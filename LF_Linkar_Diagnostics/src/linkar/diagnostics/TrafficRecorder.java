@@ -0,0 +1,237 @@
+package linkar.diagnostics;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import linkar.functions.OperationExecutor;
+import linkar.functions.OperationInfo;
+import linkar.functions.OperationInterceptor;
+
+/**
+ * Capture of the traffic of the operations to an append-only file, to replay it later with the {@link TrafficReplayer} and measure the clients
+ * with the real distribution of operations, clauses, record ids and record sizes.
+ * <p>
+ * Every captured operation is written with its start time, duration, operation code, formats, arguments and result (or the message of its exception),
+ * in a compact binary format, optionally compressed with gzip. The operations are sampled, and their arguments and results can be redacted before being written.
+ * The file is written from the threads of the operations, so the capture adds the cost of writing and compressing every captured operation to its caller.
+ * <p>
+ * Example:
+ * <pre>
+ * TrafficRecorder recorder = TrafficRecorder.Install("traffic.lkt", new CaptureOptions(0.1));
+ * ...
+ * recorder.close();
+ * </pre>
+ */
+public class TrafficRecorder implements OperationInterceptor, Closeable {
+
+	static final byte VERSION = 1;
+	static final byte PERSISTENT = 1;
+	static final byte FAILED = 2;
+
+	private final CaptureOptions Options;
+	private final DataOutputStream Output;
+	private final long BaseTime;
+	private final long BaseNanos;
+	private long Bytes;
+	private boolean Closed;
+	private final LongAdder Captured = new LongAdder();
+	private final LongAdder Dropped = new LongAdder();
+
+	/**
+	 * Initializes a new instance of the TrafficRecorder class, that appends the captured operations to a file. It does not capture anything until
+	 * it is registered with {@link OperationExecutor#AddInterceptor}, or installed with {@link #Install}.
+	 * @param path The path of the file. It is created if it does not exist.
+	 * @param captureOptions Object that defines which operations are captured and how.
+	 * @throws IOException When the file exists and it is compressed and the options are not, or the other way round, because the file could not be read.
+	 */
+	public TrafficRecorder(String path, CaptureOptions captureOptions) throws IOException
+	{
+		this.Options = (captureOptions == null ? new CaptureOptions() : captureOptions);
+		File file = new File(path);
+		if (file.length() > 0 && IsCompressed(file) != this.Options.getCompress())
+			throw new IOException("The file " + path + " has been written " + (this.Options.getCompress() ? "without" : "with")
+					+ " compression, and the operations appended to it must be written in the same way");
+		OutputStream output = new FileOutputStream(path, true);
+		if (this.Options.getCompress())
+			output = new GZIPOutputStream(output, 65536, true);
+		this.Output = new DataOutputStream(new BufferedOutputStream(output, 65536));
+		this.BaseTime = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+		this.BaseNanos = System.nanoTime();
+	}
+
+	/**
+	 * Installs a new TrafficRecorder for all the operations.
+	 * @param path The path of the file. It is created if it does not exist.
+	 * @param captureOptions Object that defines which operations are captured and how.
+	 * @return The installed recorder.
+	 * @throws IOException
+	 */
+	public static TrafficRecorder Install(String path, CaptureOptions captureOptions) throws IOException
+	{
+		TrafficRecorder recorder = new TrafficRecorder(path, captureOptions);
+		OperationExecutor.AddInterceptor(recorder);
+		return recorder;
+	}
+
+	/**
+	 * Stops capturing the operations. The file is kept open until {@link #close} is called.
+	 */
+	public void Uninstall()
+	{
+		OperationExecutor.RemoveInterceptor(this);
+	}
+
+	/**
+	 * Number of operations written to the file.
+	 * @return value
+	 */
+	public long getCaptured()
+	{
+		return this.Captured.sum();
+	}
+
+	/**
+	 * Number of sampled operations not written, because the limit of bytes has been reached, the file has been closed or it could not be written.
+	 * @return value
+	 */
+	public long getDropped()
+	{
+		return this.Dropped.sum();
+	}
+
+	/**
+	 * Writes to the file the operations captured until now, so they can be read while the capture continues.
+	 * @throws IOException
+	 */
+	public synchronized void Flush() throws IOException
+	{
+		if (!this.Closed)
+			this.Output.flush();
+	}
+
+	/**
+	 * Stops capturing the operations and closes the file.
+	 * @throws IOException
+	 */
+	@Override
+	public synchronized void close() throws IOException
+	{
+		Uninstall();
+		if (this.Closed)
+			return;
+		this.Closed = true;
+		this.Output.close();
+	}
+
+	@Override
+	public void Before(OperationInfo operation)
+	{ }
+
+	@Override
+	public void After(OperationInfo operation)
+	{
+		double sampleRate = this.Options.getSampleRate();
+		if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)
+			return;
+
+		String error = null;
+		String result = operation.getResult();
+		if (operation.getException() != null)
+		{
+			error = String.valueOf(operation.getException().getMessage());
+			result = null;
+		}
+		else
+			result = Redact(this.Options.getResultRedactor(), result);
+		String operationArgs = Redact(this.Options.getArgumentsRedactor(), operation.getOperationArgs());
+		byte[] sessionId = Encode(operation.getSessionId());
+		byte[] args = Encode(operationArgs);
+		byte[] content = Encode(error != null ? error : result);
+		long time = this.BaseTime + TimeUnit.NANOSECONDS.toMicros(operation.getStartTime() - this.BaseNanos);
+		byte flags = (byte)((operation.isPersistent() ? PERSISTENT : 0) | (error != null ? FAILED : 0));
+		Write(time, operation.getDuration(), flags, operation.getOperationCode(), operation.getInputFormat(), operation.getOutputFormat(),
+				sessionId, args, content);
+	}
+
+	private synchronized void Write(long time, long duration, byte flags, byte operationCode, byte inputFormat, byte outputFormat,
+			byte[] sessionId, byte[] args, byte[] content)
+	{
+		long size = 21 + 12 + Length(sessionId) + Length(args) + Length(content);
+		long maxBytes = this.Options.getMaxBytes();
+		if (this.Closed || (maxBytes > 0 && this.Bytes + size > maxBytes))
+		{
+			this.Dropped.increment();
+			return;
+		}
+		try
+		{
+			this.Output.writeByte(VERSION);
+			this.Output.writeByte(flags);
+			this.Output.writeLong(time);
+			this.Output.writeLong(duration);
+			this.Output.writeByte(operationCode);
+			this.Output.writeByte(inputFormat);
+			this.Output.writeByte(outputFormat);
+			WriteBytes(sessionId);
+			WriteBytes(args);
+			WriteBytes(content);
+			this.Bytes += size;
+			this.Captured.increment();
+		}
+		catch (IOException ex)
+		{
+			this.Dropped.increment();
+		}
+	}
+
+	private void WriteBytes(byte[] value) throws IOException
+	{
+		if (value == null)
+			this.Output.writeInt(-1);
+		else
+		{
+			this.Output.writeInt(value.length);
+			this.Output.write(value);
+		}
+	}
+
+	private static int Length(byte[] value)
+	{
+		return (value == null ? 0 : value.length);
+	}
+
+	private static byte[] Encode(String value)
+	{
+		return (value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String Redact(Function<String, String> redactor, String value)
+	{
+		if (redactor == null || value == null)
+			return value;
+		String redacted = redactor.apply(value);
+		return (redacted == null ? "" : redacted);
+	}
+
+	private static boolean IsCompressed(File file) throws IOException
+	{
+		try (FileInputStream input = new FileInputStream(file))
+		{
+			int magic = input.read() | (input.read() << 8);
+			return magic == GZIPInputStream.GZIP_MAGIC;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package linkar.diagnostics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.data.LkDataCRUD;
+import linkar.data.LkDataConversion;
+import linkar.data.LkDataExecute;
+import linkar.data.LkDataFormat;
+import linkar.data.LkDataSchProp;
+import linkar.data.LkDataSubroutine;
+import linkar.functions.DATAFORMAT_TYPE;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Replays the traffic captured by a {@link TrafficRecorder} through {@link OperationExecutor}, with its interceptors, phase listeners and transports,
+ * against a {@link ReplayTransport} that returns the captured results. It allows measuring changes in the parsing, the caches or the transports
+ * with the real traffic, without any server.
+ * <p>
+ * The operations are replayed with their captured arguments, without the functions that composed them. Without a handler in the options,
+ * every result in MV format is parsed with the LkData class of its operation (LkDataCRUD, LkDataSubroutine, LkDataSchProp...), as the functions
+ * that return LkData objects do, so the parsing is measured too.
+ * <p>
+ * The operations are started in the captured order, at their original pacing, accelerated, or as fast as possible. A file with several captures appended
+ * is replayed with the gaps between them when the speed is bigger than 0.
+ * <p>
+ * Example:
+ * <pre>
+ * ReplayResult result = TrafficReplayer.Replay("traffic.lkt", new ReplayOptions(0, 8, false, (entry, output) -&gt; new LkDataCRUD(output)));
+ * System.out.println(result);
+ * </pre>
+ */
+public class TrafficReplayer {
+
+	private static final CredentialOptions CREDENTIALS = new CredentialOptions("127.0.0.1", "REPLAY", 11300, "", "");
+
+	private final ReplayOptions Options;
+	private final ReplayTransport Transport;
+	private final LatencyHistogram Latency = new LatencyHistogram();
+	private final LongAdder Operations = new LongAdder();
+	private final LongAdder Failed = new LongAdder();
+	private final LongAdder Errors = new LongAdder();
+
+	private TrafficReplayer(ReplayOptions replayOptions, ReplayTransport transport)
+	{
+		this.Options = (replayOptions == null ? new ReplayOptions() : replayOptions);
+		this.Transport = transport;
+	}
+
+	/**
+	 * Replays a file against a new {@link ReplayTransport}, installed as the transport of all the functions during the replay.
+	 * @param path The path of the file written by the TrafficRecorder.
+	 * @param replayOptions Object that defines the pacing, the concurrency and the processing of the replayed operations.
+	 * @return The measurements of the replay.
+	 * @throws Exception
+	 */
+	public static ReplayResult Replay(String path, ReplayOptions replayOptions) throws Exception
+	{
+		ReplayTransport transport = ReplayTransport.Install(replayOptions);
+		try (TrafficReader reader = new TrafficReader(path))
+		{
+			return Replay(reader, replayOptions, transport);
+		}
+		finally
+		{
+			transport.Uninstall();
+		}
+	}
+
+	/**
+	 * Replays the operations of a reader over the current transport of all the functions, that must end in the given {@link ReplayTransport}.
+	 * This allows measuring transports installed over the replay transport.
+	 * @param reader The reader of the captured operations.
+	 * @param replayOptions Object that defines the pacing, the concurrency and the processing of the replayed operations.
+	 * @param transport The replay transport at the end of the current transport.
+	 * @return The measurements of the replay.
+	 * @throws Exception
+	 */
+	public static ReplayResult Replay(TrafficReader reader, ReplayOptions replayOptions, ReplayTransport transport) throws Exception
+	{
+		return new TrafficReplayer(replayOptions, transport).Execute(reader);
+	}
+
+	private ReplayResult Execute(TrafficReader reader) throws Exception
+	{
+		int threads = this.Options.getThreads();
+		double speed = this.Options.getSpeed();
+		Semaphore free = new Semaphore(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads, (runnable) -> {
+			Thread thread = new Thread(runnable, "Linkar-Replay");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long start = System.nanoTime();
+		try
+		{
+			TrafficEntry first = null;
+			TrafficEntry entry;
+			while ((entry = reader.Next()) != null)
+			{
+				if (first == null)
+					first = entry;
+				if (speed > 0)
+				{
+					long due = start + (long)(TimeUnit.MICROSECONDS.toNanos(entry.getTime() - first.getTime()) / speed);
+					long nanos;
+					while ((nanos = due - System.nanoTime()) > 0)
+						LockSupport.parkNanos(nanos);
+				}
+				free.acquire();
+				TrafficEntry replayed = entry;
+				this.Transport.Expect(replayed);
+				executor.execute(() -> {
+					try
+					{
+						Execute(replayed);
+					}
+					finally
+					{
+						free.release();
+					}
+				});
+			}
+			free.acquire(threads);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		return new ReplayResult(this.Operations.sum(), this.Failed.sum(), this.Errors.sum(), System.nanoTime() - start, this.Latency);
+	}
+
+	private void Execute(TrafficEntry entry)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			String result;
+			if (entry.isPersistent())
+				result = OperationExecutor.ExecutePersistentOperation(new ConnectionInfo(entry.getSessionId(), "", "", CREDENTIALS),
+						entry.getOperationCode(), entry.getOperationArgs(), entry.getInputFormat(), entry.getOutputFormat(), 0);
+			else
+				result = OperationExecutor.ExecuteDirectOperation(CREDENTIALS, entry.getOperationCode(), entry.getOperationArgs(),
+						entry.getInputFormat(), entry.getOutputFormat(), 0);
+			BiConsumer<TrafficEntry, String> handler = this.Options.getHandler();
+			if (handler != null)
+				handler.accept(entry, result);
+			else
+				Parse(entry, result);
+		}
+		catch (Exception ex)
+		{
+			if (entry.getError() != null && !(ex instanceof IllegalStateException))
+				this.Failed.increment();
+			else
+				this.Errors.increment();
+		}
+		this.Latency.Record(System.nanoTime() - start);
+		this.Operations.increment();
+	}
+
+	/**
+	 * Parses the result of an operation with the LkData class of its operation code, when its output format is MV.
+	 */
+	private static void Parse(TrafficEntry entry, String result)
+	{
+		if (entry.getOutputFormat() != DATAFORMAT_TYPE.MV.getnumVal() || result == null)
+			return;
+		byte operationCode = entry.getOperationCode();
+		if (operationCode == OPERATION_CODE.READ.getnumVal() || operationCode == OPERATION_CODE.UPDATE.getnumVal()
+			|| operationCode == OPERATION_CODE.UPDATEPARTIAL.getnumVal() || operationCode == OPERATION_CODE.NEW.getnumVal()
+			|| operationCode == OPERATION_CODE.DELETE.getnumVal() || operationCode == OPERATION_CODE.SELECT.getnumVal()
+			|| operationCode == OPERATION_CODE.DICTIONARIES.getnumVal())
+			new LkDataCRUD(result);
+		else if (operationCode == OPERATION_CODE.SUBROUTINE.getnumVal())
+			new LkDataSubroutine(result);
+		else if (operationCode == OPERATION_CODE.CONVERSION.getnumVal())
+			new LkDataConversion(result);
+		else if (operationCode == OPERATION_CODE.FORMAT.getnumVal())
+			new LkDataFormat(result);
+		else if (operationCode == OPERATION_CODE.EXECUTE.getnumVal())
+			new LkDataExecute(result);
+		else if (operationCode == OPERATION_CODE.LKSCHEMAS.getnumVal() || operationCode == OPERATION_CODE.LKPROPERTIES.getnumVal())
+			new LkDataSchProp(result);
+	}
+}
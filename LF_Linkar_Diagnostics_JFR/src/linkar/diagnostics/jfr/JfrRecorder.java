@@ -0,0 +1,117 @@
+package linkar.diagnostics.jfr;
+
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.OPERATION_PHASE;
+import linkar.functions.OperationArguments;
+import linkar.functions.OperationExecutor;
+import linkar.functions.OperationInfo;
+import linkar.functions.OperationInterceptor;
+import linkar.functions.OperationPhases;
+import linkar.functions.PhaseListener;
+
+/**
+ * Emits JDK Flight Recorder events for every Linkar operation ({@link LinkarOperationEvent}) and for every phase of the work of the client
+ * ({@link LinkarPhaseEvent}), so network time can be told apart from client CPU time in continuous profiling.
+ * <p>
+ * The events are enabled, disabled and filtered by threshold with the JFR settings ("linkar.Operation" and "linkar.Phase"). When they are disabled,
+ * the cost is a check of the event state.
+ * <p>
+ * Example:
+ * <pre>
+ * JfrRecorder recorder = JfrRecorder.Install();
+ * </pre>
+ */
+public class JfrRecorder implements OperationInterceptor, PhaseListener {
+
+	private static final String EVENT_ATTRIBUTE = "linkar.jfr.event";
+
+	/**
+	 * Initializes a new instance of the JfrRecorder class. It does not record anything until it is registered with {@link OperationExecutor#AddInterceptor}
+	 * and {@link OperationPhases#AddListener}, or installed with {@link #Install}.
+	 */
+	public JfrRecorder()
+	{ }
+
+	/**
+	 * Installs a new JfrRecorder for all the operations and phases.
+	 * @return The installed recorder.
+	 */
+	public static JfrRecorder Install()
+	{
+		JfrRecorder recorder = new JfrRecorder();
+		OperationExecutor.AddInterceptor(recorder);
+		OperationPhases.AddListener(recorder);
+		return recorder;
+	}
+
+	/**
+	 * Stops recording the events of this recorder.
+	 */
+	public void Uninstall()
+	{
+		OperationExecutor.RemoveInterceptor(this);
+		OperationPhases.RemoveListener(this);
+	}
+
+	@Override
+	public void Before(OperationInfo operation)
+	{
+		LinkarOperationEvent event = new LinkarOperationEvent();
+		if (!event.isEnabled())
+			return;
+		operation.setAttribute(EVENT_ATTRIBUTE, event);
+		event.begin();
+	}
+
+	@Override
+	public void After(OperationInfo operation)
+	{
+		Object attribute = operation.getAttribute(EVENT_ATTRIBUTE);
+		if (!(attribute instanceof LinkarOperationEvent))
+			return;
+		LinkarOperationEvent event = (LinkarOperationEvent)attribute;
+		event.end();
+		if (!event.shouldCommit())
+			return;
+
+		CredentialOptions credentialOptions = operation.getCredentialOptions();
+		String operationArgs = operation.getOperationArgs();
+		String result = operation.getResult();
+		Exception exception = operation.getException();
+		event.operation = operation.getOperationName();
+		event.file = operation.getFilename();
+		event.target = (credentialOptions == null ? "" : CredentialOptionsKey.GetEntryPoint(credentialOptions));
+		String sessionId = operation.getSessionId();
+		event.sessionHash = (sessionId == null || sessionId.isEmpty() ? 0 : sessionId.hashCode());
+		event.recordCount = OperationArguments.GetRecordCount(operation.getOperationCode(), operationArgs);
+		event.requestChars = operation.getArgsLength();
+		event.responseChars = (result == null ? 0 : result.length());
+		event.error = (exception == null ? "" : exception.getClass().getName() + ": " + exception.getMessage());
+		event.commit();
+	}
+
+	@Override
+	public Object Begin(OPERATION_PHASE phase)
+	{
+		LinkarPhaseEvent event = new LinkarPhaseEvent();
+		if (!event.isEnabled())
+			return null;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void End(OPERATION_PHASE phase, Object state, long nanos, int chars)
+	{
+		if (state == null)
+			return;
+		LinkarPhaseEvent event = (LinkarPhaseEvent)state;
+		event.end();
+		if (!event.shouldCommit())
+			return;
+		event.phase = phase.name();
+		event.chars = chars;
+		event.commit();
+	}
+}
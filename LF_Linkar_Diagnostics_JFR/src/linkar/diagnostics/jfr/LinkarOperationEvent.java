@@ -0,0 +1,52 @@
+package linkar.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a Linkar operation. Its duration goes from the start of the operation in {@link linkar.functions.OperationExecutor}
+ * to its end, so besides the time waiting for the server it includes the work of the installed transports, for example the borrow of a pooled
+ * session and its Login, the wait in a priority lane, the retries and the hedged requests.
+ * <p>
+ * The id of the session is not recorded, because the recordings are usually shared; only a hash of it, to relate the operations of the same session.
+ */
+@Name("linkar.Operation")
+@Label("Linkar Operation")
+@Category("Linkar")
+@Description("Direct or persistent operation sent to the Linkar Server")
+@StackTrace(true)
+public class LinkarOperationEvent extends jdk.jfr.Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("File")
+	@Description("File of the operation, or name of the subroutine")
+	String file;
+
+	@Label("Target")
+	@Description("Linkar Server and EntryPoint")
+	String target;
+
+	@Label("Session Hash")
+	@Description("Hash of the session of the persistent operations, 0 in the direct ones")
+	int sessionHash;
+
+	@Label("Record Count")
+	@Description("Number of records sent in the Read, Update, New and Delete operations")
+	int recordCount;
+
+	@Label("Request Characters")
+	@Description("Length in characters of the arguments of the operation")
+	int requestChars;
+
+	@Label("Response Characters")
+	@Description("Length in characters of the result of the operation")
+	int responseChars;
+
+	@Label("Error")
+	String error;
+}
@@ -0,0 +1,26 @@
+package linkar.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a phase of the work of the client: composition of arguments, wait for the server, parsing of results
+ * or composition of buffers.
+ */
+@Name("linkar.Phase")
+@Label("Linkar Phase")
+@Category("Linkar")
+@Description("Phase of the work of the Linkar client")
+@StackTrace(false)
+public class LinkarPhaseEvent extends jdk.jfr.Event {
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Characters")
+	@Description("Characters composed, received or parsed in the phase")
+	int chars;
+}
@@ -0,0 +1,14 @@
+package linkar.functions;
+
+/**
+ * Synchronous operation without result executed in an asynchronous way by {@link AsyncOperations}.
+ */
+@FunctionalInterface
+public interface AsyncAction {
+
+	/**
+	 * Executes the operation.
+	 * @throws Exception
+	 */
+	void Execute() throws Exception;
+}
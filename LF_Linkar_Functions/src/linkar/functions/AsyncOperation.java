@@ -0,0 +1,16 @@
+package linkar.functions;
+
+/**
+ * Synchronous operation executed in an asynchronous way by {@link AsyncOperations}.
+ * @param <T> Type of the result of the operation.
+ */
+@FunctionalInterface
+public interface AsyncOperation<T> {
+
+	/**
+	 * Executes the operation.
+	 * @return The result of the operation.
+	 * @throws Exception
+	 */
+	T Execute() throws Exception;
+}
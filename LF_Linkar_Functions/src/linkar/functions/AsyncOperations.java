@@ -0,0 +1,122 @@
+package linkar.functions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Auxiliary static class used by the asynchronous functions to execute the synchronous ones.
+ * <p>
+ * The {@link OperationContext} attached to the thread that starts the asynchronous function is attached to the thread that executes it, inside
+ * a child context that is cancelled when the returned CompletableFuture is cancelled. An operation whose CompletableFuture is cancelled, or whose
+ * context is done, before it starts is never sent to the server.
+ * <p>
+ * By default the operations are executed in the common ForkJoinPool. Another executor can be defined with {@link #setExecutor}.
+ */
+public class AsyncOperations {
+
+	private static volatile Executor DefaultExecutor = ForkJoinPool.commonPool();
+
+	/**
+	 * Returns the executor of the asynchronous functions.
+	 * @return value
+	 */
+	public static Executor getExecutor()
+	{
+		return DefaultExecutor;
+	}
+
+	/**
+	 * Defines the executor of the asynchronous functions.
+	 * @param executor The new executor. If null, the common ForkJoinPool is used.
+	 */
+	public static void setExecutor(Executor executor)
+	{
+		DefaultExecutor = (executor == null ? ForkJoinPool.commonPool() : executor);
+	}
+
+	/**
+	 * Executes an operation in the executor of the asynchronous functions.
+	 * @param operation The synchronous operation.
+	 * @return The CompletableFuture of the result of the operation.
+	 */
+	public static <T> CompletableFuture<T> SupplyAsync(AsyncOperation<T> operation)
+	{
+		return SupplyAsync(operation, DefaultExecutor);
+	}
+
+	/**
+	 * Executes an operation in an executor.
+	 * @param operation The synchronous operation.
+	 * @param executor The executor where the operation is executed.
+	 * @return The CompletableFuture of the result of the operation. When the executor rejects the operation, it is completed with the RejectedExecutionException.
+	 */
+	public static <T> CompletableFuture<T> SupplyAsync(AsyncOperation<T> operation, Executor executor)
+	{
+		OperationContext context = OperationContext.Fork();
+		CompletableFuture<T> future = new CompletableFuture<T>()
+		{
+			@Override
+			public boolean cancel(boolean mayInterruptIfRunning)
+			{
+				context.Cancel();
+				return super.cancel(mayInterruptIfRunning);
+			}
+		};
+		try
+		{
+			executor.execute(() -> {
+				if (future.isDone())
+					return;
+				try
+				{
+					OperationContext.Scope scope = context.Attach();
+					try
+					{
+						context.ThrowIfDone();
+						future.complete(operation.Execute());
+					}
+					finally
+					{
+						scope.close();
+					}
+				}
+				catch (Throwable e)
+				{
+					future.completeExceptionally(e instanceof CompletionException ? e : new CompletionException(e));
+				}
+			});
+		}
+		catch (RejectedExecutionException e)
+		{
+			future.completeExceptionally(new CompletionException(e));
+		}
+		return future;
+	}
+
+	/**
+	 * Executes an operation without result in the executor of the asynchronous functions.
+	 * @param action The synchronous operation.
+	 * @return The CompletableFuture of the end of the operation.
+	 */
+	public static CompletableFuture<Void> RunAsync(AsyncAction action)
+	{
+		return RunAsync(action, DefaultExecutor);
+	}
+
+	/**
+	 * Executes an operation without result in an executor.
+	 * @param action The synchronous operation.
+	 * @param executor The executor where the operation is executed.
+	 * @return The CompletableFuture of the end of the operation.
+	 */
+	public static CompletableFuture<Void> RunAsync(AsyncAction action, Executor executor)
+	{
+		return SupplyAsync(() -> {
+			action.Execute();
+			return null;
+		}, executor);
+	}
+}
@@ -0,0 +1,167 @@
+package linkar.functions;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Object that works as an argument in bulk functions and defines how a large list of records is split in chunks and how these chunks are executed.
+ */
+public class ChunkOptions {
+
+	private int _MaxItems;
+	/**
+	 * Maximum number of records in each chunk. 0 means no limit.
+	 * @return value
+	 */
+	public int getMaxItems()
+	{
+		return this._MaxItems;
+	}
+
+	private int _MaxChars;
+	/**
+	 * Maximum estimated size, in characters, of the buffer of each chunk. 0 means no limit. A record bigger than this size is sent alone in its own chunk.
+	 * @return value
+	 */
+	public int getMaxChars()
+	{
+		return this._MaxChars;
+	}
+
+	private int _Parallelism;
+	/**
+	 * Maximum number of chunks executed at the same time.
+	 * @return value
+	 */
+	public int getParallelism()
+	{
+		return this._Parallelism;
+	}
+
+	private int _MaxRetries;
+	/**
+	 * Number of times that a chunk whose execution has thrown an exception is executed again, with an exponential backoff, before giving it up.
+	 * Errors returned by the database inside the result of a chunk are not retried.
+	 * @return value
+	 */
+	public int getMaxRetries()
+	{
+		return this._MaxRetries;
+	}
+
+	private Executor _Executor;
+	/**
+	 * Executor where the chunks are executed. When it is null, a pool shared by all the bulk operations is used, with up to as many threads as the parallelism for every bulk operation.
+	 * @return value
+	 */
+	public Executor getExecutor()
+	{
+		return this._Executor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @param maxItems		Maximum number of records in each chunk. 0 means no limit.
+	* @param maxChars		Maximum estimated size, in characters, of the buffer of each chunk. 0 means no limit.
+	* @param parallelism	Maximum number of chunks executed at the same time. It must be bigger than 0.
+	* @param maxRetries		Number of times that a chunk whose execution has thrown an exception is executed again. Write operations should only be retried when they are safe to repeat.
+	* @param executor		Executor where the chunks are executed. If null, a pool shared by the bulk operations is used.
+	*/
+	public ChunkOptions(int maxItems, int maxChars, int parallelism, int maxRetries, Executor executor)
+	{
+		this._MaxItems = (maxItems < 0 ? 0 : maxItems);
+		this._MaxChars = (maxChars < 0 ? 0 : maxChars);
+		this._Parallelism = (parallelism < 1 ? 1 : parallelism);
+		this._MaxRetries = (maxRetries < 0 ? 0 : maxRetries);
+		this._Executor = executor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @param maxItems		Maximum number of records in each chunk. 0 means no limit.
+	* @param maxChars		Maximum estimated size, in characters, of the buffer of each chunk. 0 means no limit.
+	* @param parallelism	Maximum number of chunks executed at the same time. It must be bigger than 0.
+	* @param executor		Executor where the chunks are executed. If null, a pool shared by the bulk operations is used.
+	* @custom.note 			The omitted argument with following value:
+	<pre>
+	{@code
+	maxRetries = 0
+	}
+	</pre>
+	*/
+	public ChunkOptions(int maxItems, int maxChars, int parallelism, Executor executor)
+	{
+		this(maxItems, maxChars, parallelism, 0, executor);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @param maxItems		Maximum number of records in each chunk. 0 means no limit.
+	* @param maxChars		Maximum estimated size, in characters, of the buffer of each chunk. 0 means no limit.
+	* @param parallelism	Maximum number of chunks executed at the same time. It must be bigger than 0.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	maxRetries = 0
+	executor = null
+	}
+	</pre>
+	*/
+	public ChunkOptions(int maxItems, int maxChars, int parallelism)
+	{
+		this(maxItems, maxChars, parallelism, 0, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @param maxItems		Maximum number of records in each chunk. 0 means no limit.
+	* @param maxChars		Maximum estimated size, in characters, of the buffer of each chunk. 0 means no limit.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	parallelism = 4
+	maxRetries = 0
+	executor = null
+	}
+	</pre>
+	*/
+	public ChunkOptions(int maxItems, int maxChars)
+	{
+		this(maxItems, maxChars, 4, 0, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @param maxItems		Maximum number of records in each chunk. 0 means no limit.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	maxChars = 0
+	parallelism = 4
+	maxRetries = 0
+	executor = null
+	}
+	</pre>
+	*/
+	public ChunkOptions(int maxItems)
+	{
+		this(maxItems, 0, 4, 0, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ChunkOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxItems = 500
+	maxChars = 0
+	parallelism = 4
+	maxRetries = 0
+	executor = null
+	}
+	</pre>
+	*/
+	public ChunkOptions()
+	{
+		this(500, 0, 4, 0, null);
+	}
+}
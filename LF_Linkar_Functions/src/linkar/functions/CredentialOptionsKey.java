@@ -0,0 +1,32 @@
+package linkar.functions;
+
+import linkar.CredentialOptions;
+
+/**
+ * Auxiliary static class that obtains a key to identify equal credentials, because {@link CredentialOptions} does not define its own equality.
+ */
+public class CredentialOptionsKey {
+
+	/**
+	 * Obtains the key of the credentials, composed with all their data.
+	 * @param credentialOptions The credentials.
+	 * @return A String that is equal for credentials with the same data.
+	 */
+	public static String Get(CredentialOptions credentialOptions)
+	{
+		return credentialOptions.getHost() + ASCII_Chars.US_str + credentialOptions.getPort() + ASCII_Chars.US_str + credentialOptions.getEntryPoint()
+			+ ASCII_Chars.US_str + credentialOptions.getUsername() + ASCII_Chars.US_str + credentialOptions.getPassword()
+			+ ASCII_Chars.US_str + credentialOptions.getLanguage() + ASCII_Chars.US_str + credentialOptions.getFreeText()
+			+ ASCII_Chars.US_str + credentialOptions.getPluginId();
+	}
+
+	/**
+	 * Obtains the key of the server and EntryPoint of the credentials, shared by all the users of the same EntryPoint.
+	 * @param credentialOptions The credentials.
+	 * @return A String that is equal for credentials of the same server and EntryPoint.
+	 */
+	public static String GetEntryPoint(CredentialOptions credentialOptions)
+	{
+		return credentialOptions.getHost() + ":" + credentialOptions.getPort() + "/" + credentialOptions.getEntryPoint();
+	}
+}
@@ -0,0 +1,25 @@
+package linkar.functions;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.Linkar;
+
+/**
+ * Default transport, that sends every operation directly to the Linkar Server with the Linkar library.
+ */
+public class LinkarServerTransport implements LinkarTransport {
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Linkar.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Linkar.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+}
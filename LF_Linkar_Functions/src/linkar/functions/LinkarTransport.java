@@ -0,0 +1,41 @@
+package linkar.functions;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+
+/**
+ * Sends the operations to the Linkar Server. The transport used by all the functions is defined with {@link OperationExecutor#setTransport}.
+ * <p>
+ * Implementations can be decorators that add behaviours (session pooling, load balancing, metrics...) over another transport,
+ * usually the one returned by {@link OperationExecutor#getTransport} when they are installed.
+ */
+public interface LinkarTransport {
+
+	/**
+	 * Executes a direct operation (without establishing permanent session).
+	 * @param credentialOptions Object that defines the necessary data to access to the Linkar Server.
+	 * @param operationCode Code of the operation.
+	 * @param operationArgs Arguments of the operation, composed with {@link OperationArguments}.
+	 * @param inputFormat Input format of the operation.
+	 * @param outputFormat Output format of the operation.
+	 * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. 0 means wait indefinitely.
+	 * @return The raw result of the operation.
+	 * @throws Exception
+	 */
+	String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception;
+
+	/**
+	 * Executes an operation in an established session.
+	 * @param connectionInfo Object with the data of the session.
+	 * @param operationCode Code of the operation.
+	 * @param operationArgs Arguments of the operation, composed with {@link OperationArguments}.
+	 * @param inputFormat Input format of the operation.
+	 * @param outputFormat Output format of the operation.
+	 * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. 0 means wait indefinitely.
+	 * @return The raw result of the operation.
+	 * @throws Exception
+	 */
+	String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception;
+}
@@ -0,0 +1,15 @@
+package linkar.functions;
+
+/**
+ * Phases of the work of the client in an operation, measured by {@link OperationPhases}.
+ */
+public enum OPERATION_PHASE {
+	/** Composition of the arguments of the operation with {@link OperationArguments}. */
+	ARGUMENTS,
+	/** Wait for the answer of the server, from the moment the operation is sent by {@link OperationExecutor}. */
+	TRANSPORT,
+	/** Parsing of the result of the operation, like the LkData classes do. */
+	PARSING,
+	/** Composition of the buffers of the operations from lists of items, like the LkItems class does. */
+	COMPOSITION
+}
@@ -0,0 +1,13 @@
+package linkar.functions;
+
+/**
+ * Priority classes of the operations, defined in the {@link OperationContext}.
+ */
+public enum OPERATION_PRIORITY {
+	/** Operations that a user is waiting for, like the ones of a screen. */
+	INTERACTIVE,
+	/** Default priority of the operations. */
+	NORMAL,
+	/** Background work, like the chunks of the bulk operations. */
+	BULK
+}
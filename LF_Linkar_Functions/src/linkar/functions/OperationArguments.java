@@ -22,6 +22,7 @@ public class OperationArguments {
 	 */
     public static String GetReadArgs(String filename, String recordIds, String dictionaries, ReadOptions readOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (readOptions == null)
             readOptions = new ReadOptions();
 
@@ -29,6 +30,7 @@ public class OperationArguments {
         String inputData = filename + DBMV_Mark.AM + recordIds + DBMV_Mark.AM + dictionaries;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -42,6 +44,7 @@ public class OperationArguments {
      */
     public static String GetUpdateArgs(String filename, String records, UpdateOptions updateOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (updateOptions == null)
             updateOptions = new UpdateOptions();
 
@@ -49,6 +52,7 @@ public class OperationArguments {
         String inputData = filename + DBMV_Mark.AM + records;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
     
@@ -63,6 +67,7 @@ public class OperationArguments {
      */
     public static String GetUpdatePartialArgs(String filename, String records, String dictionaries, UpdateOptions updateOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (updateOptions == null)
             updateOptions = new UpdateOptions();
 
@@ -70,6 +75,7 @@ public class OperationArguments {
         String inputData = filename + DBMV_Mark.AM + records + ASCII_Chars.FS_str + dictionaries;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -83,6 +89,7 @@ public class OperationArguments {
      */
     public static String GetNewArgs(String filename, String records, NewOptions newOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (newOptions == null)
             newOptions = new NewOptions();
 
@@ -90,6 +97,7 @@ public class OperationArguments {
         String inputData = filename + DBMV_Mark.AM + records;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -103,6 +111,7 @@ public class OperationArguments {
      */
     public static String GetDeleteArgs(String filename, String records, DeleteOptions deleteOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (deleteOptions == null)
             deleteOptions = new DeleteOptions();
 
@@ -110,6 +119,7 @@ public class OperationArguments {
         String inputData = filename + DBMV_Mark.AM + records;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -127,6 +137,7 @@ public class OperationArguments {
     public static String GetSelectArgs(String filename, String selectClause, String sortClause, String dictClause, String preSelectClause,
         SelectOptions selectOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (selectOptions == null)
             selectOptions = new SelectOptions();
 
@@ -138,6 +149,7 @@ public class OperationArguments {
             preSelectClause;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -151,12 +163,14 @@ public class OperationArguments {
      */
     public static String GetSubroutineArgs(String subroutineName, int argsNumber, String arguments, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
         String inputData1 = subroutineName + DBMV_Mark.AM_str + argsNumber;
         String inputData2 = arguments;
         String inputData = inputData1 + ASCII_Chars.FS_str + inputData2;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -170,10 +184,12 @@ public class OperationArguments {
      */
     public static String GetConversionArgs(String expression, String code, CONVERSION_TYPE conversionType, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = (conversionType == CONVERSION_TYPE.INPUT ? "I" : "O");
         String inputData = code + ASCII_Chars.FS_str + expression;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -186,10 +202,12 @@ public class OperationArguments {
      */
     public static String GetFormatArgs(String expression, String formatSpec, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
         String inputData = formatSpec + ASCII_Chars.FS_str + expression;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -201,9 +219,11 @@ public class OperationArguments {
      */
     public static String GetDictionariesArgs(String filename, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + filename;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -215,9 +235,11 @@ public class OperationArguments {
      */
     public static String GetExecuteArgs(String statement,String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + statement;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -228,10 +250,12 @@ public class OperationArguments {
      */
     public static String GetSendCommandArgs(String command)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
 
         String customVars = "";
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + command;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -241,9 +265,11 @@ public class OperationArguments {
      */
     public static String GetVersionArgs()
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
 
         String cmdArgs = "" + ASCII_Chars.US_str + options + ASCII_Chars.US_str + "";
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -255,11 +281,13 @@ public class OperationArguments {
      */
     public static String GetLkSchemasArgs(LkSchemasOptions lkSchemasOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (lkSchemasOptions == null)
         	lkSchemasOptions = new LkSchemasOptions();
         String options = lkSchemasOptions.GetString();
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + "";
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -272,11 +300,13 @@ public class OperationArguments {
      */
     public static String GetLkPropertiesArgs(String filename, LkPropertiesOptions lkPropertiesOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (lkPropertiesOptions == null)
         	lkPropertiesOptions = new LkPropertiesOptions();
         String options = lkPropertiesOptions.GetString();
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + filename;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -292,6 +322,7 @@ public class OperationArguments {
      */
     public static String GetGetTableArgs(String filename, String selectClause, String dictClause, String sortClause, TableOptions tableOptions, String customVars)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         if (tableOptions == null)
         	tableOptions = new TableOptions();
         String options = tableOptions.GetString();
@@ -301,6 +332,7 @@ public class OperationArguments {
             sortClause;
 
         String cmdArgs = customVars + ASCII_Chars.US_str + options + ASCII_Chars.US_str + inputData;
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
 
@@ -310,9 +342,99 @@ public class OperationArguments {
      */
     public static String GetResetCommonBlocksArgs()
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.ARGUMENTS);
         String options = "";
 
         String cmdArgs = "" + ASCII_Chars.US_str + options + ASCII_Chars.US_str + "";
+        OperationPhases.End(timer, cmdArgs.length());
         return cmdArgs;
     }
+
+    /**
+     * Obtains, from the 3 items of an operation, the file it works with, or the name of the subroutine in the Subroutine operation.
+     * @param operationCode The code of the operation.
+     * @param operationArgs The 3 items of the operation, as composed by the functions of this class.
+     * @return The name of the file or subroutine, or an empty String for the operations that do not work with a file.
+     */
+    public static String GetFilename(byte operationCode, String operationArgs)
+    {
+        if (operationArgs == null)
+            return "";
+        if (operationCode != OPERATION_CODE.READ.getnumVal() && operationCode != OPERATION_CODE.UPDATE.getnumVal()
+            && operationCode != OPERATION_CODE.UPDATEPARTIAL.getnumVal() && operationCode != OPERATION_CODE.NEW.getnumVal()
+            && operationCode != OPERATION_CODE.DELETE.getnumVal() && operationCode != OPERATION_CODE.SELECT.getnumVal()
+            && operationCode != OPERATION_CODE.GETTABLE.getnumVal() && operationCode != OPERATION_CODE.DICTIONARIES.getnumVal()
+            && operationCode != OPERATION_CODE.LKPROPERTIES.getnumVal() && operationCode != OPERATION_CODE.SUBROUTINE.getnumVal())
+            return "";
+
+        int start = operationArgs.indexOf(ASCII_Chars.US_chr);
+        if (start >= 0)
+            start = operationArgs.indexOf(ASCII_Chars.US_chr, start + 1);
+        if (start < 0)
+            return "";
+        start++;
+        int end = operationArgs.indexOf(DBMV_Mark.AM, start);
+        if (end < 0)
+            end = operationArgs.length();
+        return operationArgs.substring(start, end);
+    }
+
+    /**
+     * Obtains, from the 3 items of an operation, the record ids sent in the Read, Update, UpdatePartial, New and Delete operations.
+     * @param operationCode The code of the operation.
+     * @param operationArgs The 3 items of the operation, as composed by the functions of this class.
+     * @return The record ids separated by the RS char, or an empty String for the other operations.
+     */
+    public static String GetRecordIds(byte operationCode, String operationArgs)
+    {
+        int start = GetRecordIdsStart(operationCode, operationArgs);
+        if (start < 0)
+            return "";
+        int end = start;
+        while (end < operationArgs.length() && operationArgs.charAt(end) != DBMV_Mark.AM && operationArgs.charAt(end) != ASCII_Chars.FS_chr)
+            end++;
+        return operationArgs.substring(start, end);
+    }
+
+    /**
+     * Obtains, from the 3 items of an operation, the number of records sent in the Read, Update, UpdatePartial, New and Delete operations.
+     * @param operationCode The code of the operation.
+     * @param operationArgs The 3 items of the operation, as composed by the functions of this class.
+     * @return The number of record ids, or 0 for the other operations.
+     */
+    public static int GetRecordCount(byte operationCode, String operationArgs)
+    {
+        int start = GetRecordIdsStart(operationCode, operationArgs);
+        if (start < 0)
+            return 0;
+        int count = 0;
+        for (int i = start; i < operationArgs.length(); i++)
+        {
+            char c = operationArgs.charAt(i);
+            if (c == DBMV_Mark.AM || c == ASCII_Chars.FS_chr)
+                break;
+            if (count == 0)
+                count = 1;
+            if (c == ASCII_Chars.RS_chr)
+                count++;
+        }
+        return count;
+    }
+
+    private static int GetRecordIdsStart(byte operationCode, String operationArgs)
+    {
+        if (operationArgs == null)
+            return -1;
+        if (operationCode != OPERATION_CODE.READ.getnumVal() && operationCode != OPERATION_CODE.UPDATE.getnumVal()
+            && operationCode != OPERATION_CODE.UPDATEPARTIAL.getnumVal() && operationCode != OPERATION_CODE.NEW.getnumVal()
+            && operationCode != OPERATION_CODE.DELETE.getnumVal())
+            return -1;
+
+        int start = operationArgs.indexOf(ASCII_Chars.US_chr);
+        if (start >= 0)
+            start = operationArgs.indexOf(ASCII_Chars.US_chr, start + 1);
+        if (start >= 0)
+            start = operationArgs.indexOf(DBMV_Mark.AM, start + 1);
+        return (start < 0 ? -1 : start + 1);
+    }
 }
@@ -0,0 +1,95 @@
+package linkar.functions;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import linkar.LkException;
+
+/**
+ * Auxiliary class that classifies the operation codes by their side effects, and the errors of the operations.
+ */
+public final class OperationCodes {
+
+	private OperationCodes()
+	{ }
+
+	/**
+	 * Indicates if an operation only reads data: READ, SELECT, DICTIONARIES, CONVERSION, FORMAT, VERSION, LKSCHEMAS, LKPROPERTIES and GETTABLE.
+	 * @param operationCode The code of the operation.
+	 * @return true if the operation only reads data.
+	 */
+	public static boolean IsReadOnly(byte operationCode)
+	{
+		return operationCode == OPERATION_CODE.READ.getnumVal()
+			|| operationCode == OPERATION_CODE.SELECT.getnumVal()
+			|| operationCode == OPERATION_CODE.DICTIONARIES.getnumVal()
+			|| operationCode == OPERATION_CODE.CONVERSION.getnumVal()
+			|| operationCode == OPERATION_CODE.FORMAT.getnumVal()
+			|| operationCode == OPERATION_CODE.VERSION.getnumVal()
+			|| operationCode == OPERATION_CODE.LKSCHEMAS.getnumVal()
+			|| operationCode == OPERATION_CODE.LKPROPERTIES.getnumVal()
+			|| operationCode == OPERATION_CODE.GETTABLE.getnumVal();
+	}
+
+	/**
+	 * Indicates if an operation can be repeated without changing its effect: the read-only operations and LOGOUT. LOGIN is not idempotent,
+	 * because a Login whose answer has been lost may have opened a session in the server, and repeating it opens another one.
+	 * @param operationCode The code of the operation.
+	 * @return true if the operation can be repeated.
+	 */
+	public static boolean IsIdempotent(byte operationCode)
+	{
+		return IsReadOnly(operationCode)
+			|| operationCode == OPERATION_CODE.LOGOUT.getnumVal();
+	}
+
+	/**
+	 * Indicates if an operation has been rejected because its session is no longer valid, for example because it has expired in the server.
+	 * <p>
+	 * Linkar.jar reports the errors returned by the server with the code C0003 and the text of the server, so the session errors are recognized
+	 * by the text "Session ID NOT VALID" of the server (the text of the code C0001), and also by the code C0001.
+	 * @param exception The exception thrown by the operation.
+	 * @return true if the session of the operation is not valid.
+	 */
+	public static boolean IsSessionInvalid(LkException exception)
+	{
+		if (exception == null)
+			return false;
+		if (exception.getErrorCode() == LkException.ERRORCODE.C0001)
+			return true;
+		if (exception.getErrorCode() != LkException.ERRORCODE.C0003)
+			return false;
+		return IsSessionInvalidText(exception.getInternalCode()) || IsSessionInvalidText(exception.getInternalMessage())
+			|| IsSessionInvalidText(exception.getMessage());
+	}
+
+	/**
+	 * Indicates if an operation has failed because the server could not be reached or has not answered properly: a connection error, a receive
+	 * timeout, an invalid host or a broken answer. The errors reported by the server, like a locked record or an expired session, and the deadline
+	 * or the cancellation of the operation in the client are not transport failures.
+	 * @param exception The exception thrown by the operation.
+	 * @return true if the operation has failed in the way to the server or back.
+	 */
+	public static boolean IsTransportFailure(Exception exception)
+	{
+		// The receive timeouts and the connection errors are SocketTimeoutException, ConnectException, etc.
+		if (exception instanceof IOException)
+			return true;
+		if (exception instanceof LkException)
+		{
+			LkException lkException = (LkException)exception;
+			return lkException.getErrorCode() != LkException.ERRORCODE.C0003 && !IsSessionInvalid(lkException);
+		}
+		return false;
+	}
+
+	private static boolean IsSessionInvalidText(String text)
+	{
+		if (text == null || text.isEmpty())
+			return false;
+		String upperText = text.toUpperCase(Locale.ROOT);
+		String sessionText = LkException.ErrorsTable.get(LkException.ERRORCODE.C0001);
+		return (sessionText != null && upperText.contains(sessionText.toUpperCase(Locale.ROOT)))
+			|| upperText.contains("SESSION ID NOT VALID") || upperText.contains("INVALID SESSION");
+	}
+}
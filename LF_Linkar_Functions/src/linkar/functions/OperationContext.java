@@ -0,0 +1,278 @@
+package linkar.functions;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Deadline and cancellation shared by all the operations of a composed work, for example the Select, Read and Subroutine operations
+ * executed to attend an HTTP request.
+ * <p>
+ * The context is attached to the current thread with {@link #Attach}. While it is attached, every operation executed with {@link OperationExecutor}
+ * in that thread, and every asynchronous operation started from that thread, takes the receiveTimeout from the remaining time, and is not started
+ * when the deadline has passed or the context has been cancelled. Bulk operations and paginated iterations stop obtaining new chunks and pages
+ * in the same conditions.
+ * <p>
+ * Example:
+ * <pre>
+ * OperationContext context = new OperationContext(5000);
+ * try (OperationContext.Scope scope = context.Attach())
+ * {
+ * 	String ids = Functions.Select(credentials, "LK.ORDERS", "WITH CUSTOMER = 1");
+ * 	String records = Functions.Read(credentials, "LK.ORDERS", ids);
+ * }
+ * </pre>
+ */
+public class OperationContext {
+
+	private static final ThreadLocal<OperationContext> CURRENT = new ThreadLocal<OperationContext>();
+
+	private final OperationContext Parent;
+	private final long Deadline;
+	private final boolean HasDeadline;
+	private final Thread Origin;
+	private volatile boolean Cancelled;
+	private volatile String Tenant;
+	private volatile OPERATION_PRIORITY Priority;
+
+	/**
+	 * Initializes a new instance of the OperationContext class, with a deadline and inside the deadline and the cancellation of a parent context.
+	 * @param parent Parent context. Its cancellation cancels this context too, and its deadline limits the deadline of this context. It can be null.
+	 * @param timeoutMillis Maximum time, in milliseconds from now, for all the operations of the context. 0 or less means without deadline.
+	 */
+	public OperationContext(OperationContext parent, long timeoutMillis)
+	{
+		this(parent, timeoutMillis, null);
+	}
+
+	OperationContext(OperationContext parent, long timeoutMillis, Thread origin)
+	{
+		this.Parent = parent;
+		this.Origin = origin;
+		long deadline = 0;
+		boolean hasDeadline = false;
+		if (timeoutMillis > 0)
+		{
+			deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+			hasDeadline = true;
+		}
+		if (parent != null && parent.HasDeadline && (!hasDeadline || parent.Deadline - deadline < 0))
+		{
+			deadline = parent.Deadline;
+			hasDeadline = true;
+		}
+		this.Deadline = deadline;
+		this.HasDeadline = hasDeadline;
+	}
+
+	/**
+	 * Initializes a new instance of the OperationContext class, with a deadline.
+	 * @param timeoutMillis Maximum time, in milliseconds from now, for all the operations of the context. 0 or less means without deadline.
+	 */
+	public OperationContext(long timeoutMillis)
+	{
+		this(null, timeoutMillis);
+	}
+
+	/**
+	 * Initializes a new instance of the OperationContext class, without deadline. The operations only are stopped by the cancellation.
+	 */
+	public OperationContext()
+	{
+		this(null, 0);
+	}
+
+	/**
+	 * Parent context, whose deadline and cancellation also apply to this context.
+	 * @return The parent context, or null if there is not any.
+	 */
+	public OperationContext getParent()
+	{
+		return this.Parent;
+	}
+
+	/**
+	 * Thread that started the asynchronous or bulk operation of this context, when the operation was started without any context attached. It allows
+	 * identifying the caller of the operations that do not share a context, for example to read its own writes.
+	 * @return The thread, or null if the context has not been created by {@link #Fork} in a thread without context.
+	 */
+	public Thread getOrigin()
+	{
+		return this.Origin;
+	}
+
+	/**
+	 * Creates the context of a work started from the current thread and executed in other threads, for example an asynchronous or bulk operation.
+	 * It is a child of the context attached to the current thread or, when there is not any, a context without deadline whose origin is the current thread.
+	 * @return The new context, not attached to any thread.
+	 */
+	public static OperationContext Fork()
+	{
+		OperationContext current = CURRENT.get();
+		return (current == null ? new OperationContext(null, 0, Thread.currentThread()) : new OperationContext(current, 0));
+	}
+
+	/**
+	 * Returns the context attached to the current thread.
+	 * @return The current context, or null if there is not any.
+	 */
+	public static OperationContext Current()
+	{
+		return CURRENT.get();
+	}
+
+	/**
+	 * Attaches this context to the current thread, until the returned scope is closed.
+	 * @return The scope that restores the previous context of the thread when it is closed.
+	 */
+	public Scope Attach()
+	{
+		OperationContext previous = CURRENT.get();
+		CURRENT.set(this);
+		return new Scope(previous);
+	}
+
+	/**
+	 * Cancels the context. The operations already sent to the server are not interrupted, but no more operations are started.
+	 */
+	public void Cancel()
+	{
+		this.Cancelled = true;
+	}
+
+	/**
+	 * Indicates if the context or any of its parents has been cancelled.
+	 * @return value
+	 */
+	public boolean isCancelled()
+	{
+		return this.Cancelled || (this.Parent != null && this.Parent.isCancelled());
+	}
+
+	/**
+	 * Key of the tenant (customer, application...) on whose behalf the operations of the context are executed, used to isolate the resources of every tenant.
+	 * When it has not been set, the tenant of the parent context.
+	 * @return value
+	 */
+	public String getTenant()
+	{
+		String tenant = this.Tenant;
+		if (tenant == null && this.Parent != null)
+			return this.Parent.getTenant();
+		return tenant;
+	}
+
+	/**
+	 * Sets the key of the tenant on whose behalf the operations of the context are executed.
+	 * @param tenant The key of the tenant.
+	 */
+	public void setTenant(String tenant)
+	{
+		this.Tenant = tenant;
+	}
+
+	/**
+	 * Priority of the operations of the context. When it has not been set, the priority of the parent context, or NORMAL.
+	 * @return value
+	 */
+	public OPERATION_PRIORITY getPriority()
+	{
+		OPERATION_PRIORITY priority = this.Priority;
+		if (priority != null)
+			return priority;
+		return (this.Parent == null ? OPERATION_PRIORITY.NORMAL : this.Parent.getPriority());
+	}
+
+	/**
+	 * Sets the priority of the operations of the context.
+	 * @param priority The priority of the operations.
+	 */
+	public void setPriority(OPERATION_PRIORITY priority)
+	{
+		this.Priority = priority;
+	}
+
+	/**
+	 * Indicates if the context has a deadline.
+	 * @return value
+	 */
+	public boolean hasDeadline()
+	{
+		return this.HasDeadline;
+	}
+
+	/**
+	 * Remaining time until the deadline, in milliseconds. Long.MAX_VALUE if the context has not deadline, 0 or less if the deadline has passed.
+	 * @return value
+	 */
+	public long getRemainingMillis()
+	{
+		if (!this.HasDeadline)
+			return Long.MAX_VALUE;
+		return TimeUnit.NANOSECONDS.toMillis(this.Deadline - System.nanoTime());
+	}
+
+	/**
+	 * Indicates if the deadline has passed or the context has been cancelled.
+	 * @return value
+	 */
+	public boolean isDone()
+	{
+		return isCancelled() || (this.HasDeadline && this.Deadline - System.nanoTime() <= 0);
+	}
+
+	/**
+	 * Throws an exception when the context has been cancelled or its deadline has passed.
+	 * @throws CancellationException When the context has been cancelled.
+	 * @throws TimeoutException When the deadline has passed.
+	 */
+	public void ThrowIfDone() throws TimeoutException
+	{
+		if (isCancelled())
+			throw new CancellationException("The operation context has been cancelled");
+		if (this.HasDeadline && this.Deadline - System.nanoTime() <= 0)
+			throw new TimeoutException("The deadline of the operation context has passed");
+	}
+
+	/**
+	 * Obtains the receiveTimeout of an operation, limited by the remaining time of the context.
+	 * @param receiveTimeout The receiveTimeout of the operation in seconds. 0 means wait indefinitely.
+	 * @return The lowest value between the receiveTimeout and the remaining time, in seconds rounded up.
+	 * @throws CancellationException When the context has been cancelled.
+	 * @throws TimeoutException When the deadline has passed.
+	 */
+	public int GetReceiveTimeout(int receiveTimeout) throws TimeoutException
+	{
+		ThrowIfDone();
+		if (!this.HasDeadline)
+			return receiveTimeout;
+		long remainingSeconds = (getRemainingMillis() + 999) / 1000;
+		if (remainingSeconds < 1)
+			remainingSeconds = 1;
+		if (receiveTimeout > 0 && receiveTimeout <= remainingSeconds)
+			return receiveTimeout;
+		return (int)Math.min(remainingSeconds, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Scope of a context attached to a thread. Closing it restores the previous context of the thread.
+	 */
+	public static final class Scope implements AutoCloseable
+	{
+		private final OperationContext Previous;
+
+		private Scope(OperationContext previous)
+		{
+			this.Previous = previous;
+		}
+
+		@Override
+		public void close()
+		{
+			if (this.Previous == null)
+				CURRENT.remove();
+			else
+				CURRENT.set(this.Previous);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package linkar.functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+
+/**
+ * Auxiliary static class through which all the Linkar Framework functions send their operations to the Linkar Server.
+ * <p>
+ * Before sending every operation, the {@link OperationContext} attached to the current thread is checked: the operation is not sent when the context
+ * has been cancelled or its deadline has passed, and the receiveTimeout is limited to the remaining time of the context.
+ * <p>
+ * The operations are sent by the {@link LinkarTransport} defined with {@link #setTransport}. By default, a {@link LinkarServerTransport}.
+ * <p>
+ * Every operation is notified to the {@link OperationInterceptor} instances registered with {@link #AddInterceptor}. Without interceptors,
+ * no data of the operation is collected.
+ */
+public class OperationExecutor {
+
+	private static final OperationInterceptor[] NO_INTERCEPTORS = new OperationInterceptor[0];
+
+	private static volatile LinkarTransport Transport = new LinkarServerTransport();
+	private static volatile OperationInterceptor[] Interceptors = NO_INTERCEPTORS;
+
+	/**
+	 * Returns the transport that sends the operations to the Linkar Server.
+	 * @return value
+	 */
+	public static LinkarTransport getTransport()
+	{
+		return Transport;
+	}
+
+	/**
+	 * Defines the transport that sends the operations to the Linkar Server, for all the functions.
+	 * @param transport The new transport. If null, the default {@link LinkarServerTransport} is used.
+	 */
+	public static void setTransport(LinkarTransport transport)
+	{
+		Transport = (transport == null ? new LinkarServerTransport() : transport);
+	}
+
+	/**
+	 * Registers an interceptor, called before and after every operation of all the functions.
+	 * @param interceptor The interceptor.
+	 */
+	public static synchronized void AddInterceptor(OperationInterceptor interceptor)
+	{
+		OperationInterceptor[] interceptors = Arrays.copyOf(Interceptors, Interceptors.length + 1);
+		interceptors[interceptors.length - 1] = interceptor;
+		Interceptors = interceptors;
+	}
+
+	/**
+	 * Removes an interceptor registered with {@link #AddInterceptor}.
+	 * @param interceptor The interceptor.
+	 */
+	public static synchronized void RemoveInterceptor(OperationInterceptor interceptor)
+	{
+		ArrayList<OperationInterceptor> interceptors = new ArrayList<OperationInterceptor>(Arrays.asList(Interceptors));
+		if (interceptors.remove(interceptor))
+			Interceptors = interceptors.toArray(NO_INTERCEPTORS);
+	}
+
+	/**
+	 * Executes a direct operation (without establishing permanent session).
+	 * @param credentialOptions Object that defines the necessary data to access to the Linkar Server.
+	 * @param operationCode Code of the operation.
+	 * @param operationArgs Arguments of the operation, composed with {@link OperationArguments}.
+	 * @param inputFormat Input format of the operation.
+	 * @param outputFormat Output format of the operation.
+	 * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. 0 means wait indefinitely.
+	 * @return The raw result of the operation.
+	 * @throws Exception
+	 */
+	public static String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		OperationContext context = OperationContext.Current();
+		if (context != null)
+			receiveTimeout = context.GetReceiveTimeout(receiveTimeout);
+		OperationInterceptor[] interceptors = Interceptors;
+		if (interceptors.length == 0)
+			return SendDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		OperationInfo operation = new OperationInfo(credentialOptions, null, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		Before(interceptors, operation);
+		try
+		{
+			String result = SendDirectOperation(credentialOptions, operationCode, operation.getOperationArgs(), inputFormat, outputFormat, receiveTimeout);
+			operation.End(result, null);
+			return result;
+		}
+		catch (Exception e)
+		{
+			operation.End(null, e);
+			throw e;
+		}
+		finally
+		{
+			After(interceptors, operation);
+		}
+	}
+
+	/**
+	 * Executes an operation in an established session.
+	 * @param connectionInfo Object with the data of the session.
+	 * @param operationCode Code of the operation.
+	 * @param operationArgs Arguments of the operation, composed with {@link OperationArguments}.
+	 * @param inputFormat Input format of the operation.
+	 * @param outputFormat Output format of the operation.
+	 * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. 0 means wait indefinitely.
+	 * @return The raw result of the operation.
+	 * @throws Exception
+	 */
+	public static String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		OperationContext context = OperationContext.Current();
+		if (context != null)
+			receiveTimeout = context.GetReceiveTimeout(receiveTimeout);
+		OperationInterceptor[] interceptors = Interceptors;
+		if (interceptors.length == 0)
+			return SendPersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		OperationInfo operation = new OperationInfo(null, connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		Before(interceptors, operation);
+		try
+		{
+			String result = SendPersistentOperation(connectionInfo, operationCode, operation.getOperationArgs(), inputFormat, outputFormat, receiveTimeout);
+			operation.End(result, null);
+			return result;
+		}
+		catch (Exception e)
+		{
+			operation.End(null, e);
+			throw e;
+		}
+		finally
+		{
+			After(interceptors, operation);
+		}
+	}
+
+	private static String SendDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.TRANSPORT);
+		String result = null;
+		try
+		{
+			result = Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			return result;
+		}
+		finally
+		{
+			OperationPhases.End(timer, (result == null ? 0 : result.length()));
+		}
+	}
+
+	private static String SendPersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.TRANSPORT);
+		String result = null;
+		try
+		{
+			result = Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			return result;
+		}
+		finally
+		{
+			OperationPhases.End(timer, (result == null ? 0 : result.length()));
+		}
+	}
+
+	private static void Before(OperationInterceptor[] interceptors, OperationInfo operation)
+	{
+		for (int i = 0; i < interceptors.length; i++)
+		{
+			try
+			{
+				interceptors[i].Before(operation);
+			}
+			catch (RuntimeException e)
+			{ }
+		}
+	}
+
+	private static void After(OperationInterceptor[] interceptors, OperationInfo operation)
+	{
+		for (int i = interceptors.length - 1; i >= 0; i--)
+		{
+			try
+			{
+				interceptors[i].After(operation);
+			}
+			catch (RuntimeException e)
+			{ }
+		}
+	}
+}
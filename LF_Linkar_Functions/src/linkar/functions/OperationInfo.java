@@ -0,0 +1,232 @@
+package linkar.functions;
+
+import java.util.HashMap;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+
+/**
+ * Data of an operation sent through {@link OperationExecutor}, received by the {@link OperationInterceptor} instances before and after it.
+ */
+public class OperationInfo {
+
+	private static final String[] OPERATION_NAMES = new String[256];
+	static
+	{
+		for (OPERATION_CODE operationCode : OPERATION_CODE.values())
+			OPERATION_NAMES[operationCode.getnumVal() & 0xFF] = operationCode.name();
+	}
+
+	private final CredentialOptions CredentialOptions;
+	private final ConnectionInfo ConnectionInfo;
+	private final byte OperationCode;
+	private String OperationArgs;
+	private final byte InputFormat;
+	private final byte OutputFormat;
+	private final int ReceiveTimeout;
+	private final long StartTime;
+	private long Duration;
+	private String Result;
+	private Exception Exception;
+	private String Filename;
+	private HashMap<String, Object> Attributes;
+
+	OperationInfo(CredentialOptions credentialOptions, ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout)
+	{
+		this.CredentialOptions = credentialOptions;
+		this.ConnectionInfo = connectionInfo;
+		this.OperationCode = operationCode;
+		this.OperationArgs = operationArgs;
+		this.InputFormat = inputFormat;
+		this.OutputFormat = outputFormat;
+		this.ReceiveTimeout = receiveTimeout;
+		this.StartTime = System.nanoTime();
+	}
+
+	void End(String result, Exception exception)
+	{
+		this.Duration = System.nanoTime() - this.StartTime;
+		this.Result = result;
+		this.Exception = exception;
+	}
+
+	/**
+	 * Indicates if the operation is executed in an established session.
+	 * @return value
+	 */
+	public boolean isPersistent()
+	{
+		return this.ConnectionInfo != null;
+	}
+
+	/**
+	 * Credentials of the operation: the ones of the direct operation, or the ones used in the Login of the session.
+	 * @return value
+	 */
+	public CredentialOptions getCredentialOptions()
+	{
+		return (this.ConnectionInfo != null ? this.ConnectionInfo.getCredentialOptions() : this.CredentialOptions);
+	}
+
+	/**
+	 * Data of the session of a persistent operation, or null in a direct operation.
+	 * @return value
+	 */
+	public ConnectionInfo getConnectionInfo()
+	{
+		return this.ConnectionInfo;
+	}
+
+	/**
+	 * Identifier of the session of a persistent operation, or an empty String.
+	 * @return value
+	 */
+	public String getSessionId()
+	{
+		return (this.ConnectionInfo == null ? "" : this.ConnectionInfo.getSessionId());
+	}
+
+	/**
+	 * Code of the operation.
+	 * @return value
+	 */
+	public byte getOperationCode()
+	{
+		return this.OperationCode;
+	}
+
+	/**
+	 * Name of the code of the operation, like READ or SUBROUTINE.
+	 * @return value
+	 */
+	public String getOperationName()
+	{
+		String name = OPERATION_NAMES[this.OperationCode & 0xFF];
+		return (name == null ? String.valueOf(this.OperationCode & 0xFF) : name);
+	}
+
+	/**
+	 * File of the operation, the subroutine name in the Subroutine operation, or an empty String.
+	 * @return value
+	 */
+	public String getFilename()
+	{
+		if (this.Filename == null)
+			this.Filename = OperationArguments.GetFilename(this.OperationCode, this.OperationArgs);
+		return this.Filename;
+	}
+
+	/**
+	 * Arguments of the operation, composed with {@link OperationArguments}.
+	 * @return value
+	 */
+	public String getOperationArgs()
+	{
+		return this.OperationArgs;
+	}
+
+	/**
+	 * Replaces the arguments of the operation. Only has effect in {@link OperationInterceptor#Before}.
+	 * @param operationArgs The new arguments, for example with a correlation id added to the CUSTOMVARS item.
+	 */
+	public void setOperationArgs(String operationArgs)
+	{
+		this.OperationArgs = operationArgs;
+		this.Filename = null;
+	}
+
+	/**
+	 * Size of the arguments of the operation in characters.
+	 * @return value
+	 */
+	public int getArgsLength()
+	{
+		return (this.OperationArgs == null ? 0 : this.OperationArgs.length());
+	}
+
+	/**
+	 * Input format of the operation.
+	 * @return value
+	 */
+	public byte getInputFormat()
+	{
+		return this.InputFormat;
+	}
+
+	/**
+	 * Output format of the operation.
+	 * @return value
+	 */
+	public byte getOutputFormat()
+	{
+		return this.OutputFormat;
+	}
+
+	/**
+	 * Maximum time in seconds to wait for the answer of the server, after the limit of the {@link OperationContext}. 0 means wait indefinitely.
+	 * @return value
+	 */
+	public int getReceiveTimeout()
+	{
+		return this.ReceiveTimeout;
+	}
+
+	/**
+	 * Value of System.nanoTime when the operation started.
+	 * @return value
+	 */
+	public long getStartTime()
+	{
+		return this.StartTime;
+	}
+
+	/**
+	 * Duration of the operation in nanoseconds. 0 before the end of the operation.
+	 * @return value
+	 */
+	public long getDuration()
+	{
+		return this.Duration;
+	}
+
+	/**
+	 * Result of the operation, or null before its end or when it has thrown an exception.
+	 * @return value
+	 */
+	public String getResult()
+	{
+		return this.Result;
+	}
+
+	/**
+	 * Exception thrown by the operation, or null.
+	 * @return value
+	 */
+	public Exception getException()
+	{
+		return this.Exception;
+	}
+
+	/**
+	 * Obtains a value stored by an interceptor, for example its tracing span.
+	 * @param name The name of the value.
+	 * @return The value, or null.
+	 */
+	public Object getAttribute(String name)
+	{
+		return (this.Attributes == null ? null : this.Attributes.get(name));
+	}
+
+	/**
+	 * Stores a value, to be obtained later in the same or other interceptor.
+	 * @param name The name of the value.
+	 * @param value The value.
+	 */
+	public void setAttribute(String name, Object value)
+	{
+		if (this.Attributes == null)
+			this.Attributes = new HashMap<String, Object>();
+		this.Attributes.put(name, value);
+	}
+}
@@ -0,0 +1,23 @@
+package linkar.functions;
+
+/**
+ * Observer of the operations sent through {@link OperationExecutor}, registered with {@link OperationExecutor#AddInterceptor}, for example
+ * to start and end tracing spans or to add correlation ids.
+ * <p>
+ * Before is called for every interceptor in the order they were registered, and After in the reverse order, also when the operation
+ * throws an exception. The exceptions thrown by the interceptors are ignored, so they never change the result of the operation.
+ */
+public interface OperationInterceptor {
+
+	/**
+	 * Called before the operation is sent. The arguments of the operation can be replaced with {@link OperationInfo#setOperationArgs}.
+	 * @param operation The data of the operation.
+	 */
+	void Before(OperationInfo operation);
+
+	/**
+	 * Called after the operation has ended, with its result or exception, and its duration.
+	 * @param operation The data of the operation.
+	 */
+	void After(OperationInfo operation);
+}
@@ -0,0 +1,109 @@
+package linkar.functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Auxiliary static class that measures the phases of the work of the client: composition of arguments, wait for the server, parsing of results
+ * and composition of buffers, and notifies them to the {@link PhaseListener} instances registered with {@link #AddListener}.
+ * <p>
+ * Without listeners, measuring a phase costs a single read of a volatile field.
+ * <p>
+ * Example of a measured phase:
+ * <pre>
+ * PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.PARSING);
+ * ...
+ * OperationPhases.End(timer, result.length());
+ * </pre>
+ */
+public class OperationPhases {
+
+	private static final PhaseListener[] NO_LISTENERS = new PhaseListener[0];
+
+	private static volatile PhaseListener[] Listeners = NO_LISTENERS;
+
+	/**
+	 * Registers a listener, notified of the phases of all the operations.
+	 * @param listener The listener.
+	 */
+	public static synchronized void AddListener(PhaseListener listener)
+	{
+		PhaseListener[] listeners = Arrays.copyOf(Listeners, Listeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+		Listeners = listeners;
+	}
+
+	/**
+	 * Removes a listener registered with {@link #AddListener}.
+	 * @param listener The listener.
+	 */
+	public static synchronized void RemoveListener(PhaseListener listener)
+	{
+		ArrayList<PhaseListener> listeners = new ArrayList<PhaseListener>(Arrays.asList(Listeners));
+		if (listeners.remove(listener))
+			Listeners = listeners.toArray(NO_LISTENERS);
+	}
+
+	/**
+	 * Starts the measure of a phase in the current thread.
+	 * @param phase The phase.
+	 * @return The timer of the phase, or null when there are no listeners.
+	 */
+	public static PhaseTimer Begin(OPERATION_PHASE phase)
+	{
+		PhaseListener[] listeners = Listeners;
+		if (listeners.length == 0)
+			return null;
+		Object[] states = new Object[listeners.length];
+		for (int i = 0; i < listeners.length; i++)
+		{
+			try
+			{
+				states[i] = listeners[i].Begin(phase);
+			}
+			catch (RuntimeException e)
+			{ }
+		}
+		return new PhaseTimer(phase, listeners, states);
+	}
+
+	/**
+	 * Ends the measure of a phase, and notifies it to the listeners that were registered when it started.
+	 * @param timer The timer returned by {@link #Begin}. If null, nothing is done.
+	 * @param chars The number of characters composed, received or parsed in the phase.
+	 */
+	public static void End(PhaseTimer timer, int chars)
+	{
+		if (timer == null)
+			return;
+		long nanos = System.nanoTime() - timer.Start;
+		for (int i = timer.Listeners.length - 1; i >= 0; i--)
+		{
+			try
+			{
+				timer.Listeners[i].End(timer.Phase, timer.States[i], nanos, chars);
+			}
+			catch (RuntimeException e)
+			{ }
+		}
+	}
+
+	/**
+	 * Measure of a phase in progress, returned by {@link OperationPhases#Begin}.
+	 */
+	public static final class PhaseTimer
+	{
+		final OPERATION_PHASE Phase;
+		final PhaseListener[] Listeners;
+		final Object[] States;
+		final long Start;
+
+		PhaseTimer(OPERATION_PHASE phase, PhaseListener[] listeners, Object[] states)
+		{
+			this.Phase = phase;
+			this.Listeners = listeners;
+			this.States = states;
+			this.Start = System.nanoTime();
+		}
+	}
+}
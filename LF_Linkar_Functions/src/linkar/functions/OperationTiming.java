@@ -0,0 +1,218 @@
+package linkar.functions;
+
+import java.util.Locale;
+
+/**
+ * Breakdown of the time of an operation between the client and the server: composition of the arguments and buffers, wait in the transport,
+ * and parsing of the result. It tells if a slow operation is slow on the wire or in the client.
+ * <p>
+ * The breakdown is collected per thread while it is enabled with {@link #setEnabled}: a new breakdown starts with the first phase after the
+ * wait for the server of the previous operation. The LkData result classes keep the breakdown of the operation whose result they parse.
+ * Asynchronous operations only collect the phases executed in each thread.
+ * <p>
+ * Example:
+ * <pre>
+ * OperationTiming.setEnabled(true);
+ * LkDataCRUD result = new LkDataCRUD(Functions.Read(credentials, "LK.ORDERS", ids));
+ * OperationTiming timing = result.getTiming();
+ * </pre>
+ */
+public class OperationTiming {
+
+	private static final ThreadLocal<OperationTiming> CURRENT = new ThreadLocal<OperationTiming>();
+	private static final PhaseListener LISTENER = new PhaseListener() {
+		@Override
+		public Object Begin(OPERATION_PHASE phase)
+		{
+			return null;
+		}
+
+		@Override
+		public void End(OPERATION_PHASE phase, Object state, long nanos, int chars)
+		{
+			OperationTiming timing = CURRENT.get();
+			if (timing == null || (timing.TransportDone && phase != OPERATION_PHASE.PARSING))
+			{
+				timing = new OperationTiming();
+				CURRENT.set(timing);
+			}
+			timing.Add(phase, nanos, chars);
+		}
+	};
+	private static boolean Enabled;
+
+	private long ArgumentsNanos;
+	private long TransportNanos;
+	private long ParsingNanos;
+	private long CompositionNanos;
+	private long RequestChars;
+	private long ResponseChars;
+	private long ParsedChars;
+	private boolean TransportDone;
+
+	private OperationTiming()
+	{ }
+
+	private OperationTiming(OperationTiming timing)
+	{
+		this.ArgumentsNanos = timing.ArgumentsNanos;
+		this.TransportNanos = timing.TransportNanos;
+		this.ParsingNanos = timing.ParsingNanos;
+		this.CompositionNanos = timing.CompositionNanos;
+		this.RequestChars = timing.RequestChars;
+		this.ResponseChars = timing.ResponseChars;
+		this.ParsedChars = timing.ParsedChars;
+		this.TransportDone = timing.TransportDone;
+	}
+
+	/**
+	 * Enables or disables the collection of the breakdown in all the threads.
+	 * @param enabled True to collect the breakdown.
+	 */
+	public static synchronized void setEnabled(boolean enabled)
+	{
+		if (enabled == Enabled)
+			return;
+		if (enabled)
+			OperationPhases.AddListener(LISTENER);
+		else
+		{
+			OperationPhases.RemoveListener(LISTENER);
+			CURRENT.remove();
+		}
+		Enabled = enabled;
+	}
+
+	/**
+	 * Indicates if the collection of the breakdown is enabled.
+	 * @return value
+	 */
+	public static synchronized boolean isEnabled()
+	{
+		return Enabled;
+	}
+
+	/**
+	 * Obtains a copy of the breakdown of the last operation of the current thread.
+	 * @return The breakdown, or null if it is not enabled or no operation has been executed yet.
+	 */
+	public static OperationTiming Current()
+	{
+		OperationTiming timing = CURRENT.get();
+		return (timing == null ? null : new OperationTiming(timing));
+	}
+
+	private void Add(OPERATION_PHASE phase, long nanos, int chars)
+	{
+		switch (phase)
+		{
+			case ARGUMENTS:
+				this.ArgumentsNanos += nanos;
+				this.RequestChars += chars;
+				break;
+			case TRANSPORT:
+				this.TransportNanos += nanos;
+				this.ResponseChars += chars;
+				this.TransportDone = true;
+				break;
+			case PARSING:
+				this.ParsingNanos += nanos;
+				this.ParsedChars += chars;
+				break;
+			case COMPOSITION:
+				this.CompositionNanos += nanos;
+				break;
+		}
+	}
+
+	/**
+	 * Time spent composing the arguments of the operation with {@link OperationArguments}, in nanoseconds.
+	 * @return value
+	 */
+	public long getArgumentsNanos()
+	{
+		return this.ArgumentsNanos;
+	}
+
+	/**
+	 * Time blocked in the transport waiting for the answer of the server, in nanoseconds.
+	 * @return value
+	 */
+	public long getTransportNanos()
+	{
+		return this.TransportNanos;
+	}
+
+	/**
+	 * Time spent parsing the result of the operation, in nanoseconds.
+	 * @return value
+	 */
+	public long getParsingNanos()
+	{
+		return this.ParsingNanos;
+	}
+
+	/**
+	 * Time spent composing the buffers of the records from lists of items, in nanoseconds.
+	 * @return value
+	 */
+	public long getCompositionNanos()
+	{
+		return this.CompositionNanos;
+	}
+
+	/**
+	 * Time spent in the client: composition of arguments and buffers, and parsing of the result, in nanoseconds.
+	 * @return value
+	 */
+	public long getClientNanos()
+	{
+		return this.ArgumentsNanos + this.ParsingNanos + this.CompositionNanos;
+	}
+
+	/**
+	 * Size of the arguments of the operation in characters.
+	 * @return value
+	 */
+	public long getRequestChars()
+	{
+		return this.RequestChars;
+	}
+
+	/**
+	 * Size of the result of the operation in characters.
+	 * @return value
+	 */
+	public long getResponseChars()
+	{
+		return this.ResponseChars;
+	}
+
+	/**
+	 * Characters parsed from the result of the operation.
+	 * @return value
+	 */
+	public long getParsedChars()
+	{
+		return this.ParsedChars;
+	}
+
+	/**
+	 * Characters of the result parsed per millisecond.
+	 * @return value, or 0 if nothing has been parsed.
+	 */
+	public double getParsedCharsPerMillisecond()
+	{
+		if (this.ParsingNanos <= 0)
+			return 0;
+		return this.ParsedChars * 1e6 / this.ParsingNanos;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(Locale.ROOT, "arguments=%.3fms transport=%.3fms parsing=%.3fms composition=%.3fms parsedChars=%d (%.1f chars/ms)",
+			this.ArgumentsNanos / 1e6, this.TransportNanos / 1e6, this.ParsingNanos / 1e6, this.CompositionNanos / 1e6,
+			this.ParsedChars, getParsedCharsPerMillisecond());
+	}
+}
@@ -0,0 +1,23 @@
+package linkar.functions;
+
+/**
+ * Observer of the phases of the work of the client, registered with {@link OperationPhases#AddListener}.
+ */
+public interface PhaseListener {
+
+	/**
+	 * Called when a phase starts, in the thread that executes it.
+	 * @param phase The phase.
+	 * @return A state that will be received in {@link #End}, or null.
+	 */
+	Object Begin(OPERATION_PHASE phase);
+
+	/**
+	 * Called when a phase ends, in the same thread where it started.
+	 * @param phase The phase.
+	 * @param state The state returned by {@link #Begin}.
+	 * @param nanos The duration of the phase in nanoseconds.
+	 * @param chars The number of characters composed, received or parsed in the phase.
+	 */
+	void End(OPERATION_PHASE phase, Object state, long nanos, int chars);
+}
@@ -0,0 +1,86 @@
+package linkar.functions;
+
+/**
+ * Object that works as an argument in the persistent LinkarClient and defines how its session is kept alive and recovered when it expires in the server.
+ */
+public class SessionKeepAliveOptions {
+
+	private long _KeepAliveInterval;
+	/**
+	 * Time in milliseconds without operations after which the session is pinged with a GetVersion operation, so it does not expire in the server.
+	 * It should be lower than half of the session timeout of the server. 0 means the session is never pinged.
+	 * @return value
+	 */
+	public long getKeepAliveInterval()
+	{
+		return this._KeepAliveInterval;
+	}
+
+	private long _SessionTimeout;
+	/**
+	 * Time in milliseconds without operations after which the session is known to be expired in the server, so a new Login is done before the
+	 * next operation, without waiting for the server to reject it. 0 means the session is only renewed when the server rejects it.
+	 * @return value
+	 */
+	public long getSessionTimeout()
+	{
+		return this._SessionTimeout;
+	}
+
+	private boolean _ReLogin;
+	/**
+	 * When the server rejects an operation because the session has expired, a new Login is done with the same credentials, and the operation
+	 * is executed again if it can be repeated without changing its effect (READ, SELECT and the rest of read-only operations).
+	 * Other operations throw the rejection after the new Login.
+	 * @return value
+	 */
+	public boolean getReLogin()
+	{
+		return this._ReLogin;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionKeepAliveOptions} class.
+	* @param keepAliveInterval	Time in milliseconds without operations after which the session is pinged. 0 means never.
+	* @param sessionTimeout		Time in milliseconds without operations after which the session is renewed before the next operation. 0 means only when the server rejects it.
+	* @param reLogin			A new Login is done, and the read-only operations are executed again, when the server rejects an operation because the session has expired.
+	*/
+	public SessionKeepAliveOptions(long keepAliveInterval, long sessionTimeout, boolean reLogin)
+	{
+		this._KeepAliveInterval = (keepAliveInterval < 0 ? 0 : keepAliveInterval);
+		this._SessionTimeout = (sessionTimeout < 0 ? 0 : sessionTimeout);
+		this._ReLogin = reLogin;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionKeepAliveOptions} class.
+	* @param keepAliveInterval	Time in milliseconds without operations after which the session is pinged. 0 means never.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	sessionTimeout = 0
+	reLogin = true
+	}
+	</pre>
+	*/
+	public SessionKeepAliveOptions(long keepAliveInterval)
+	{
+		this(keepAliveInterval, 0, true);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionKeepAliveOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	keepAliveInterval = 0
+	sessionTimeout = 0
+	reLogin = true
+	}
+	</pre>
+	*/
+	public SessionKeepAliveOptions()
+	{
+		this(0, 0, true);
+	}
+}
@@ -0,0 +1,69 @@
+package linkar.functions;
+
+/**
+ * Object that works as an argument in the persistent LinkarClient and defines the queue where its asynchronous operations wait to be executed in the session.
+ */
+public class SessionQueueOptions {
+
+	private int _MaxQueued;
+	/**
+	 * Maximum number of asynchronous operations waiting in the queue of the session.
+	 * @return value
+	 */
+	public int getMaxQueued()
+	{
+		return this._MaxQueued;
+	}
+
+	private long _MaxWaitTime;
+	/**
+	 * Maximum time in milliseconds that the thread that starts an asynchronous operation is blocked while the queue is full. After it, the
+	 * CompletableFuture of the operation is completed with a RejectedExecutionException. 0 means the operation is rejected at once.
+	 * @return value
+	 */
+	public long getMaxWaitTime()
+	{
+		return this._MaxWaitTime;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionQueueOptions} class.
+	* @param maxQueued		Maximum number of asynchronous operations waiting in the queue of the session. It must be bigger than 0.
+	* @param maxWaitTime	Maximum time in milliseconds that the thread that starts an asynchronous operation is blocked while the queue is full. 0 means rejected at once.
+	*/
+	public SessionQueueOptions(int maxQueued, long maxWaitTime)
+	{
+		this._MaxQueued = (maxQueued < 1 ? 1 : maxQueued);
+		this._MaxWaitTime = (maxWaitTime < 0 ? 0 : maxWaitTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionQueueOptions} class.
+	* @param maxQueued	Maximum number of asynchronous operations waiting in the queue of the session. It must be bigger than 0.
+	* @custom.note 		The omitted argument with following value:
+	<pre>
+	{@code
+	maxWaitTime = 0
+	}
+	</pre>
+	*/
+	public SessionQueueOptions(int maxQueued)
+	{
+		this(maxQueued, 0);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionQueueOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxQueued = 1000
+	maxWaitTime = 0
+	}
+	</pre>
+	*/
+	public SessionQueueOptions()
+	{
+		this(1000, 0);
+	}
+}
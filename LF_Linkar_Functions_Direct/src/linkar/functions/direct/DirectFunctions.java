@@ -32,7 +32,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.READ.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, readArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, readArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -162,7 +162,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.UPDATE.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -311,7 +311,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.UPDATEPARTIAL.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -479,7 +479,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.NEW.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, newArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, newArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -603,7 +603,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.DELETE.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, deleteArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, deleteArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -758,7 +758,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.SELECT.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, selectArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, selectArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -968,7 +968,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.SUBROUTINE.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, subroutineArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, subroutineArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1060,7 +1060,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.CONVERSION.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, conversionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, conversionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1133,7 +1133,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.FORMAT.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, formatArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, formatArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1202,7 +1202,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.DICTIONARIES.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, dictionariesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, dictionariesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1268,7 +1268,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.EXECUTE.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, executeArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, executeArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1361,7 +1361,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.VERSION.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, versionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, versionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1459,7 +1459,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.LKSCHEMAS.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, lkSchemasArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, lkSchemasArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1572,7 +1572,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.LKPROPERTIES.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, lkPropertiesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, lkPropertiesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1690,7 +1690,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.GETTABLE.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = DATAFORMAT_TYPE.MV.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, getTableArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, getTableArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1841,7 +1841,7 @@ public class DirectFunctions {
             byte opCode = OPERATION_CODE.RESETCOMMONBLOCKS.getnumVal();
             byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecuteDirectOperation(credentialOptions, opCode, resetCommonBlocksArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = OperationExecutor.ExecuteDirectOperation(credentialOptions, opCode, resetCommonBlocksArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         
@@ -1,7 +1,6 @@
 package linkar.functions.direct.json;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -3119,13 +3118,7 @@ public class Functions
     public static CompletableFuture<String> ReadAsync(CredentialOptions credentialOptions, String filename, String records, String dictionaries, ReadOptions readOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     { 	   	
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, jsonFormat, customVars, receiveTimeout));
     }
     
 	/**
@@ -3432,13 +3425,7 @@ public class Functions
     public static CompletableFuture<String> UpdateAsync(CredentialOptions credentialOptions, String filename, String records, UpdateOptions updateOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Update(credentialOptions, filename, records, updateOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Update(credentialOptions, filename, records, updateOptions, jsonFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -3729,13 +3716,7 @@ public class Functions
     public static CompletableFuture<String> UpdatePartialAsync(CredentialOptions credentialOptions, String filename, String records, UpdateOptions updateOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.UpdatePartial(credentialOptions, filename, records, updateOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.UpdatePartial(credentialOptions, filename, records, updateOptions, jsonFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4015,13 +3996,7 @@ public class Functions
     public static CompletableFuture<String> NewAsync(CredentialOptions credentialOptions, String filename, String records, NewOptions newOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.New(credentialOptions, filename, records, newOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.New(credentialOptions, filename, records, newOptions, jsonFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4291,13 +4266,7 @@ public class Functions
     public static CompletableFuture<String> DeleteAsync(CredentialOptions credentialOptions, String filename, String records, DeleteOptions deleteOptions,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -4516,13 +4485,7 @@ public class Functions
     public static CompletableFuture<String> SelectAsync(CredentialOptions credentialOptions, String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, jsonFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4956,13 +4919,7 @@ public class Functions
     public static CompletableFuture<String> SubroutineAsync(CredentialOptions credentialOptions, String subroutineName, int argsNumber, String arguments,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout));
     }
     
     /**
@@ -5110,13 +5067,7 @@ public class Functions
     public static CompletableFuture<String> ConversionAsync(CredentialOptions credentialOptions, CONVERSION_TYPE conversionType, String expression, String code,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout));
     }
     
     /**
@@ -5236,13 +5187,7 @@ public class Functions
     public static CompletableFuture<String> FormatAsync(CredentialOptions credentialOptions, String expression, String formatSpec,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout));
     }
     
     /**
@@ -5359,13 +5304,7 @@ public class Functions
     public static CompletableFuture<String> DictionariesAsync(CredentialOptions credentialOptions, String filename,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout));
     }
     
     /**
@@ -5480,13 +5419,7 @@ public class Functions
     public static CompletableFuture<String> ExecuteAsync(CredentialOptions credentialOptions, String statement,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Execute(credentialOptions, statement, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Execute(credentialOptions, statement, customVars, receiveTimeout));
     }
     
     /**
@@ -5620,13 +5553,7 @@ public class Functions
      */
     public static CompletableFuture<String> GetVersionAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.GetVersion(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.GetVersion(credentialOptions, receiveTimeout));
     }
     
     /**
@@ -5725,13 +5652,7 @@ public class Functions
     public static CompletableFuture<String> LkSchemasAsync(CredentialOptions credentialOptions, LkSchemasOptions lkSchemasOptions,
          String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -5886,13 +5807,7 @@ public class Functions
     public static CompletableFuture<String> LkPropertiesAsync(CredentialOptions credentialOptions, String filename, LkPropertiesOptions lkPropertiesOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, jsonFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, jsonFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -6085,13 +6000,7 @@ public class Functions
      */
     public static CompletableFuture<String> ResetCommonBlocksAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.ResetCommonBlocks(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.ResetCommonBlocks(credentialOptions, receiveTimeout));
     }
     
     /**
@@ -1,7 +1,6 @@
 package linkar.functions.direct.mv;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -2542,13 +2541,7 @@ public class Functions
     public static CompletableFuture<String> ReadAsync(CredentialOptions credentialOptions, String filename, String records, String dictionaries, ReadOptions readOptions,
         String customVars, int receiveTimeout) throws Exception
     { 	
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, customVars, receiveTimeout));
     }
     
 	/**
@@ -2760,13 +2753,7 @@ public class Functions
     public static CompletableFuture<String> UpdateAsync(CredentialOptions credentialOptions, String filename, String records, UpdateOptions updateOptions,
         String customVars, int receiveTimeout)
     {       
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Update(credentialOptions, filename, records, updateOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Update(credentialOptions, filename, records, updateOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -2956,13 +2943,7 @@ public class Functions
     public static CompletableFuture<String> UpdatePartialAsync(CredentialOptions credentialOptions, String filename, String records, String dictionaries, UpdateOptions updateOptions,
         String customVars, int receiveTimeout)
     {       
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.UpdatePartial(credentialOptions, filename, records, dictionaries, updateOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.UpdatePartial(credentialOptions, filename, records, dictionaries, updateOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -3149,13 +3130,7 @@ public class Functions
     public static CompletableFuture<String> NewAsync(CredentialOptions credentialOptions, String filename, String records, NewOptions newOptions,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.New(credentialOptions, filename, records, newOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.New(credentialOptions, filename, records, newOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -3330,13 +3305,7 @@ public class Functions
     public static CompletableFuture<String> DeleteAsync(CredentialOptions credentialOptions, String filename, String records, DeleteOptions deleteOptions,
     String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -3531,13 +3500,7 @@ public class Functions
     public static CompletableFuture<String> SelectAsync(CredentialOptions credentialOptions, String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
     String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -3905,13 +3868,7 @@ public class Functions
     public static CompletableFuture<String> SubroutineAsync(CredentialOptions credentialOptions, String subroutineName, int argsNumber, String arguments,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout));
     }
     
     /**
@@ -4032,13 +3989,7 @@ public class Functions
     public static CompletableFuture<String> ConversionAsync(CredentialOptions credentialOptions, CONVERSION_TYPE conversionType, String expression, String code,
             String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout));
     }
     
     /**
@@ -4158,13 +4109,7 @@ public class Functions
     public static CompletableFuture<String> FormatAsync(CredentialOptions credentialOptions, String expression, String formatSpec,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout));
     }
     
     /**
@@ -4281,13 +4226,7 @@ public class Functions
     public static CompletableFuture<String> DictionariesAsync(CredentialOptions credentialOptions, String filename,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout));
     }
     
     /**
@@ -4402,13 +4341,7 @@ public class Functions
     public static CompletableFuture<String> ExecuteAsync(CredentialOptions credentialOptions, String statement,
         String customVars, int receiveTimeout)
     {
-    	return  CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Execute(credentialOptions, statement, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Execute(credentialOptions, statement, customVars, receiveTimeout));
     }
     
     /**
@@ -4542,13 +4475,7 @@ public class Functions
 	 */
     public static CompletableFuture<String> GetVersionAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.GetVersion(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.GetVersion(credentialOptions, receiveTimeout));
     }
     
 	/**
@@ -4647,13 +4574,7 @@ public class Functions
     public static CompletableFuture<String> LkSchemasAsync(CredentialOptions credentialOptions, LkSchemasOptions lkSchemasOptions,
          String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -4807,13 +4728,7 @@ public class Functions
     public static CompletableFuture<String> LkPropertiesAsync(CredentialOptions credentialOptions, String filename, LkPropertiesOptions lkPropertiesOptions,
     String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -4965,13 +4880,7 @@ public class Functions
      */
     public static CompletableFuture<String> ResetCommonBlocksAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.ResetCommonBlocks(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.ResetCommonBlocks(credentialOptions, receiveTimeout));
     }
     
     /**
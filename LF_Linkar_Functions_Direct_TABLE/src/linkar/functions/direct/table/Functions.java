@@ -1,9 +1,9 @@
 package linkar.functions.direct.table;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
+import linkar.functions.AsyncOperations;
 import linkar.functions.DATAFORMATSCH_TYPE;
 import linkar.functions.DATAFORMATSCHPROP_TYPE;
 import linkar.functions.LkPropertiesOptions;
@@ -775,13 +775,7 @@ public class Functions {
     public static CompletableFuture<String> LkSchemasAsync(CredentialOptions credentialOptions, LkSchemasOptions lkSchemasOptions,
          String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -963,13 +957,7 @@ public class Functions {
     public static CompletableFuture<String> LkPropertiesAsync(CredentialOptions credentialOptions, String filename, LkPropertiesOptions lkPropertiesOptions,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -1157,13 +1145,7 @@ public class Functions {
     public static CompletableFuture<String> GetTableAsync(CredentialOptions credentialOptions, String filename, String selectClause, String dictClause, String sortClause,
         TableOptions tableOptions, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.GetTable(credentialOptions, filename, selectClause, dictClause, sortClause, tableOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.GetTable(credentialOptions, filename, selectClause, dictClause, sortClause, tableOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -2,7 +2,6 @@ package linkar.functions.direct.xml;
 
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -3116,13 +3115,7 @@ public class Functions
     public static CompletableFuture<String> ReadAsync(CredentialOptions credentialOptions, String filename, String records, String dictionaries, ReadOptions readOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     { 	   	
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Read(credentialOptions, filename, records, dictionaries, readOptions, xmlFormat, customVars, receiveTimeout));
     }
     
 	/**
@@ -3435,13 +3428,7 @@ public class Functions
     public static CompletableFuture<String> UpdateAsync(CredentialOptions credentialOptions, String filename, String records, UpdateOptions updateOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Update(credentialOptions, filename, records, updateOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Update(credentialOptions, filename, records, updateOptions, xmlFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -3738,13 +3725,7 @@ public class Functions
     public static CompletableFuture<String> UpdatePartialAsync(CredentialOptions credentialOptions, String filename, String records, UpdateOptions updateOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.UpdatePartial(credentialOptions, filename, records, updateOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.UpdatePartial(credentialOptions, filename, records, updateOptions, xmlFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4030,13 +4011,7 @@ public class Functions
     public static CompletableFuture<String> NewAsync(CredentialOptions credentialOptions, String filename, String records, NewOptions newOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.New(credentialOptions, filename, records, newOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.New(credentialOptions, filename, records, newOptions, xmlFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4311,13 +4286,7 @@ public class Functions
     public static CompletableFuture<String> DeleteAsync(CredentialOptions credentialOptions, String filename, String records, DeleteOptions deleteOptions,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Delete(credentialOptions, filename, records, deleteOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -4539,13 +4508,7 @@ public class Functions
     public static CompletableFuture<String> SelectAsync(CredentialOptions credentialOptions, String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Select(credentialOptions, filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, xmlFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -4974,13 +4937,7 @@ public class Functions
     public static CompletableFuture<String> SubroutineAsync(CredentialOptions credentialOptions, String subroutineName, int argsNumber, String arguments,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Subroutine(credentialOptions, subroutineName, argsNumber, arguments, customVars, receiveTimeout));
     }
     
     /**
@@ -5118,13 +5075,7 @@ public class Functions
     public static CompletableFuture<String> ConversionAsync(CredentialOptions credentialOptions, CONVERSION_TYPE conversionType, String expression, String code,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Conversion(credentialOptions, conversionType, expression, code, customVars, receiveTimeout));
     }
     
     /**
@@ -5244,13 +5195,7 @@ public class Functions
     public static CompletableFuture<String> FormatAsync(CredentialOptions credentialOptions, String expression, String formatSpec,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Format(credentialOptions, expression, formatSpec, customVars, receiveTimeout));
     }
     
     /**
@@ -5367,13 +5312,7 @@ public class Functions
     public static CompletableFuture<String> DictionariesAsync(CredentialOptions credentialOptions, String filename,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Dictionaries(credentialOptions, filename, customVars, receiveTimeout));
     }
     
     /**
@@ -5488,13 +5427,7 @@ public class Functions
     public static CompletableFuture<String> ExecuteAsync(CredentialOptions credentialOptions, String statement,
         String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.Execute(credentialOptions, statement, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.Execute(credentialOptions, statement, customVars, receiveTimeout));
     }
     
     /**
@@ -5628,13 +5561,7 @@ public class Functions
      */
     public static CompletableFuture<String> GetVersionAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.GetVersion(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.GetVersion(credentialOptions, receiveTimeout));
     }
     
     /**
@@ -5733,13 +5660,7 @@ public class Functions
     public static CompletableFuture<String> LkSchemasAsync(CredentialOptions credentialOptions, LkSchemasOptions lkSchemasOptions,
          String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkSchemas(credentialOptions, lkSchemasOptions, customVars, receiveTimeout));
     }
     
     /**
@@ -5894,13 +5815,7 @@ public class Functions
     public static CompletableFuture<String> LkPropertiesAsync(CredentialOptions credentialOptions, String filename, LkPropertiesOptions lkPropertiesOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, xmlFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.LkProperties(credentialOptions, filename, lkPropertiesOptions, xmlFormat, customVars, receiveTimeout));
     }
     
     /**
@@ -6094,13 +6009,7 @@ public class Functions
      */
     public static CompletableFuture<String> ResetCommonBlocksAsync(CredentialOptions credentialOptions, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return Functions.ResetCommonBlocks(credentialOptions, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> Functions.ResetCommonBlocks(credentialOptions, receiveTimeout));
     }
     
     /**
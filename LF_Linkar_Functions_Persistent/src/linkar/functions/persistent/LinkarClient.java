@@ -1,17 +1,35 @@
 package linkar.functions.persistent;
 
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import linkar.ConnectionInfo;
 import linkar.CredentialOptions;
 import linkar.Linkar;
+import linkar.LkException;
 import linkar.functions.*;
 
 /**
  * These functions perform synchronous persistent (establishing permanent session) operations with any kind of output format type.
+ * <p>
+ * The client tracks the last use of its session and, as defined in its {@link SessionKeepAliveOptions}, pings the session before it expires
+ * in the server, and renews it with a new Login when it has expired, executing again the read-only operations rejected by the expiration.
  */
 public class LinkarClient
 {
-    private ConnectionInfo ConnectionInfo;
+    private volatile ConnectionInfo ConnectionInfo;
     private int ReceiveTimeout;
+    private SessionKeepAliveOptions KeepAliveOptions;
+    private String LoginCustomVars;
+    private volatile long LastUse;
+    private ScheduledFuture<?> KeepAliveTask;
+    private final Object SessionLock = new Object();
+    private final SessionQueue Queue;
 
     /**
      * SessionId
@@ -25,23 +43,73 @@ public class LinkarClient
             return "";
     }
 
+    /**
+     * Data of the established session, or null before the Login operation.
+     */
+    ConnectionInfo getConnectionInfo()
+    {
+        return this.ConnectionInfo;
+    }
+
+    /**
+     * Time in milliseconds since the last operation of the session, or 0 before the Login operation.
+     * @return value
+     */
+    public long getIdleTime()
+    {
+        if (this.ConnectionInfo == null)
+            return 0;
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.LastUse);
+    }
+
+    /**
+     * Executor that runs the asynchronous operations of the session one after another, in the order they were started.
+     * @return value
+     */
+    public SessionQueue getSessionQueue()
+    {
+        return this.Queue;
+    }
+
     /**
      * Initializes a new instance of the LinkarClient class.
      * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @param queueOptions Object that defines the queue of the asynchronous operations of the session. If null, up to 1000 operations, rejected at once when it is full.
      */
-    public LinkarClient(int receiveTimeout)
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions, SessionQueueOptions queueOptions)
     {
         this.ReceiveTimeout = receiveTimeout;
+        this.KeepAliveOptions = (keepAliveOptions == null ? new SessionKeepAliveOptions() : keepAliveOptions);
+        this.Queue = new SessionQueue(queueOptions);
         this.ConnectionInfo = null;
     }
+
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions)
+    {
+        this(receiveTimeout, keepAliveOptions, null);
+    }
+
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     */
+    public LinkarClient(int receiveTimeout)
+    {
+        this(receiveTimeout, null);
+    }
     
     /**
      * Initializes a new instance of the LinkarClient class.
      */
     public LinkarClient()
     {
-        this.ReceiveTimeout = 0;
-        this.ConnectionInfo = null;
+        this(0, null);
     }
 
     /* LOGIN */
@@ -59,48 +127,65 @@ public class LinkarClient
     {
         if (this.ConnectionInfo == null)
         {
-            String options = "";
-            String loginArgs = customVars + ASCII_Chars.US_chr + options;
-            byte byteOpCode = OPERATION_CODE.LOGIN.getnumVal();
-            byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
-            byte byteOutputFormat = DATAFORMAT_TYPE.MV.getnumVal();
-            if (receiveTimeout <= 0)
+            ConnectionInfo connectionInfo = ExecuteLogin(credentialOptions, customVars, receiveTimeout);
+            if (connectionInfo != null)
             {
-                if (this.ReceiveTimeout > 0)
-                    receiveTimeout = this.ReceiveTimeout;
+                this.ConnectionInfo = connectionInfo;
+                this.LoginCustomVars = customVars;
+                this.LastUse = System.nanoTime();
+                StartKeepAlive();
             }
-            ConnectionInfo connectionInfo = new ConnectionInfo("", "", "", credentialOptions);
-            String loginResult = Linkar.ExecutePersistentOperation(connectionInfo, byteOpCode, loginArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        }
+    }
+    
+    /**
+     * Executes the Login operation.
+     * @return The new session, or null if the Login has not returned any.
+     */
+    private ConnectionInfo ExecuteLogin(CredentialOptions credentialOptions, String customVars, int receiveTimeout) throws Exception
+    {
+        String options = "";
+        String loginArgs = customVars + ASCII_Chars.US_chr + options;
+        byte byteOpCode = OPERATION_CODE.LOGIN.getnumVal();
+        byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
+        byte byteOutputFormat = DATAFORMAT_TYPE.MV.getnumVal();
+        if (receiveTimeout <= 0)
+        {
+            if (this.ReceiveTimeout > 0)
+                receiveTimeout = this.ReceiveTimeout;
+        }
+        ConnectionInfo connectionInfo = new ConnectionInfo("", "", "", credentialOptions);
+        String loginResult = OperationExecutor.ExecutePersistentOperation(connectionInfo, byteOpCode, loginArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
 
-            if (!(loginResult == null || loginResult.length() == 0))
+        if (!(loginResult == null || loginResult.length() == 0))
+        {
+        	String valueTag = "";
+            String[] parts = loginResult.split(ASCII_Chars.FS_str);
+            if (parts.length >= 1)
             {
-            	String valueTag = "";
-                String[] parts = loginResult.split(ASCII_Chars.FS_str);
-                if (parts.length >= 1)
+                String[] headersList = parts[0].split(DBMV_Mark.AM_str);
+                for (int i = 1; i < headersList.length; i++)
                 {
-                    String[] headersList = parts[0].split(DBMV_Mark.AM_str);
-                    for (int i = 1; i < headersList.length; i++)
+                    if ("RECORD_ID".equals(headersList[i].toUpperCase()))
                     {
-                        if ("RECORD_ID".equals(headersList[i].toUpperCase()))
-                        {
-                        	valueTag = parts[i];
-                            break;
-                        }
+                    	valueTag = parts[i];
+                        break;
                     }
                 }
-                String[] records;
-                if (valueTag == null || valueTag.length() == 0)
-                	records = new String[] { };
-                else
-                	records =  valueTag.split(ASCII_Chars.RS_str);   	
-            	
-                if (records.length == 1)
-                {
-                    String sessionId = records[0];
-                    this.ConnectionInfo = new ConnectionInfo(sessionId, connectionInfo.getLkConnectionId(), connectionInfo.getPublicKey(), credentialOptions);                    
-                }
+            }
+            String[] records;
+            if (valueTag == null || valueTag.length() == 0)
+            	records = new String[] { };
+            else
+            	records =  valueTag.split(ASCII_Chars.RS_str);   	
+        	
+            if (records.length == 1)
+            {
+                String sessionId = records[0];
+                return new ConnectionInfo(sessionId, connectionInfo.getLkConnectionId(), connectionInfo.getPublicKey(), credentialOptions);
             }
         }
+        return null;
     }
     
     /**
@@ -128,6 +213,123 @@ public class LinkarClient
         Login(credentialOptions, "");
     }
     
+    /**
+     * Executes an operation in the session, renewing the session when it has expired.
+     */
+    private String Execute(byte operationCode, String operationArgs, byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+    {
+        ConnectionInfo connectionInfo = this.ConnectionInfo;
+        if (connectionInfo != null && this.KeepAliveOptions.getSessionTimeout() > 0 && getIdleTime() >= this.KeepAliveOptions.getSessionTimeout())
+        {
+            ConnectionInfo renewed = ReLogin(connectionInfo, receiveTimeout);
+            if (renewed != null)
+                connectionInfo = renewed;
+        }
+        try
+        {
+            String result = OperationExecutor.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+            this.LastUse = System.nanoTime();
+            return result;
+        }
+        catch (LkException e)
+        {
+            if (!OperationCodes.IsSessionInvalid(e) || connectionInfo == null || !this.KeepAliveOptions.getReLogin())
+                throw e;
+            ConnectionInfo renewed = ReLogin(connectionInfo, receiveTimeout);
+            if (renewed == null || !OperationCodes.IsReadOnly(operationCode))
+                throw e;
+            String result = OperationExecutor.ExecutePersistentOperation(renewed, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+            this.LastUse = System.nanoTime();
+            return result;
+        }
+    }
+
+    /**
+     * Replaces an expired session with a new one, obtained with the credentials and customVars of its Login. When several threads find the same
+     * expired session, only one of them does the Login.
+     * @return The new session, or null if the Login has not returned any.
+     */
+    private ConnectionInfo ReLogin(ConnectionInfo expired, int receiveTimeout) throws Exception
+    {
+        synchronized (this.SessionLock)
+        {
+            if (this.ConnectionInfo == expired)
+            {
+                // The expired session is kept until there is a new one, so a failed Login is attempted again by the next operation.
+                ConnectionInfo renewed = ExecuteLogin(expired.getCredentialOptions(), this.LoginCustomVars, receiveTimeout);
+                if (renewed == null)
+                    return null;
+                this.ConnectionInfo = renewed;
+                this.LastUse = System.nanoTime();
+            }
+            return this.ConnectionInfo;
+        }
+    }
+
+    private void StartKeepAlive()
+    {
+        long interval = this.KeepAliveOptions.getKeepAliveInterval();
+        if (interval <= 0 || this.KeepAliveTask != null)
+            return;
+        // The task only holds a weak reference, so a client that is not closed can be collected. Throwing stops its executions.
+        WeakReference<LinkarClient> reference = new WeakReference<LinkarClient>(this);
+        long period = Math.max(interval / 2, 1);
+        this.KeepAliveTask = KeepAliveScheduler.INSTANCE.scheduleWithFixedDelay(() -> {
+            LinkarClient client = reference.get();
+            if (client == null)
+                throw new CancellationException();
+            client.KeepAlive();
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void StopKeepAlive()
+    {
+        ScheduledFuture<?> keepAliveTask = this.KeepAliveTask;
+        this.KeepAliveTask = null;
+        if (keepAliveTask != null)
+            keepAliveTask.cancel(false);
+    }
+
+    /**
+     * Pings the session with a GetVersion operation when it has not been used during the keep alive interval. The ping goes through the
+     * {@link SessionQueue}, so it never runs concurrently with the asynchronous operations of the session, and it is skipped while the queue
+     * has operations, that will keep the session alive. The errors are ignored, the next operation will find them.
+     */
+    private void KeepAlive()
+    {
+        if (!IsKeepAliveDue() || this.Queue.getQueued() > 0)
+            return;
+        try
+        {
+            this.Queue.execute(() -> {
+                if (!IsKeepAliveDue())
+                    return;
+                try
+                {
+                    GetVersion(DATAFORMAT_TYPE.MV, this.ReceiveTimeout);
+                }
+                catch (Exception e)
+                { }
+            });
+        }
+        catch (RejectedExecutionException e)
+        { }
+    }
+
+    private boolean IsKeepAliveDue()
+    {
+        return this.ConnectionInfo != null && getIdleTime() >= this.KeepAliveOptions.getKeepAliveInterval();
+    }
+
+    private static final class KeepAliveScheduler
+    {
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "linkar-keepalive");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /* LOGOUT */
 
     /**
@@ -150,9 +352,16 @@ public class LinkarClient
             if (this.ReceiveTimeout > 0)
                 receiveTimeout = this.ReceiveTimeout;
         }
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, byteOpCode, logoutArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
-        if (!(result == null || result.length() == 0))
-            this.ConnectionInfo = null;
+        try
+        {
+            String result = OperationExecutor.ExecutePersistentOperation(this.ConnectionInfo, byteOpCode, logoutArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            if (!(result == null || result.length() == 0))
+                this.ConnectionInfo = null;
+        }
+        finally
+        {
+            StopKeepAlive();
+        }
     }
     
     /**
@@ -202,7 +411,7 @@ public class LinkarClient
             byte opCode = OPERATION_CODE.READ.getnumVal();
             byte byteInputFormat = inputFormat.getnumVal();
             byte byteOutputFormat = outputFormat.getnumVal();
-            String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, readArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+            String result = Execute(opCode, readArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
             return result;
         }
         else
@@ -328,7 +537,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.UPDATE.getnumVal();
         byte byteInputFormat = inputFormat.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -471,7 +680,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.UPDATEPARTIAL.getnumVal();
         byte byteInputFormat = inputFormat.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, updateArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -632,7 +841,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.NEW.getnumVal();
         byte byteInputFormat = inputFormat.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, newArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, newArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -750,7 +959,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.DELETE.getnumVal();
         byte byteInputFormat = inputFormat.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, deleteArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, deleteArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -899,7 +1108,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.SELECT.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, selectArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, selectArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1098,7 +1307,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.SUBROUTINE.getnumVal();
         byte byteInputFormat = inputFormat.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, subroutineArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, subroutineArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1179,7 +1388,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.CONVERSION.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, conversionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, conversionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1243,7 +1452,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.FORMAT.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, formatArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, formatArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1303,7 +1512,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.DICTIONARIES.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, dictionariesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, dictionariesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1360,7 +1569,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.EXECUTE.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, executeArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, executeArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }   
     
@@ -1446,7 +1655,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.VERSION.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, versionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, versionArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1539,7 +1748,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.LKSCHEMAS.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, lkSchemasArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, lkSchemasArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1644,7 +1853,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.LKPROPERTIES.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, lkPropertiesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, lkPropertiesArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1753,7 +1962,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.GETTABLE.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = DATAFORMAT_TYPE.MV.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, getTableArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, getTableArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
@@ -1895,7 +2104,7 @@ public class LinkarClient
         byte opCode = OPERATION_CODE.RESETCOMMONBLOCKS.getnumVal();
         byte byteInputFormat = DATAFORMAT_TYPE.MV.getnumVal();
         byte byteOutputFormat = outputFormat.getnumVal();
-        String result = Linkar.ExecutePersistentOperation(this.ConnectionInfo, opCode, resetCommonBlocksArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
+        String result = Execute(opCode, resetCommonBlocksArgs, byteInputFormat, byteOutputFormat, receiveTimeout);
         return result;
     }
     
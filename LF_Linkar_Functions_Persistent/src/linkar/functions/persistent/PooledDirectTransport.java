@@ -0,0 +1,125 @@
+package linkar.functions.persistent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.LkException;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationCodes;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that executes the direct operations in persistent sessions of a {@link SessionPool}, so the server does not authenticate every operation.
+ * <p>
+ * Once installed with {@link #Install}, all the direct functions (DirectFunctions and the JSON, MV, TABLE and XML wrappers) use the pooled sessions
+ * without any change in their calls. When a session cannot be obtained, because the Login fails or all the sessions are in use during the acquire timeout,
+ * the operation is executed as a true direct operation. An operation rejected because its session is no longer valid is repeated once in a new session.
+ * <p>
+ * Example:
+ * <pre>
+ * PooledDirectTransport transport = PooledDirectTransport.Install(new SessionPoolOptions(16));
+ * String result = linkar.functions.direct.mv.Functions.Read(credentials, "LK.CUSTOMERS", "2");
+ * transport.Uninstall();
+ * </pre>
+ */
+public class PooledDirectTransport implements LinkarTransport {
+
+	private final SessionPool Pool;
+	private final LinkarTransport Transport;
+
+	/**
+	 * Initializes a new instance of the PooledDirectTransport class.
+	 * @param sessionPool The pool of sessions where the direct operations are executed.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public PooledDirectTransport(SessionPool sessionPool, LinkarTransport transport)
+	{
+		this.Pool = sessionPool;
+		this.Transport = transport;
+	}
+
+	/**
+	 * Installs a new PooledDirectTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param sessionPoolOptions Object that defines how many sessions are opened and how long they are kept.
+	 * @return The installed transport.
+	 */
+	public static PooledDirectTransport Install(SessionPoolOptions sessionPoolOptions)
+	{
+		PooledDirectTransport transport = new PooledDirectTransport(new SessionPool(sessionPoolOptions), OperationExecutor.getTransport());
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed, and closes the sessions of the pool.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+		this.Pool.Close();
+	}
+
+	/**
+	 * The pool of sessions where the direct operations are executed.
+	 * @return value
+	 */
+	public SessionPool getSessionPool()
+	{
+		return this.Pool;
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		for (int attempt = 0; attempt < 2; attempt++)
+		{
+			SessionPool.PooledSession session;
+			try
+			{
+				session = this.Pool.Borrow(credentialOptions);
+			}
+			catch (InterruptedException | TimeoutException | CancellationException e)
+			{
+				throw e;
+			}
+			catch (Exception e)
+			{
+				session = null;
+			}
+			if (session == null)
+				break;
+
+			String result;
+			try
+			{
+				result = this.Transport.ExecutePersistentOperation(session.getConnectionInfo(), operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			}
+			catch (LkException e)
+			{
+				this.Pool.Discard(session);
+				if (OperationCodes.IsSessionInvalid(e))
+					continue;
+				throw e;
+			}
+			catch (Exception e)
+			{
+				this.Pool.Discard(session);
+				throw e;
+			}
+			this.Pool.Return(session);
+			return result;
+		}
+		return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+}
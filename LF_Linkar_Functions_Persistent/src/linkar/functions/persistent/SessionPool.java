@@ -0,0 +1,230 @@
+package linkar.functions.persistent;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.OperationContext;
+
+/**
+ * Pool of persistent sessions, grouped by the credentials used to open them.
+ * <p>
+ * A session is used by only one operation at the same time. The sessions are opened when they are needed, up to the maximum sessions of the options
+ * for every credentials, and they are closed when they have not been used during the idle timeout of the options, by a background task
+ * that calls {@link #Evict} every idle timeout.
+ */
+public class SessionPool {
+
+	/**
+	 * Session borrowed from the pool.
+	 */
+	static final class PooledSession
+	{
+		private final LinkarClient Client;
+		private final Sessions Owner;
+		private long LastUsed;
+
+		private PooledSession(LinkarClient client, Sessions owner)
+		{
+			this.Client = client;
+			this.Owner = owner;
+			this.LastUsed = System.nanoTime();
+		}
+
+		ConnectionInfo getConnectionInfo()
+		{
+			return this.Client.getConnectionInfo();
+		}
+	}
+
+	private static final class Sessions
+	{
+		private final Semaphore Permits;
+		private final ConcurrentLinkedDeque<PooledSession> Idle = new ConcurrentLinkedDeque<PooledSession>();
+
+		private Sessions(int maxSessions)
+		{
+			this.Permits = new Semaphore(maxSessions, true);
+		}
+	}
+
+	private final SessionPoolOptions Options;
+	private final ConcurrentHashMap<String, Sessions> SessionsByCredentials = new ConcurrentHashMap<String, Sessions>();
+	private volatile boolean Closed;
+	private final ScheduledFuture<?> EvictionTask;
+
+	/**
+	 * Initializes a new instance of the SessionPool class.
+	 * @param sessionPoolOptions Object that defines how many sessions are opened and how long they are kept.
+	 */
+	public SessionPool(SessionPoolOptions sessionPoolOptions)
+	{
+		this.Options = (sessionPoolOptions == null ? new SessionPoolOptions() : sessionPoolOptions);
+		long idleTimeout = this.Options.getIdleTimeout();
+		if (idleTimeout > 0)
+		{
+			// The task only holds a weak reference, so a pool that is not closed can be collected. Throwing stops its executions.
+			WeakReference<SessionPool> reference = new WeakReference<SessionPool>(this);
+			this.EvictionTask = EvictionScheduler.INSTANCE.scheduleWithFixedDelay(() -> {
+				SessionPool pool = reference.get();
+				if (pool == null)
+					throw new CancellationException();
+				pool.Evict();
+			}, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+		}
+		else
+			this.EvictionTask = null;
+	}
+
+	/**
+	 * Initializes a new instance of the SessionPool class, with the default {@link SessionPoolOptions}.
+	 */
+	public SessionPool()
+	{
+		this(new SessionPoolOptions());
+	}
+
+	/**
+	 * Borrows a session for the credentials, opening a new one if there is not any free session and the maximum has not been reached.
+	 * @param credentialOptions Credentials of the session.
+	 * @return The session, or null when all the sessions of the credentials have been in use during the acquire timeout.
+	 * @throws Exception When the pool is closed or a new session cannot be opened.
+	 */
+	PooledSession Borrow(CredentialOptions credentialOptions) throws Exception
+	{
+		if (this.Closed)
+			throw new Exception("The session pool is closed");
+
+		Sessions sessions = this.SessionsByCredentials.computeIfAbsent(CredentialOptionsKey.Get(credentialOptions), k -> new Sessions(this.Options.getMaxSessions()));
+		long acquireTimeout = this.Options.getAcquireTimeout();
+		OperationContext context = OperationContext.Current();
+		if (context != null)
+			acquireTimeout = Math.min(acquireTimeout, Math.max(context.getRemainingMillis(), 0));
+		if (!sessions.Permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS))
+			return null;
+
+		try
+		{
+			PooledSession session;
+			while ((session = sessions.Idle.pollFirst()) != null)
+			{
+				if (IsExpired(session))
+					CloseQuietly(session);
+				else
+					return session;
+			}
+
+			LinkarClient client = new LinkarClient(this.Options.getLoginTimeout());
+			client.Login(credentialOptions, "", this.Options.getLoginTimeout());
+			if (client.getConnectionInfo() == null)
+				throw new Exception("The session pool could not open a session in " + credentialOptions.getHost() + ":" + credentialOptions.getPort());
+			return new PooledSession(client, sessions);
+		}
+		catch (Exception e)
+		{
+			sessions.Permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a session to the pool after a successful operation.
+	 */
+	void Return(PooledSession session)
+	{
+		session.LastUsed = System.nanoTime();
+		if (this.Closed)
+			CloseQuietly(session);
+		else
+			session.Owner.Idle.offerFirst(session);
+		session.Owner.Permits.release();
+	}
+
+	/**
+	 * Removes from the pool a session whose state is unknown after a failed operation.
+	 */
+	void Discard(PooledSession session)
+	{
+		CloseQuietly(session);
+		session.Owner.Permits.release();
+	}
+
+	/**
+	 * Closes the idle sessions that have not been used during the idle timeout.
+	 */
+	public void Evict()
+	{
+		for (Sessions sessions : this.SessionsByCredentials.values())
+		{
+			for (PooledSession session : sessions.Idle)
+			{
+				if (IsExpired(session) && sessions.Idle.remove(session))
+					CloseQuietly(session);
+			}
+		}
+	}
+
+	/**
+	 * Closes all the idle sessions, and the sessions in use when they are returned. The pool cannot be used anymore.
+	 */
+	public void Close()
+	{
+		this.Closed = true;
+		if (this.EvictionTask != null)
+			this.EvictionTask.cancel(false);
+		for (Sessions sessions : this.SessionsByCredentials.values())
+		{
+			PooledSession session;
+			while ((session = sessions.Idle.pollFirst()) != null)
+				CloseQuietly(session);
+		}
+	}
+
+	/**
+	 * Number of idle sessions in the pool.
+	 * @return value
+	 */
+	public int getIdleSessions()
+	{
+		int idleSessions = 0;
+		for (Sessions sessions : this.SessionsByCredentials.values())
+			idleSessions += sessions.Idle.size();
+		return idleSessions;
+	}
+
+	private boolean IsExpired(PooledSession session)
+	{
+		long idleTimeout = this.Options.getIdleTimeout();
+		return idleTimeout > 0 && System.nanoTime() - session.LastUsed > TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+	}
+
+	private static final class EvictionScheduler
+	{
+		static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "linkar-session-pool");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private void CloseQuietly(PooledSession session)
+	{
+		try
+		{
+			session.Client.Logout("", this.Options.getLoginTimeout());
+		}
+		catch (Exception e)
+		{
+			// The server disposes the session by itself.
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package linkar.functions.persistent;
+
+/**
+ * Object that works as an argument in the {@link SessionPool} and defines how many sessions are opened and how long they are kept.
+ */
+public class SessionPoolOptions {
+
+	private int _MaxSessions;
+	/**
+	 * Maximum number of sessions opened at the same time for the same credentials.
+	 * @return value
+	 */
+	public int getMaxSessions()
+	{
+		return this._MaxSessions;
+	}
+
+	private long _IdleTimeout;
+	/**
+	 * Time in milliseconds after which a session that has not been used is closed. 0 means that the sessions are never closed for inactivity.
+	 * @return value
+	 */
+	public long getIdleTimeout()
+	{
+		return this._IdleTimeout;
+	}
+
+	private long _AcquireTimeout;
+	/**
+	 * Maximum time in milliseconds waiting for a free session when all the sessions of the credentials are in use.
+	 * @return value
+	 */
+	public long getAcquireTimeout()
+	{
+		return this._AcquireTimeout;
+	}
+
+	private int _LoginTimeout;
+	/**
+	 * It's the maximum time in seconds that the client will keep waiting the answer by the server in the Login and Logout operations of the sessions. 0 means wait indefinitely.
+	 * @return value
+	 */
+	public int getLoginTimeout()
+	{
+		return this._LoginTimeout;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionPoolOptions} class.
+	* @param maxSessions	Maximum number of sessions opened at the same time for the same credentials. It must be bigger than 0.
+	* @param idleTimeout	Time in milliseconds after which a session that has not been used is closed. 0 means never.
+	* @param acquireTimeout	Maximum time in milliseconds waiting for a free session when all the sessions are in use.
+	* @param loginTimeout	Maximum time in seconds waiting the answer of the Login and Logout operations. 0 means wait indefinitely.
+	*/
+	public SessionPoolOptions(int maxSessions, long idleTimeout, long acquireTimeout, int loginTimeout)
+	{
+		this._MaxSessions = (maxSessions < 1 ? 1 : maxSessions);
+		this._IdleTimeout = (idleTimeout < 0 ? 0 : idleTimeout);
+		this._AcquireTimeout = (acquireTimeout < 0 ? 0 : acquireTimeout);
+		this._LoginTimeout = (loginTimeout < 0 ? 0 : loginTimeout);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionPoolOptions} class.
+	* @param maxSessions	Maximum number of sessions opened at the same time for the same credentials. It must be bigger than 0.
+	* @param idleTimeout	Time in milliseconds after which a session that has not been used is closed. 0 means never.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	acquireTimeout = 5000
+	loginTimeout = 10
+	}
+	</pre>
+	*/
+	public SessionPoolOptions(int maxSessions, long idleTimeout)
+	{
+		this(maxSessions, idleTimeout, 5000, 10);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionPoolOptions} class.
+	* @param maxSessions	Maximum number of sessions opened at the same time for the same credentials. It must be bigger than 0.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	idleTimeout = 300000
+	acquireTimeout = 5000
+	loginTimeout = 10
+	}
+	</pre>
+	*/
+	public SessionPoolOptions(int maxSessions)
+	{
+		this(maxSessions, 300000, 5000, 10);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #SessionPoolOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxSessions = 8
+	idleTimeout = 300000
+	acquireTimeout = 5000
+	loginTimeout = 10
+	}
+	</pre>
+	*/
+	public SessionPoolOptions()
+	{
+		this(8, 300000, 5000, 10);
+	}
+}
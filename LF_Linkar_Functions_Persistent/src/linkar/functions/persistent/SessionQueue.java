@@ -0,0 +1,131 @@
+package linkar.functions.persistent;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import linkar.functions.AsyncOperations;
+import linkar.functions.SessionQueueOptions;
+
+/**
+ * Queue of the asynchronous operations of a persistent session. The operations are executed one after another, in the order they were started,
+ * by a single consumer that runs in the executor of the asynchronous functions only while the queue has operations, so the session receives
+ * them back to back and never concurrently. The threads that start the operations are not blocked, unless the queue is full.
+ */
+public class SessionQueue implements Executor {
+
+	private final SessionQueueOptions Options;
+	private final ReentrantLock Lock = new ReentrantLock();
+	private final Condition NotFull = this.Lock.newCondition();
+	private final ArrayDeque<Runnable> Tasks = new ArrayDeque<Runnable>();
+	private boolean Draining;
+
+	SessionQueue(SessionQueueOptions queueOptions)
+	{
+		this.Options = (queueOptions == null ? new SessionQueueOptions() : queueOptions);
+	}
+
+	/**
+	 * Number of asynchronous operations waiting in the queue.
+	 * @return value
+	 */
+	public int getQueued()
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.Tasks.size();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		this.Lock.lock();
+		try
+		{
+			long remaining = TimeUnit.MILLISECONDS.toNanos(this.Options.getMaxWaitTime());
+			while (this.Tasks.size() >= this.Options.getMaxQueued())
+			{
+				if (remaining <= 0)
+					throw new RejectedExecutionException("The queue of the session is full");
+				remaining = this.NotFull.awaitNanos(remaining);
+			}
+			this.Tasks.addLast(command);
+			if (this.Draining)
+				return;
+			this.Draining = true;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for room in the queue of the session", e);
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+
+		try
+		{
+			AsyncOperations.getExecutor().execute(this::Drain);
+		}
+		catch (RejectedExecutionException e)
+		{
+			boolean others;
+			this.Lock.lock();
+			try
+			{
+				this.Tasks.remove(command);
+				others = !this.Tasks.isEmpty();
+				if (!others)
+					this.Draining = false;
+				this.NotFull.signal();
+			}
+			finally
+			{
+				this.Lock.unlock();
+			}
+			// The operations queued by other threads in the meantime are not left without consumer.
+			if (others)
+				Drain();
+			throw e;
+		}
+	}
+
+	private void Drain()
+	{
+		while (true)
+		{
+			Runnable task;
+			this.Lock.lock();
+			try
+			{
+				task = this.Tasks.pollFirst();
+				if (task == null)
+				{
+					this.Draining = false;
+					return;
+				}
+				this.NotFull.signal();
+			}
+			finally
+			{
+				this.Lock.unlock();
+			}
+			try
+			{
+				task.run();
+			}
+			catch (RuntimeException e)
+			{ }
+		}
+	}
+}
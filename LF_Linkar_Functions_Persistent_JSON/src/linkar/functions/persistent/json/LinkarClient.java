@@ -1,7 +1,6 @@
 package linkar.functions.persistent.json;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -23,6 +22,27 @@ public class LinkarClient
         return this.LinkarClt.getSessionId();
     }
     
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @param queueOptions Object that defines the queue where the asynchronous operations wait to be executed in the session, one after another. If null, up to 1000 operations, rejected at once when it is full.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions, SessionQueueOptions queueOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions, queueOptions);
+    }
+    
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions);
+    }
+    
     /**
      * Initializes a new instance of the LinkarClient class.
      * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
@@ -3301,13 +3321,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LoginAsync(CredentialOptions credentialOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3350,13 +3364,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LogoutAsync(String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Logout(customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Logout(customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3438,13 +3446,7 @@ public class LinkarClient
     public CompletableFuture<String> ReadAsync(String filename, String records, String dictionaries, ReadOptions readOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Read(filename, records, dictionaries, readOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Read(filename, records, dictionaries, readOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3764,13 +3766,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdateAsync(String filename, String records, UpdateOptions updateOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4076,13 +4072,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdatePartialAsync(String filename, String records, UpdateOptions updateOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.UpdatePartial(filename, records, "", updateOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.UpdatePartial(filename, records, "", updateOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4377,13 +4367,7 @@ public class LinkarClient
     public CompletableFuture<String> NewAsync(String filename, String records, NewOptions newOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.JSON, jsonFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4668,13 +4652,7 @@ public class LinkarClient
     public CompletableFuture<String> DeleteAsync(String filename, String records, DeleteOptions deleteOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.JSON, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.JSON, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4904,13 +4882,7 @@ public class LinkarClient
     public CompletableFuture<String> SelectAsync(String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
         JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, jsonFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, jsonFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5372,13 +5344,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> SubroutineAsync(String subroutineName, int argsNumber, String arguments, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.JSON, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.JSON, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5533,13 +5499,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ConversionAsync(CONVERSION_TYPE conversionType, String expression, String code, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5666,13 +5626,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> FormatAsync(String expression, String formatSpec, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5796,13 +5750,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> DictionariesAsync(String filename, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5924,13 +5872,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ExecuteAsync(String statement, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6072,13 +6014,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> GetVersionAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.GetVersion(DATAFORMAT_TYPE.JSON, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.GetVersion(DATAFORMAT_TYPE.JSON, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6182,13 +6118,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> LkSchemasAsync(LkSchemasOptions lkSchemasOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.JSON, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.JSON, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6354,19 +6284,15 @@ public class LinkarClient
     public CompletableFuture<String> LkPropertiesAsync(String filename, LkPropertiesOptions lkPropertiesOptions,
 		JSON_FORMAT jsonFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					DATAFORMATSCHPROP_TYPE outputFormat = DATAFORMATSCHPROP_TYPE.JSON;
-					if(jsonFormat == JSON_FORMAT.JSON_DICT)
-						outputFormat = DATAFORMATSCHPROP_TYPE.JSON_DICT;
-					else if(jsonFormat == JSON_FORMAT.JSON_SCH)
-						outputFormat = DATAFORMATSCHPROP_TYPE.JSON_SCH;
-									
-					return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, outputFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> {
+				DATAFORMATSCHPROP_TYPE outputFormat = DATAFORMATSCHPROP_TYPE.JSON;
+				if(jsonFormat == JSON_FORMAT.JSON_DICT)
+					outputFormat = DATAFORMATSCHPROP_TYPE.JSON_DICT;
+				else if(jsonFormat == JSON_FORMAT.JSON_SCH)
+					outputFormat = DATAFORMATSCHPROP_TYPE.JSON_SCH;
+								
+				return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, outputFormat, customVars, receiveTimeout);
+		}, this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6574,13 +6500,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ResetCommonBlocksAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.JSON, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.JSON, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -1,7 +1,6 @@
 package linkar.functions.persistent.mv;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -19,6 +18,29 @@ public class LinkarClient
         return this.LinkarClt.getSessionId();
     }
 
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @param queueOptions Object that defines the queue where the asynchronous operations wait to be executed in the session, one after another. If null, up to 1000 operations, rejected at once when it is full.
+     * @throws Exception
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions, SessionQueueOptions queueOptions) throws Exception
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions, queueOptions);
+    }
+    
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @throws Exception
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions) throws Exception
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions);
+    }
+    
     /**
      * Initializes a new instance of the LinkarClient class.
      * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
@@ -2714,13 +2736,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LoginAsync(CredentialOptions credentialOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -2763,13 +2779,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LogoutAsync(String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Logout(customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Logout(customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -2842,13 +2852,7 @@ public class LinkarClient
     public CompletableFuture<String> ReadAsync(String filename, String recordIds, String dictionaries, ReadOptions readOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Read(filename, recordIds, dictionaries, readOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Read(filename, recordIds, dictionaries, readOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3071,13 +3075,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdateAsync(String filename, String records, UpdateOptions updateOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3279,13 +3277,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdatePartialAsync(String filename, String records, String dictionaries, UpdateOptions updateOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.UpdatePartial(filename, records, dictionaries, updateOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.UpdatePartial(filename, records, dictionaries, updateOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3484,13 +3476,7 @@ public class LinkarClient
     public CompletableFuture<String> NewAsync(String filename, String records, NewOptions newOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.MV, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3677,13 +3663,7 @@ public class LinkarClient
     public CompletableFuture<String> DeleteAsync(String filename, String records, DeleteOptions deleteOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.MV, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.MV, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3891,13 +3871,7 @@ public class LinkarClient
     public CompletableFuture<String> SelectAsync(String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, DATAFORMATCRU_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4288,13 +4262,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> SubroutineAsync(String subroutineName, int argsNumber, String arguments, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.MV, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.MV, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4422,13 +4390,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ConversionAsync(CONVERSION_TYPE conversionType, String expression, String code, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4555,13 +4517,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> FormatAsync(String expression, String formatSpec, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4685,13 +4641,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> DictionariesAsync(String filename, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4813,13 +4763,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ExecuteAsync(String statement, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4961,13 +4905,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> GetVersionAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.GetVersion(DATAFORMAT_TYPE.MV, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.GetVersion(DATAFORMAT_TYPE.MV, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5071,13 +5009,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> LkSchemasAsync(LkSchemasOptions lkSchemasOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5241,13 +5173,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> LkPropertiesAsync(String filename, LkPropertiesOptions lkPropertiesOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, DATAFORMATSCHPROP_TYPE.MV, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkProperties(filename, lkPropertiesOptions, DATAFORMATSCHPROP_TYPE.MV, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5410,13 +5336,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ResetCommonBlocksAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.MV, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.MV, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
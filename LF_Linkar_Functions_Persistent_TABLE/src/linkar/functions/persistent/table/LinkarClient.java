@@ -1,13 +1,15 @@
 package linkar.functions.persistent.table;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
+import linkar.functions.AsyncOperations;
 import linkar.functions.DATAFORMATSCH_TYPE;
 import linkar.functions.DATAFORMATSCHPROP_TYPE;
 import linkar.functions.LkPropertiesOptions;
 import linkar.functions.LkSchemasOptions;
+import linkar.functions.SessionKeepAliveOptions;
+import linkar.functions.SessionQueueOptions;
 import linkar.functions.TableOptions;
 
 public class LinkarClient {
@@ -23,6 +25,27 @@ public class LinkarClient {
         return this.LinkarClt.getSessionId();
     }
 
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @param queueOptions Object that defines the queue where the asynchronous operations wait to be executed in the session, one after another. If null, up to 1000 operations, rejected at once when it is full.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions, SessionQueueOptions queueOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions, queueOptions);
+    }
+    
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions);
+    }
+    
     /**
      * Initializes a new instance of the LinkarClient class.
      * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
@@ -871,13 +894,7 @@ public class LinkarClient {
      */
     public CompletableFuture<Void> LoginAsync(CredentialOptions credentialOptions, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -917,13 +934,7 @@ public class LinkarClient {
      */
     public CompletableFuture<Void> LogoutAsync(String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.runAsync(() -> {
-			try {
-				this.LinkarClt.Logout(customVars, receiveTimeout);
-			} catch (Exception e) {
-				throw new CompletionException(e);
-			}
-    	});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Logout(customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -996,13 +1007,7 @@ public class LinkarClient {
      */
     public CompletableFuture<String> LkSchemasAsync(LkSchemasOptions lkSchemasOptions, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-			try {
-				return this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.TABLE, customVars, receiveTimeout);
-			} catch (Exception e) {
-				throw new CompletionException(e);
-			}
-    	});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.TABLE, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -1191,13 +1196,7 @@ public class LinkarClient {
      */
     public CompletableFuture<String> LkPropertiesAsync(String filename, LkPropertiesOptions lkPropertiesOptions, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-			try {
-				return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, DATAFORMATSCHPROP_TYPE.TABLE, customVars, receiveTimeout);
-			} catch (Exception e) {
-				throw new CompletionException(e);
-			}
-    	});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkProperties(filename, lkPropertiesOptions, DATAFORMATSCHPROP_TYPE.TABLE, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -1391,13 +1390,7 @@ public class LinkarClient {
      */
     public CompletableFuture<String> GetTableAsync(String filename, String selectClause, String dictClause, String sortClause, TableOptions tableOptions, String customVars, int receiveTimeout)
     {
-    	return CompletableFuture.supplyAsync(() -> {
-			try {
-				return this.LinkarClt.GetTable(filename, selectClause, dictClause, sortClause, tableOptions, customVars, receiveTimeout);
-			} catch (Exception e) {
-				throw new CompletionException(e);
-			}
-    	});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.GetTable(filename, selectClause, dictClause, sortClause, tableOptions, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
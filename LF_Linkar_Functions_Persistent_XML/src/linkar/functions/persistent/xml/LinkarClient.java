@@ -1,7 +1,6 @@
 package linkar.functions.persistent.xml;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 
 import linkar.CredentialOptions;
 import linkar.functions.*;
@@ -24,6 +23,27 @@ public class LinkarClient
         return this.LinkarClt.getSessionId();
     }
     
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     * @param queueOptions Object that defines the queue where the asynchronous operations wait to be executed in the session, one after another. If null, up to 1000 operations, rejected at once when it is full.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions, SessionQueueOptions queueOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions, queueOptions);
+    }
+    
+    /**
+     * Initializes a new instance of the LinkarClient class.
+     * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
+     * @param keepAliveOptions Object that defines how the session is kept alive and renewed when it expires. If null, the session is not pinged, and it is renewed when the server rejects an operation.
+     */
+    public LinkarClient(int receiveTimeout, SessionKeepAliveOptions keepAliveOptions)
+    {
+        this.LinkarClt = new linkar.functions.persistent.LinkarClient(receiveTimeout, keepAliveOptions);
+    }
+    
     /**
      * Initializes a new instance of the LinkarClient class.
      * @param receiveTimeout It's the maximum time in seconds that the client will keep waiting the answer by the server. By default 0 (wait indefinitely). When the receiveTimeout argument is omitted in any operation, the value set here will be applied.
@@ -3307,13 +3327,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LoginAsync(CredentialOptions credentialOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Login(credentialOptions, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3356,13 +3370,7 @@ public class LinkarClient
      */
     public CompletableFuture<Void> LogoutAsync(String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.runAsync(() -> {
-				try {
-					this.LinkarClt.Logout(customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.RunAsync(() -> this.LinkarClt.Logout(customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3445,13 +3453,7 @@ public class LinkarClient
     public CompletableFuture<String> ReadAsync(String filename, String records, String dictionaries, ReadOptions readOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Read(filename, records, dictionaries, readOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Read(filename, records, dictionaries, readOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -3777,13 +3779,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdateAsync(String filename, String records, UpdateOptions updateOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Update(filename, records, updateOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4094,13 +4090,7 @@ public class LinkarClient
     public CompletableFuture<String> UpdatePartialAsync(String filename, String records, UpdateOptions updateOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.UpdatePartial(filename, records, "", updateOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.UpdatePartial(filename, records, "", updateOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4400,13 +4390,7 @@ public class LinkarClient
     public CompletableFuture<String> NewAsync(String filename, String records, NewOptions newOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.New(filename, records, newOptions, DATAFORMAT_TYPE.XML, xmlFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4696,13 +4680,7 @@ public class LinkarClient
     public CompletableFuture<String> DeleteAsync(String filename, String records, DeleteOptions deleteOptions,
         String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.XML, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Delete(filename, records, deleteOptions, DATAFORMAT_TYPE.XML, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -4935,13 +4913,7 @@ public class LinkarClient
     public CompletableFuture<String> SelectAsync(String filename, String selectClause, String sortClause, String dictClause, String preSelectClause, SelectOptions selectOptions,
         XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, xmlFormat.getCRUFormat(), customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Select(filename, selectClause, sortClause, dictClause, preSelectClause, selectOptions, xmlFormat.getCRUFormat(), customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5398,13 +5370,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> SubroutineAsync(String subroutineName, int argsNumber, String arguments, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.XML, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Subroutine(subroutineName, argsNumber, arguments, DATAFORMAT_TYPE.XML, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5549,13 +5515,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ConversionAsync(CONVERSION_TYPE conversionType, String expression, String code, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Conversion(conversionType, expression, code, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5682,13 +5642,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> FormatAsync(String expression, String formatSpec, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Format(expression, formatSpec, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5812,13 +5766,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> DictionariesAsync(String filename, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Dictionaries(filename, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -5940,13 +5888,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ExecuteAsync(String statement, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.Execute(statement, DATAFORMAT_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6088,13 +6030,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> GetVersionAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.GetVersion(DATAFORMAT_TYPE.XML, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.GetVersion(DATAFORMAT_TYPE.XML, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6198,13 +6134,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> LkSchemasAsync(LkSchemasOptions lkSchemasOptions, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.XML, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.LkSchemas(lkSchemasOptions, DATAFORMATSCH_TYPE.XML, customVars, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6370,19 +6300,15 @@ public class LinkarClient
     public CompletableFuture<String> LkPropertiesAsync(String filename, LkPropertiesOptions lkPropertiesOptions,
 		XML_FORMAT xmlFormat, String customVars, int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					DATAFORMATSCHPROP_TYPE outputFormat = DATAFORMATSCHPROP_TYPE.XML;
-					if(xmlFormat == XML_FORMAT.XML_DICT)
-						outputFormat = DATAFORMATSCHPROP_TYPE.XML_DICT;
-					else if(xmlFormat == XML_FORMAT.XML_SCH)
-						outputFormat = DATAFORMATSCHPROP_TYPE.XML_SCH;
+    	return AsyncOperations.SupplyAsync(() -> {
+				DATAFORMATSCHPROP_TYPE outputFormat = DATAFORMATSCHPROP_TYPE.XML;
+				if(xmlFormat == XML_FORMAT.XML_DICT)
+					outputFormat = DATAFORMATSCHPROP_TYPE.XML_DICT;
+				else if(xmlFormat == XML_FORMAT.XML_SCH)
+					outputFormat = DATAFORMATSCHPROP_TYPE.XML_SCH;
 
-					return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, outputFormat, customVars, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+				return this.LinkarClt.LkProperties(filename, lkPropertiesOptions, outputFormat, customVars, receiveTimeout);
+		}, this.LinkarClt.getSessionQueue());
     }
     
     /**
@@ -6591,13 +6517,7 @@ public class LinkarClient
      */
     public CompletableFuture<String> ResetCommonBlocksAsync(int receiveTimeout) throws Exception
     {
-    	return CompletableFuture.supplyAsync(() -> {
-				try {
-					return this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.XML, receiveTimeout);
-				} catch (Exception e) {
-					throw new CompletionException(e);
-				}
-		});
+    	return AsyncOperations.SupplyAsync(() -> this.LinkarClt.ResetCommonBlocks(DATAFORMAT_TYPE.XML, receiveTimeout), this.LinkarClt.getSessionQueue());
     }
     
     /**
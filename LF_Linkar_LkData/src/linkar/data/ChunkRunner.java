@@ -0,0 +1,170 @@
+package linkar.data;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import linkar.functions.ChunkOptions;
+import linkar.functions.OPERATION_PRIORITY;
+import linkar.functions.OperationContext;
+
+/**
+ * Auxiliary class that executes the chunks of the bulk operations with a limited number of chunks in flight.
+ * The chunks are taken from the iterator only when there is room for them, so a long sequence is never fully loaded in memory.
+ * The results are delivered to the sink in the calling thread, in completion order, so the sink is never called concurrently.
+ * A child of the {@link OperationContext} of the calling thread is attached to the chunks, and no more chunks are started when it is done. Without
+ * context, the calling thread is the origin of the context of the chunks, so they are identified with the other operations of that thread.
+ * The chunks are executed with BULK priority, unless the calling thread has INTERACTIVE or BULK priority, so a scheduler of priority
+ * lanes can give precedence to the interactive operations between a chunk and the next one.
+ * <p>
+ * Without the executor of the options, the chunks are executed in a pool shared by all the bulk operations, whose idle threads are reused by the
+ * next bulk operations. It is not the executor of the asynchronous functions, because a bulk operation started by an asynchronous function
+ * would wait in that executor for its own chunks.
+ */
+final class ChunkRunner {
+
+	interface Task<T, R>
+	{
+		R Run(T chunk) throws Exception;
+	}
+
+	interface Sink<T, R>
+	{
+		void Accept(int index, T chunk, R result) throws Exception;
+	}
+
+	private static final long RETRY_DELAY = 100;
+
+	private ChunkRunner()
+	{ }
+
+	static <T, R> void Run(Iterator<T> chunks, ChunkOptions chunkOptions, Task<T, R> task, Sink<T, R> sink) throws Exception
+	{
+		try
+		{
+			RunChunks(chunks, chunkOptions, task, sink);
+		}
+		catch (ChunkSourceException e)
+		{
+			throw (Exception)e.getCause();
+		}
+	}
+
+	private static <T, R> void RunChunks(Iterator<T> chunks, ChunkOptions chunkOptions, Task<T, R> task, Sink<T, R> sink) throws Exception
+	{
+		if (!chunks.hasNext())
+			return;
+
+		int parallelism = chunkOptions.getParallelism();
+		Executor executor = chunkOptions.getExecutor();
+		if (executor == null)
+			executor = SharedExecutor.INSTANCE;
+
+		OperationContext context = OperationContext.Fork();
+		if (context.getPriority() == OPERATION_PRIORITY.NORMAL)
+			context.setPriority(OPERATION_PRIORITY.BULK);
+		CompletionService<R> completionService = new ExecutorCompletionService<R>(executor);
+		HashMap<Future<R>, Integer> inFlight = new HashMap<Future<R>, Integer>();
+		HashMap<Integer, T> inFlightChunks = new HashMap<Integer, T>();
+		try
+		{
+			int next = 0;
+			while (chunks.hasNext() && inFlight.size() < parallelism)
+				Submit(completionService, context, task, chunks.next(), next++, inFlight, inFlightChunks);
+			while (!inFlight.isEmpty())
+			{
+				Future<R> future = completionService.take();
+				int index = inFlight.remove(future);
+				T chunk = inFlightChunks.remove(index);
+				R result;
+				try
+				{
+					result = future.get();
+				}
+				catch (ExecutionException e)
+				{
+					Throwable cause = e.getCause();
+					if (cause instanceof Exception)
+						throw (Exception)cause;
+					throw e;
+				}
+				context.ThrowIfDone();
+				if (chunks.hasNext())
+					Submit(completionService, context, task, chunks.next(), next++, inFlight, inFlightChunks);
+				sink.Accept(index, chunk, result);
+			}
+		}
+		finally
+		{
+			for (Future<R> future : inFlight.keySet())
+				future.cancel(true);
+		}
+	}
+
+	private static <T, R> void Submit(CompletionService<R> completionService, OperationContext context, Task<T, R> task, T chunk, int index,
+		HashMap<Future<R>, Integer> inFlight, HashMap<Integer, T> inFlightChunks)
+	{
+		inFlightChunks.put(index, chunk);
+		inFlight.put(completionService.submit(() -> {
+			OperationContext.Scope scope = context.Attach();
+			try
+			{
+				context.ThrowIfDone();
+				return task.Run(chunk);
+			}
+			finally
+			{
+				scope.close();
+			}
+		}), index);
+	}
+
+	private static final class SharedExecutor
+	{
+		static final ExecutorService INSTANCE = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), r -> {
+			Thread thread = new Thread(r, "linkar-bulk");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Executes the operation of a chunk, retrying it with an exponential backoff up to the maximum retries of the options.
+	 * A retry is not attempted when the {@link OperationContext} of the thread is done, or its deadline would pass during the backoff.
+	 */
+	static <R> R Retry(ChunkOptions chunkOptions, Callable<R> operation) throws Exception
+	{
+		int attempt = 0;
+		while (true)
+		{
+			try
+			{
+				return operation.call();
+			}
+			catch (InterruptedException e)
+			{
+				throw e;
+			}
+			catch (Exception e)
+			{
+				if (attempt >= chunkOptions.getMaxRetries())
+					throw e;
+				long delay = RETRY_DELAY << Math.min(attempt, 10);
+				OperationContext context = OperationContext.Current();
+				if (context != null && (context.isDone() || context.getRemainingMillis() <= delay))
+					throw e;
+				Thread.sleep(delay);
+				attempt++;
+			}
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package linkar.data;
+
+/**
+ * Wraps the exception thrown while obtaining the chunks of a bulk operation from an iterator, so it can be thrown again by {@link ChunkRunner}.
+ */
+class ChunkSourceException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	ChunkSourceException(Exception cause)
+	{
+		super(cause);
+	}
+}
@@ -0,0 +1,419 @@
+package linkar.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import linkar.functions.ChunkOptions;
+import linkar.strings.StringFunctions;
+
+/**
+ * Functions to execute operations over a big number of records, splitting them in chunks that are executed concurrently.
+ * <p>
+ * Every chunk is a normal operation, so the size of the buffers, the responses and the time of every call are bounded, and the chunks
+ * may run over several Direct calls or several persistent sessions at the same time. The operation of every chunk is provided by a {@link LkChunkOperation}.
+ * The results must be in MV output format, because they are loaded in {@link LkDataCRUD} objects.
+ * <p>
+ * The chunks that throw an exception are executed again up to {@link ChunkOptions#getMaxRetries} times.
+ */
+public class LkBulkOperations {
+
+	/* READ */
+
+	/**
+	 * Reads a big list of records splitting the recordIds in chunks that are read concurrently.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * CredentialOptions credentials = new CredentialOptions("127.0.0.1", "EPNAME", 11300, "admin", "admin");
+	 * ChunkOptions chunkOptions = new ChunkOptions(1000, 0, 4);
+	 * LkDataCRUD result = LkBulkOperations.Read(recordIds, chunkOptions,
+	 * 	(ids) -&gt; linkar.functions.direct.mv.Functions.Read(credentials, "LK.CUSTOMERS", ids, ""));
+	 * </pre>
+	 * @param lkItems The list of LkItems to read. Only the RecordId of every LkItem is used.
+	 * @param chunkOptions Object that defines the size of the chunks and the number of chunks read at the same time.
+	 * @param reader Operation that reads every chunk of recordIds, separated by the Record Separator character (30), with MV output format.
+	 * @return The merged result of all the chunks. The LkItems keep the order of the input list.
+	 * @throws Exception The first error thrown by the reader. The rest of chunks are cancelled.
+	 */
+	public static LkDataCRUD Read(LkItems lkItems, ChunkOptions chunkOptions, LkChunkOperation reader) throws Exception
+	{
+		if (chunkOptions == null)
+			chunkOptions = new ChunkOptions();
+		final ChunkOptions options = chunkOptions;
+		TreeMap<Integer, LkDataCRUD> results = new TreeMap<Integer, LkDataCRUD>();
+		ChunkRunner.Run(Chunks(lkItems.iterator(), options), options,
+			(chunk) -> new LkDataCRUD(ChunkRunner.Retry(options, () -> reader.Execute(chunk.ComposeReadBuffer()))),
+			(index, chunk, result) -> results.put(index, result));
+		return Merge(results.values(), null);
+	}
+
+	/**
+	 * Reads a big list of records splitting the recordIds in chunks that are read concurrently.
+	 * @param recordIds The recordIds to read.
+	 * @param chunkOptions Object that defines the size of the chunks and the number of chunks read at the same time.
+	 * @param reader Operation that reads every chunk of recordIds, separated by the Record Separator character (30), with MV output format.
+	 * @return The merged result of all the chunks. The LkItems keep the order of the input list.
+	 * @throws Exception The first error thrown by the reader. The rest of chunks are cancelled.
+	 */
+	public static LkDataCRUD Read(String[] recordIds, ChunkOptions chunkOptions, LkChunkOperation reader) throws Exception
+	{
+		return Read(ToLkItems(recordIds), chunkOptions, reader);
+	}
+
+	/**
+	 * Reads a big list of records splitting the recordIds in chunks that are read concurrently, and delivers the result of every chunk as soon as it is completed.
+	 * Only the results of the chunks in flight are kept in memory.
+	 * @param lkItems The list of LkItems to read. Only the RecordId of every LkItem is used.
+	 * @param chunkOptions Object that defines the size of the chunks and the number of chunks read at the same time.
+	 * @param reader Operation that reads every chunk of recordIds, separated by the Record Separator character (30), with MV output format.
+	 * @param consumer It receives the result of every chunk, in completion order. It is always called from the calling thread, never concurrently.
+	 * @throws Exception The first error thrown by the reader or the consumer. The rest of chunks are cancelled.
+	 */
+	public static void Read(LkItems lkItems, ChunkOptions chunkOptions, LkChunkOperation reader, Consumer<LkDataCRUD> consumer) throws Exception
+	{
+		if (chunkOptions == null)
+			chunkOptions = new ChunkOptions();
+		final ChunkOptions options = chunkOptions;
+		ChunkRunner.Run(Chunks(lkItems.iterator(), options), options,
+			(chunk) -> new LkDataCRUD(ChunkRunner.Retry(options, () -> reader.Execute(chunk.ComposeReadBuffer()))),
+			(index, chunk, result) -> consumer.accept(result));
+	}
+
+	/**
+	 * Reads a big list of records splitting the recordIds in chunks that are read concurrently, and delivers the result of every chunk as soon as it is completed.
+	 * Only the results of the chunks in flight are kept in memory.
+	 * @param recordIds The recordIds to read.
+	 * @param chunkOptions Object that defines the size of the chunks and the number of chunks read at the same time.
+	 * @param reader Operation that reads every chunk of recordIds, separated by the Record Separator character (30), with MV output format.
+	 * @param consumer It receives the result of every chunk, in completion order. It is always called from the calling thread, never concurrently.
+	 * @throws Exception The first error thrown by the reader or the consumer. The rest of chunks are cancelled.
+	 */
+	public static void Read(String[] recordIds, ChunkOptions chunkOptions, LkChunkOperation reader, Consumer<LkDataCRUD> consumer) throws Exception
+	{
+		Read(ToLkItems(recordIds), chunkOptions, reader, consumer);
+	}
+
+	/* SELECT AND READ */
+
+	/**
+	 * Selects and reads an unlimited number of records in a pipeline: the recordIds are obtained page by page from a paginated Select,
+	 * grouped in chunks that are read concurrently, and every read record is delivered to the consumer as soon as its chunk is completed.
+	 * The next page is only selected when there is room for new chunks, so the selection, the reading and the processing of the records overlap
+	 * and the memory used does not depend on the size of the selection. Records that cannot be read, for example because they have been deleted after the selection, are skipped.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * CredentialOptions credentials = new CredentialOptions("127.0.0.1", "EPNAME", 11300, "admin", "admin");
+	 * ChunkOptions chunkOptions = new ChunkOptions(200, 0, 4);
+	 * LkBulkOperations.SelectRead(
+	 * 	(numPage) -&gt; linkar.functions.direct.mv.Functions.Select(credentials, "LK.ORDERS", "", "BY DATE", "", "", new SelectOptions(true, true, 2000, numPage)),
+	 * 	chunkOptions,
+	 * 	(ids) -&gt; linkar.functions.direct.mv.Functions.Read(credentials, "LK.ORDERS", ids, ""),
+	 * 	(lkItem) -&gt; process(lkItem));
+	 * </pre>
+	 * @param selector Operation that obtains every page of recordIds with a Select with the onlyRecordId and pagination options, and MV output format.
+	 * @param chunkOptions Object that defines the number of recordIds read in each chunk and the number of chunks read at the same time.
+	 * @param reader Operation that reads every chunk of recordIds, separated by the Record Separator character (30), with MV output format.
+	 * @param consumer It receives every read record. The records of a chunk keep the selection order, but the chunks are delivered in completion order.
+	 * It is always called from the calling thread, never concurrently.
+	 * @throws Exception The first error thrown by the selector, the reader or the consumer. The rest of chunks are cancelled.
+	 */
+	public static void SelectRead(LkPageOperation selector, ChunkOptions chunkOptions, LkChunkOperation reader, Consumer<LkItem> consumer) throws Exception
+	{
+		if (chunkOptions == null)
+			chunkOptions = new ChunkOptions();
+		final ChunkOptions options = chunkOptions;
+		ChunkRunner.Run(Chunks(new SelectPageIterator(selector), options), options,
+			(chunk) -> new LkDataCRUD(ChunkRunner.Retry(options, () -> reader.Execute(chunk.ComposeReadBuffer()))),
+			(index, chunk, result) -> {
+				for (LkItem lkItem : result.LkRecords)
+					consumer.accept(lkItem);
+			});
+	}
+
+	/* NEW */
+
+	/**
+	 * Creates a big list of records splitting them in chunks that are written concurrently.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * CredentialOptions credentials = new CredentialOptions("127.0.0.1", "EPNAME", 11300, "admin", "admin");
+	 * ChunkOptions chunkOptions = new ChunkOptions(500, 1000000, 4);
+	 * LkDataBulk result = LkBulkOperations.New(lkItems, chunkOptions,
+	 * 	(buffer) -&gt; linkar.functions.direct.mv.Functions.New(credentials, "LK.CUSTOMERS", buffer));
+	 * </pre>
+	 * @param lkItems The list of LkItems to create, with their RecordId and Record.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks written at the same time and the retries.
+	 * @param writer Operation that creates every chunk, composed as {@link LkItems#ComposeNewBuffer}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk New(LkItems lkItems, ChunkOptions chunkOptions, LkChunkOperation writer) throws Exception
+	{
+		return Write(lkItems.iterator(), chunkOptions, (chunk) -> chunk.ComposeNewBuffer(), writer);
+	}
+
+	/**
+	 * Creates a sequence of records splitting them in chunks that are written concurrently. The sequence is read as the chunks are sent, so it does not need to be loaded in memory.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * @param lkItems The sequence of LkItems to create, with their RecordId and Record.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks written at the same time and the retries.
+	 * @param writer Operation that creates every chunk, composed as {@link LkItems#ComposeNewBuffer}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk New(Iterator<LkItem> lkItems, ChunkOptions chunkOptions, LkChunkOperation writer) throws Exception
+	{
+		return Write(lkItems, chunkOptions, (chunk) -> chunk.ComposeNewBuffer(), writer);
+	}
+
+	/* UPDATE */
+
+	/**
+	 * Updates a big list of records splitting them in chunks that are written concurrently.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * @param lkItems The list of LkItems to update, with their RecordId, Record and optionally OriginalRecord.
+	 * @param includeOriginalBuffer Determines if the OriginalRecord must be include or not in the buffers, to use the optimistic lock control.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks written at the same time and the retries.
+	 * @param writer Operation that updates every chunk, composed as {@link LkItems#ComposeUpdateBuffer(boolean)}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk Update(LkItems lkItems, boolean includeOriginalBuffer, ChunkOptions chunkOptions, LkChunkOperation writer) throws Exception
+	{
+		return Write(lkItems.iterator(), chunkOptions, (chunk) -> chunk.ComposeUpdateBuffer(includeOriginalBuffer), writer);
+	}
+
+	/**
+	 * Updates a sequence of records splitting them in chunks that are written concurrently. The sequence is read as the chunks are sent, so it does not need to be loaded in memory.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * @param lkItems The sequence of LkItems to update, with their RecordId, Record and optionally OriginalRecord.
+	 * @param includeOriginalBuffer Determines if the OriginalRecord must be include or not in the buffers, to use the optimistic lock control.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks written at the same time and the retries.
+	 * @param writer Operation that updates every chunk, composed as {@link LkItems#ComposeUpdateBuffer(boolean)}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk Update(Iterator<LkItem> lkItems, boolean includeOriginalBuffer, ChunkOptions chunkOptions, LkChunkOperation writer) throws Exception
+	{
+		return Write(lkItems, chunkOptions, (chunk) -> chunk.ComposeUpdateBuffer(includeOriginalBuffer), writer);
+	}
+
+	/* DELETE */
+
+	/**
+	 * Deletes a big list of records splitting them in chunks that are deleted concurrently.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * @param lkItems The list of LkItems to delete, with their RecordId and optionally OriginalRecord.
+	 * @param includeOriginalBuffer Determines if the OriginalRecord must be include or not in the buffers, to use the optimistic lock control.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks deleted at the same time and the retries.
+	 * @param deleter Operation that deletes every chunk, composed as {@link LkItems#ComposeDeleteBuffer(boolean)}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk Delete(LkItems lkItems, boolean includeOriginalBuffer, ChunkOptions chunkOptions, LkChunkOperation deleter) throws Exception
+	{
+		return Write(lkItems.iterator(), chunkOptions, (chunk) -> chunk.ComposeDeleteBuffer(includeOriginalBuffer), deleter);
+	}
+
+	/**
+	 * Deletes a sequence of records splitting them in chunks that are deleted concurrently. The sequence is read as the chunks are sent, so it does not need to be loaded in memory.
+	 * The errors of every chunk are assigned to its records, so one failed chunk or record does not stop the rest of the operation.
+	 * @param lkItems The sequence of LkItems to delete, with their RecordId and optionally OriginalRecord.
+	 * @param includeOriginalBuffer Determines if the OriginalRecord must be include or not in the buffers, to use the optimistic lock control.
+	 * @param chunkOptions Object that defines the size of the chunks, the number of chunks deleted at the same time and the retries.
+	 * @param deleter Operation that deletes every chunk, composed as {@link LkItems#ComposeDeleteBuffer(boolean)}, with MV output format.
+	 * @return The merged result of all the chunks, with the outcome of every record.
+	 * @throws Exception
+	 */
+	public static LkDataBulk Delete(Iterator<LkItem> lkItems, boolean includeOriginalBuffer, ChunkOptions chunkOptions, LkChunkOperation deleter) throws Exception
+	{
+		return Write(lkItems, chunkOptions, (chunk) -> chunk.ComposeDeleteBuffer(includeOriginalBuffer), deleter);
+	}
+
+	/* AUXILIARY */
+
+	/**
+	 * Result of a write chunk: the result of the operation, or the exception thrown after all the retries.
+	 */
+	private static class WriteOutcome
+	{
+		final LkDataCRUD Result;
+		final Exception Error;
+
+		WriteOutcome(LkDataCRUD result, Exception error)
+		{
+			this.Result = result;
+			this.Error = error;
+		}
+	}
+
+	private static LkDataBulk Write(Iterator<LkItem> lkItems, ChunkOptions chunkOptions, Function<LkItems, String> composer, LkChunkOperation writer) throws Exception
+	{
+		if (chunkOptions == null)
+			chunkOptions = new ChunkOptions();
+		final ChunkOptions options = chunkOptions;
+		TreeMap<Integer, LkDataCRUD> results = new TreeMap<Integer, LkDataCRUD>();
+		TreeMap<Integer, ArrayList<LkItemResult>> itemResults = new TreeMap<Integer, ArrayList<LkItemResult>>();
+		ChunkRunner.Run(Chunks(lkItems, options), options,
+			(chunk) -> {
+				String buffer = composer.apply(chunk);
+				try
+				{
+					return new WriteOutcome(new LkDataCRUD(ChunkRunner.Retry(options, () -> writer.Execute(buffer))), null);
+				}
+				catch (InterruptedException e)
+				{
+					throw e;
+				}
+				catch (Exception e)
+				{
+					return new WriteOutcome(null, e);
+				}
+			},
+			(index, chunk, outcome) -> {
+				if (outcome.Result != null)
+					results.put(index, outcome.Result);
+				itemResults.put(index, Evaluate(chunk, outcome));
+			});
+
+		ArrayList<LkItemResult> allItemResults = new ArrayList<LkItemResult>();
+		for (ArrayList<LkItemResult> chunkItemResults : itemResults.values())
+			allItemResults.addAll(chunkItemResults);
+		return (LkDataBulk)Merge(results.values(), allItemResults);
+	}
+
+	/**
+	 * Assigns the errors of a chunk to its records.
+	 * An error is assigned to a record when the message of the error contains its RecordId. The rest of errors of the chunk are assigned to the records
+	 * of the chunk not returned in the result of the operation. When the chunk has thrown an exception, all its records get the exception message.
+	 */
+	private static ArrayList<LkItemResult> Evaluate(LkItems chunk, WriteOutcome outcome)
+	{
+		ArrayList<LkItemResult> itemResults = new ArrayList<LkItemResult>(chunk.size());
+		if (outcome.Error != null)
+		{
+			String message = (outcome.Error.getMessage() == null ? outcome.Error.toString() : outcome.Error.getMessage());
+			for (LkItem lkItem : chunk)
+				itemResults.add(new LkItemResult(lkItem.RecordId, new String[] { message }));
+			return itemResults;
+		}
+
+		HashMap<String, ArrayList<String>> recordErrors = new HashMap<String, ArrayList<String>>();
+		ArrayList<String> chunkErrors = new ArrayList<String>();
+		for (String error : outcome.Result.getErrors())
+		{
+			boolean assigned = false;
+			for (LkItem lkItem : chunk)
+			{
+				if (ContainsRecordId(error, lkItem.RecordId))
+				{
+					ArrayList<String> errors = recordErrors.get(lkItem.RecordId);
+					if (errors == null)
+						recordErrors.put(lkItem.RecordId, errors = new ArrayList<String>());
+					errors.add(error);
+					assigned = true;
+				}
+			}
+			if (!assigned)
+				chunkErrors.add(error);
+		}
+
+		HashSet<String> returnedIds = new HashSet<String>();
+		for (LkItem lkItem : outcome.Result.LkRecords)
+			returnedIds.add(lkItem.RecordId);
+		String[] lstChunkErrors = chunkErrors.toArray(new String[chunkErrors.size()]);
+		for (LkItem lkItem : chunk)
+		{
+			ArrayList<String> errors = recordErrors.get(lkItem.RecordId);
+			if (errors != null)
+				itemResults.add(new LkItemResult(lkItem.RecordId, errors.toArray(new String[errors.size()])));
+			else if (lstChunkErrors.length > 0 && !returnedIds.contains(lkItem.RecordId))
+				itemResults.add(new LkItemResult(lkItem.RecordId, lstChunkErrors));
+			else
+				itemResults.add(new LkItemResult(lkItem.RecordId, null));
+		}
+		return itemResults;
+	}
+
+	/**
+	 * Looks for the recordId as a whole word inside the message of the error, skipping the error code.
+	 */
+	private static boolean ContainsRecordId(String error, String recordId)
+	{
+		if (recordId == null || recordId.length() == 0)
+			return false;
+		int vmPos = error.indexOf(StringFunctions.VM);
+		String message = (vmPos >= 0 ? error.substring(vmPos + 1) : error);
+		int pos = message.indexOf(recordId);
+		while (pos >= 0)
+		{
+			int end = pos + recordId.length();
+			boolean startOk = (pos == 0 || !Character.isLetterOrDigit(message.charAt(pos - 1)));
+			boolean endOk = (end == message.length() || !Character.isLetterOrDigit(message.charAt(end)));
+			if (startOk && endOk)
+				return true;
+			pos = message.indexOf(recordId, pos + 1);
+		}
+		return false;
+	}
+
+	private static Iterator<LkItems> Chunks(Iterator<LkItem> lkItems, ChunkOptions chunkOptions)
+	{
+		String[] empty = new String[0];
+		return new LkItemsChunker(lkItems, chunkOptions.getMaxItems(), chunkOptions.getMaxChars(), empty, empty, empty);
+	}
+
+	private static LkItems ToLkItems(String[] recordIds)
+	{
+		LkItems lkItems = new LkItems();
+		HashSet<String> ids = new HashSet<String>();
+		for (String id : recordIds)
+			lkItems.add(new LkItem(id), ids);
+		return lkItems;
+	}
+
+	/**
+	 * Joins the results of several chunks in a single LkDataCRUD, in the order of the collection.
+	 * When itemResults is not null, the result is a LkDataBulk.
+	 */
+	private static LkDataCRUD Merge(Collection<LkDataCRUD> results, ArrayList<LkItemResult> itemResults)
+	{
+		LkItems first = null;
+		for (LkDataCRUD result : results)
+		{
+			if (result.LkRecords.getLstDictsId().length > 0 || result.LkRecords.getLstDicts().length > 0)
+			{
+				first = result.LkRecords;
+				break;
+			}
+		}
+		LkItems lkRecords = (first == null ? new LkItems() :
+			new LkItems(first.getLstDictsId(), first.getLstDicts(), first.getLstDictsCalculated()));
+
+		int totalItems = 0;
+		ArrayList<String> errors = new ArrayList<String>();
+		HashSet<String> ids = new HashSet<String>();
+		for (LkDataCRUD result : results)
+		{
+			totalItems += result.getTotalItems();
+			for (String error : result.getErrors())
+				errors.add(error);
+			for (LkItem lkItem : result.LkRecords)
+				lkRecords.add(lkItem, ids);
+		}
+		String[] lstErrors = errors.toArray(new String[errors.size()]);
+		if (itemResults != null)
+			return new LkDataBulk(totalItems, lstErrors, lkRecords, itemResults);
+		else
+			return new LkDataCRUD(totalItems, lstErrors, lkRecords);
+	}
+}
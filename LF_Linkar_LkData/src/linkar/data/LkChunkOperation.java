@@ -0,0 +1,24 @@
+package linkar.data;
+
+/**
+ * Operation executed by the bulk functions of {@link LkBulkOperations} for every chunk.
+ * <p>
+ * It receives the buffer of the chunk, composed as any other buffer of the equivalent single operation, and returns the string result of the execution.
+ * It may be executed at the same time from several threads, so it must use Direct functions or a different persistent session for every concurrent call.
+ * <p>
+ * Example:
+ * <pre>
+ * LkChunkOperation reader = (recordIds) -&gt; linkar.functions.direct.mv.Functions.Read(credentials, "LK.CUSTOMERS", recordIds, "", readOptions);
+ * </pre>
+ */
+@FunctionalInterface
+public interface LkChunkOperation {
+
+	/**
+	 * Executes the operation for one chunk.
+	 * @param buffer The buffer of the chunk: recordIds for Read operations, or the buffers composed by {@link LkItems} for New, Update and Delete operations.
+	 * @return The string result of the operation execution.
+	 * @throws Exception
+	 */
+	String Execute(String buffer) throws Exception;
+}
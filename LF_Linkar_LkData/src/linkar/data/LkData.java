@@ -1,5 +1,8 @@
 package linkar.data;
 
+import linkar.functions.OPERATION_PHASE;
+import linkar.functions.OperationPhases;
+import linkar.functions.OperationTiming;
 import linkar.strings.StringFunctions;
 
 /**
@@ -19,14 +22,45 @@ public abstract class LkData {
      */
     public String[] getErrors() { return Errors; }
 
+    private OperationTiming Timing;
+    /**
+     * Breakdown of the time of the operation between the client and the server, when {@link OperationTiming} is enabled.
+     * @return The breakdown, or null if it was not collected.
+     */
+    public OperationTiming getTiming() { return Timing; }
+
+    private OperationPhases.PhaseTimer ParsingTimer;
+
     /**
      * Initializes a new instance of the LkData class.
      * @param opResult The string result of the operation execution.
      */
     public LkData(String opResult)
     {
+        this.ParsingTimer = OperationPhases.Begin(OPERATION_PHASE.PARSING);
         this.OperationResult = opResult;
         this.Errors = StringFunctions.ExtractErrors(opResult);
     }
+
+    /**
+     * Initializes a new instance of the LkData class with an already extracted list of errors.
+     * @param opResult The string result of the operation execution.
+     * @param errors List of the error of the operation execution.
+     */
+    protected LkData(String opResult, String[] errors)
+    {
+        this.OperationResult = opResult;
+        this.Errors = (errors == null ? new String[0] : errors);
+    }
+
+    /**
+     * Ends the measure of the parsing of the result, started by the {@link #LkData(String)} constructor. The derived classes call it at the end of their constructors.
+     */
+    protected void EndParsing()
+    {
+        OperationPhases.End(this.ParsingTimer, (this.OperationResult == null ? 0 : this.OperationResult.length()));
+        this.ParsingTimer = null;
+        this.Timing = OperationTiming.Current();
+    }
     
 }
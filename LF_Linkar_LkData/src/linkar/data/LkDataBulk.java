@@ -0,0 +1,42 @@
+package linkar.data;
+
+import java.util.ArrayList;
+
+/**
+ * Class to management the result of the bulk write operations New, Update and Delete of {@link LkBulkOperations}.
+ * Besides the merged results of all the chunks, it contains the outcome of every record.
+ */
+public class LkDataBulk extends LkDataCRUD {
+
+	private ArrayList<LkItemResult> ItemResults;
+	/**
+	 * Outcome of every record, in the same order as the input records.
+	 * @return ItemResults
+	 */
+	public ArrayList<LkItemResult> getItemResults() { return ItemResults; }
+
+	private int FailedItems;
+	/**
+	 * Number of records with errors.
+	 * @return FailedItems
+	 */
+	public int getFailedItems() { return FailedItems; }
+
+	/**
+	 * Initializes a new instance of the LkDataBulk class.
+	 * @param totalItems Number of the items of all the chunks.
+	 * @param errors List of the errors of all the chunks.
+	 * @param lkRecords LkItem list of all the chunks.
+	 * @param itemResults Outcome of every record.
+	 */
+	LkDataBulk(int totalItems, String[] errors, LkItems lkRecords, ArrayList<LkItemResult> itemResults)
+	{
+		super(totalItems, errors, lkRecords);
+		this.ItemResults = itemResults;
+		int failedItems = 0;
+		for (LkItemResult itemResult : itemResults)
+			if (!itemResult.getSuccess())
+				failedItems++;
+		this.FailedItems = failedItems;
+	}
+}
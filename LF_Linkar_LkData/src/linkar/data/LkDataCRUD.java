@@ -24,7 +24,7 @@ public class LkDataCRUD extends LkData {
      */
     public LkDataCRUD()
     {
-    	super("");
+    	super("", null);
         this.LkRecords = new LkItems();
         this.TotalItems = 0;
     }
@@ -34,6 +34,16 @@ public class LkDataCRUD extends LkData {
      * @param crudOperationResult The String result of the CRUD operation execution.
      */
     public LkDataCRUD(String crudOperationResult)
+    {
+    	this(crudOperationResult, true);
+    }
+
+    /**
+     * Initializes a new instance of the LkDataCRUD class, for the derived classes that extract more data from the result.
+     * @param crudOperationResult The String result of the CRUD operation execution.
+     * @param endParsing End the measure of the parsing. When it is false, the derived class calls {@link #EndParsing} at the end of its constructor.
+     */
+    protected LkDataCRUD(String crudOperationResult, boolean endParsing)
     {
     	super(crudOperationResult);
         this.TotalItems = StringFunctions.ExtractTotalRecords(crudOperationResult);
@@ -55,5 +65,21 @@ public class LkDataCRUD extends LkData {
             LkItem lkRecord = new LkItem(lstRecordIds[i], record, calculateds, originalRecord);
             this.LkRecords.add(lkRecord);
         }
+        if (endParsing)
+            EndParsing();
+    }
+
+    /**
+     * Initializes a new instance of the LkDataCRUD class with the results of an operation executed in several chunks.
+     * The OperationResult of this instance is empty, because there is not a single string result.
+     * @param totalItems Number of the items of all the chunks.
+     * @param errors List of the errors of all the chunks.
+     * @param lkRecords LkItem list of all the chunks.
+     */
+    LkDataCRUD(int totalItems, String[] errors, LkItems lkRecords)
+    {
+    	super("", errors);
+        this.TotalItems = totalItems;
+        this.LkRecords = lkRecords;
     }
 }
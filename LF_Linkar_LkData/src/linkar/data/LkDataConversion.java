@@ -22,5 +22,6 @@ public class LkDataConversion extends LkData {
     {
     	super(conversionResult);
         this.Conversion = StringFunctions.ExtractConversion(conversionResult);
+        EndParsing();
     }
 }
@@ -30,5 +30,6 @@ public class LkDataExecute extends LkData {
     	super(executeResult);
         this.Capturing = StringFunctions.ExtractCapturing(executeResult);
         this.Returning = StringFunctions.ExtractReturning(executeResult);
+        EndParsing();
     }
 }
@@ -22,5 +22,6 @@ public class LkDataFormat extends LkData {
     {
     	super(formatResult);
         this.Format = StringFunctions.ExtractFormat(formatResult);
+        EndParsing();
     }
 }
@@ -27,8 +27,9 @@ public class LkDataSchProp extends LkDataCRUD {
      */
     public LkDataSchProp(String lkSchemasResult)
     {
-    	super(lkSchemasResult);
+    	super(lkSchemasResult, false);
         this.RowProperties = StringFunctions.ExtractRowProperties(lkSchemasResult);
         this.RowHeaders = StringFunctions.ExtractRowHeaders(lkSchemasResult);
+        EndParsing();
     }
 }
@@ -22,5 +22,6 @@ public class LkDataSubroutine extends LkData {
     {
     	super(subroutineResult);
         this.Arguments = StringFunctions.ExtractSubroutineArgs(subroutineResult);
+        EndParsing();
     }
 }
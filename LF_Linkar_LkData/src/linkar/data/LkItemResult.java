@@ -0,0 +1,40 @@
+package linkar.data;
+
+/**
+ * Outcome of a single record in a bulk write operation of {@link LkBulkOperations}.
+ */
+public class LkItemResult {
+
+	private String RecordId;
+	/**
+	 * The ID of the record.
+	 * @return RecordId
+	 */
+	public String getRecordId() { return RecordId; }
+
+	private boolean Success;
+	/**
+	 * Indicates if the record has been written without errors.
+	 * @return Success
+	 */
+	public boolean getSuccess() { return Success; }
+
+	private String[] Errors;
+	/**
+	 * List of the errors of the record. Empty when the record has been written without errors.
+	 * @return Errors
+	 */
+	public String[] getErrors() { return Errors; }
+
+	/**
+	 * Initializes a new instance of the LkItemResult class.
+	 * @param recordId The ID of the record.
+	 * @param errors List of the errors of the record. Null or empty when the record has been written without errors.
+	 */
+	public LkItemResult(String recordId, String[] errors)
+	{
+		this.RecordId = recordId;
+		this.Errors = (errors == null ? new String[0] : errors);
+		this.Success = (this.Errors.length == 0);
+	}
+}
@@ -1,8 +1,11 @@
 package linkar.data;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import linkar.functions.ASCII_Chars;
+import linkar.functions.OPERATION_PHASE;
+import linkar.functions.OperationPhases;
 
 public class LkItems extends ArrayList<LkItem> {
 
@@ -104,6 +107,27 @@ public class LkItems extends ArrayList<LkItem> {
         	return false;
 	}
 	
+	/**
+	 * Adds a LkItem to the list using an external set of the already added recordIds, instead of looking for duplicates along the whole list.
+	 * Used when a big list is built from several chunks.
+	 * @param lkItem The LkItem to be added.
+	 * @param recordIds The recordIds already stored in the list.
+	 * @return boolean Is correctly added.
+	 */
+	boolean add(LkItem lkItem, HashSet<String> recordIds)
+	{
+        if (!(lkItem.RecordId == null || lkItem.RecordId.length() == 0) && recordIds.add(lkItem.RecordId))
+        {
+            lkItem.LstDictsId = this.LstDictsId;
+            lkItem.LstDicts = this.LstDicts;
+            lkItem.LstDictsCalculated = this.LstDictsCalculated;
+            super.add(lkItem);
+            return true;
+        }
+        else
+        	return false;
+	}
+
 	/**
 	 * Creates and adds LkItem with specific recordIds to the list.
 	 * @param recordIds Array with the list of recordIds
@@ -137,12 +161,38 @@ public class LkItems extends ArrayList<LkItem> {
 
     }
 
+    /**
+     * Splits the list in several consecutive lists, keeping the order of the LkItems, to be sent in different operations.
+     * The size of every LkItem is estimated as the length of its RecordId, Record and OriginalRecord.
+     * @param maxItems Maximum number of LkItems in each list. 0 means no limit.
+     * @param maxChars Maximum estimated size, in characters, of each list. 0 means no limit. A LkItem bigger than this size is put alone in its own list.
+     * @return The lists, with the same dictionaries arrays as this list.
+     */
+    public ArrayList<LkItems> Split(int maxItems, int maxChars)
+    {
+        ArrayList<LkItems> chunks = new ArrayList<LkItems>();
+        LkItemsChunker chunker = new LkItemsChunker(this.iterator(), maxItems, maxChars, this.LstDictsId, this.LstDicts, this.LstDictsCalculated);
+        while (chunker.hasNext())
+            chunks.add(chunker.next());
+        return chunks;
+    }
+
+    /**
+     * Adds a LkItem to the list without any check. Used to build the chunks of an already checked list.
+     * @param lkItem The LkItem to be added.
+     */
+    void addUnchecked(LkItem lkItem)
+    {
+        super.add(lkItem);
+    }
+
     /**
      * Composes the final buffer String of the all record in the list that will be readed, in MV Read operations, with the RecordId information.
      * @return The final String buffer for MV Read operations.
      */
     public String ComposeReadBuffer()
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.COMPOSITION);
         String buf = "";
         for (int i = 0; i < this.size(); i++)
         {
@@ -151,6 +201,7 @@ public class LkItems extends ArrayList<LkItem> {
             buf += super.get(i).RecordId;
         }
 
+        OperationPhases.End(timer, buf.length());
         return buf;
     }
 
@@ -161,6 +212,7 @@ public class LkItems extends ArrayList<LkItem> {
      */
     public String ComposeUpdateBuffer(boolean includeOriginalBuffer)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.COMPOSITION);
         String buf = "";
         for (int i = 0; i < this.size(); i++)
         {
@@ -190,6 +242,7 @@ public class LkItems extends ArrayList<LkItem> {
             }
         }
 
+        OperationPhases.End(timer, buf.length());
         return buf;
     }
     
@@ -218,6 +271,7 @@ public class LkItems extends ArrayList<LkItem> {
      */
     public String ComposeDeleteBuffer(boolean includeOriginalBuffer)
     {
+        OperationPhases.PhaseTimer timer = OperationPhases.Begin(OPERATION_PHASE.COMPOSITION);
         String buf = "";
         for (int i = 0; i < this.size(); i++)
         {
@@ -238,6 +292,7 @@ public class LkItems extends ArrayList<LkItem> {
             }
         }
 
+        OperationPhases.End(timer, buf.length());
         return buf;
     }
     
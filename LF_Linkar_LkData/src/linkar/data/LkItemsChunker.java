@@ -0,0 +1,70 @@
+package linkar.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Auxiliary iterator that groups a sequence of LkItems in consecutive {@link LkItems} lists of bounded size, without reading the whole sequence.
+ * The size of every LkItem is estimated as the length of its RecordId, Record and OriginalRecord.
+ */
+class LkItemsChunker implements Iterator<LkItems> {
+
+	private final Iterator<LkItem> Source;
+	private final int MaxItems;
+	private final int MaxChars;
+	private final String[] LstDictsId;
+	private final String[] LstDicts;
+	private final String[] LstDictsCalculated;
+	private LkItem Pending;
+
+	LkItemsChunker(Iterator<LkItem> source, int maxItems, int maxChars, String[] lstDictsId, String[] lstDicts, String[] lstDictsCalculated)
+	{
+		this.Source = source;
+		this.MaxItems = maxItems;
+		this.MaxChars = maxChars;
+		this.LstDictsId = lstDictsId;
+		this.LstDicts = lstDicts;
+		this.LstDictsCalculated = lstDictsCalculated;
+		this.Pending = null;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		return this.Pending != null || this.Source.hasNext();
+	}
+
+	@Override
+	public LkItems next()
+	{
+		if (!hasNext())
+			throw new NoSuchElementException();
+
+		LkItems chunk = new LkItems(this.LstDictsId, this.LstDicts, this.LstDictsCalculated);
+		int chunkChars = 0;
+		while (this.Pending != null || this.Source.hasNext())
+		{
+			LkItem lkItem = (this.Pending != null ? this.Pending : this.Source.next());
+			this.Pending = null;
+			int itemChars = EstimateLength(lkItem);
+			if (chunk.size() > 0 &&
+				((this.MaxItems > 0 && chunk.size() >= this.MaxItems) ||
+				(this.MaxChars > 0 && chunkChars + itemChars > this.MaxChars)))
+			{
+				this.Pending = lkItem;
+				break;
+			}
+			chunk.addUnchecked(lkItem);
+			chunkChars += itemChars;
+		}
+		return chunk;
+	}
+
+	static int EstimateLength(LkItem lkItem)
+	{
+		// One separator character for every block of the item.
+		return (lkItem.RecordId == null ? 0 : lkItem.RecordId.length()) +
+			(lkItem.Record == null ? 0 : lkItem.Record.length()) +
+			(lkItem.OriginalRecord == null ? 0 : lkItem.OriginalRecord.length()) + 3;
+	}
+}
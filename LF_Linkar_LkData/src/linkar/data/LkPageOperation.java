@@ -0,0 +1,22 @@
+package linkar.data;
+
+/**
+ * Operation that obtains one page of a paginated Select, used by {@link LkBulkOperations#SelectRead}.
+ * <p>
+ * Example:
+ * <pre>
+ * LkPageOperation selector = (numPage) -&gt; linkar.functions.direct.mv.Functions.Select(credentials, "LK.ORDERS", "WITH CUSTOMER = '1'", "BY DATE", "", "",
+ * 	new SelectOptions(true, true, 1000, numPage));
+ * </pre>
+ */
+@FunctionalInterface
+public interface LkPageOperation {
+
+	/**
+	 * Executes the operation for one page.
+	 * @param numPage The page number to obtain, starting by 1.
+	 * @return The string result of the operation execution, with MV output format.
+	 * @throws Exception
+	 */
+	String Execute(int numPage) throws Exception;
+}
@@ -0,0 +1,76 @@
+package linkar.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linkar.functions.OperationContext;
+import linkar.strings.StringFunctions;
+
+/**
+ * Auxiliary iterator over the recordIds of a paginated Select. The pages are obtained only when the ids of the previous page have been consumed.
+ * The iteration ends with the first empty page, or when all the records indicated by TOTAL_RECORDS have been obtained.
+ * No more pages are obtained when the {@link OperationContext} of the thread is done.
+ * The exceptions of the page operation are thrown wrapped in a {@link ChunkSourceException}.
+ */
+class SelectPageIterator implements Iterator<LkItem> {
+
+	private final LkPageOperation Selector;
+	private String[] PageIds;
+	private int Position;
+	private int NumPage;
+	private int Obtained;
+	private boolean Finished;
+
+	SelectPageIterator(LkPageOperation selector)
+	{
+		this.Selector = selector;
+		this.PageIds = new String[0];
+		this.Position = 0;
+		this.NumPage = 0;
+		this.Obtained = 0;
+		this.Finished = false;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		while (this.Position >= this.PageIds.length && !this.Finished)
+			NextPage();
+		return this.Position < this.PageIds.length;
+	}
+
+	@Override
+	public LkItem next()
+	{
+		if (!hasNext())
+			throw new NoSuchElementException();
+		return new LkItem(this.PageIds[this.Position++]);
+	}
+
+	private void NextPage()
+	{
+		String result;
+		try
+		{
+			OperationContext context = OperationContext.Current();
+			if (context != null)
+				context.ThrowIfDone();
+			result = this.Selector.Execute(++this.NumPage);
+		}
+		catch (Exception e)
+		{
+			throw new ChunkSourceException(e);
+		}
+
+		String[] errors = StringFunctions.ExtractErrors(result);
+		if (errors.length > 0)
+			throw new ChunkSourceException(new Exception(StringFunctions.FormatError(errors[0])));
+
+		this.PageIds = StringFunctions.ExtractRecordIds(result);
+		this.Position = 0;
+		this.Obtained += this.PageIds.length;
+		int totalRecords = StringFunctions.ExtractTotalRecords(result);
+		if (this.PageIds.length == 0 || (totalRecords > 0 && this.Obtained >= totalRecords))
+			this.Finished = true;
+	}
+}
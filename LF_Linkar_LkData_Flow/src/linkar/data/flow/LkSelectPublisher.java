@@ -0,0 +1,56 @@
+package linkar.data.flow;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import linkar.data.LkDataCRUD;
+import linkar.data.LkItem;
+import linkar.data.LkPageOperation;
+import linkar.strings.StringFunctions;
+
+/**
+ * Publisher of the records of a paginated Select, as {@link LkItem} objects.
+ * <p>
+ * The next page is selected only when the subscriber has requested more records than the ones already delivered, and the cancellation of the subscription
+ * stops the selection of pages. The publication ends with the first empty page, or when all the records indicated by TOTAL_RECORDS have been delivered.
+ * <p>
+ * Example:
+ * <pre>
+ * CredentialOptions credentials = new CredentialOptions("127.0.0.1", "EPNAME", 11300, "admin", "admin");
+ * LkSelectPublisher publisher = new LkSelectPublisher(
+ * 	(numPage) -&gt; linkar.functions.direct.mv.Functions.Select(credentials, "LK.ORDERS", "", "BY DATE", "", "", new SelectOptions(false, true, 500, numPage)));
+ * publisher.subscribe(subscriber);
+ * </pre>
+ */
+public class LkSelectPublisher extends PagedPublisher<LkItem> {
+
+	/**
+	 * Initializes a new instance of the LkSelectPublisher class.
+	 * @param selector Operation that obtains every page of records with a Select with the pagination option and MV output format.
+	 * @param executor Executor where the pages are selected and the records are delivered to the subscribers.
+	 */
+	public LkSelectPublisher(LkPageOperation selector, Executor executor)
+	{
+		super(selector, executor);
+	}
+
+	/**
+	 * Initializes a new instance of the LkSelectPublisher class, that selects the pages and delivers the records in the common ForkJoinPool.
+	 * @param selector Operation that obtains every page of records with a Select with the pagination option and MV output format.
+	 */
+	public LkSelectPublisher(LkPageOperation selector)
+	{
+		this(selector, ForkJoinPool.commonPool());
+	}
+
+	@Override
+	Page<LkItem> ExtractPage(String result, int numPage, long obtained) throws Exception
+	{
+		LkDataCRUD data = new LkDataCRUD(result);
+		if (data.getErrors().length > 0)
+			throw new Exception(StringFunctions.FormatError(data.getErrors()[0]));
+		int totalItems = data.getTotalItems();
+		boolean last = (totalItems > 0 && obtained + data.LkRecords.size() >= totalItems);
+		return new Page<LkItem>(data.LkRecords, last);
+	}
+}
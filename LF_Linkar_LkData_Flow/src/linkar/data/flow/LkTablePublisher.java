@@ -0,0 +1,101 @@
+package linkar.data.flow;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+import linkar.data.LkPageOperation;
+
+/**
+ * Publisher of the rows of a paginated GetTable operation with TABLE output format. Every row is delivered as the array of its columns.
+ * <p>
+ * The next page is obtained only when the subscriber has requested more rows than the ones already delivered, and the cancellation of the subscription
+ * stops obtaining pages. The publication ends with the first page without data rows.
+ * <p>
+ * When the table has header rows (rowHeaders or rowProperties options), they are included in every page: they are delivered only from the first page.
+ * <p>
+ * Example:
+ * <pre>
+ * CredentialOptions credentials = new CredentialOptions("127.0.0.1", "EPNAME", 11300, "admin", "admin");
+ * LkTablePublisher publisher = new LkTablePublisher(
+ * 	(numPage) -&gt; linkar.functions.direct.table.Functions.GetTable(credentials, "LK.CUSTOMERS", "", "", "",
+ * 		new TableOptions(RowHeaders.TYPE.MAINLABEL, false, false, false, false, true, 500, numPage)), 1);
+ * publisher.subscribe(subscriber);
+ * </pre>
+ */
+public class LkTablePublisher extends PagedPublisher<String[]> {
+
+	/** Default Table Row Separator of the EntryPoints: VT char (11). */
+	public static final String DEFAULT_ROW_SEPARATOR = "\u000B";
+	/** Default Table Column Separator of the EntryPoints: TAB char (9). */
+	public static final String DEFAULT_COLUMN_SEPARATOR = "\t";
+
+	private final int HeaderRows;
+	private final Pattern RowSeparator;
+	private final Pattern ColumnSeparator;
+
+	/**
+	 * Initializes a new instance of the LkTablePublisher class.
+	 * @param tableReader Operation that obtains every page of the table with a GetTable with the pagination option.
+	 * @param headerRows Number of header rows at the beginning of every page, defined by the rowHeaders and rowProperties options.
+	 * @param rowSeparator Table Row Separator defined in the EntryPoint.
+	 * @param columnSeparator Table Column Separator defined in the EntryPoint.
+	 * @param executor Executor where the pages are obtained and the rows are delivered to the subscribers.
+	 */
+	public LkTablePublisher(LkPageOperation tableReader, int headerRows, String rowSeparator, String columnSeparator, Executor executor)
+	{
+		super(tableReader, executor);
+		this.HeaderRows = (headerRows < 0 ? 0 : headerRows);
+		// The separators are literal text, not regular expressions.
+		this.RowSeparator = Pattern.compile(rowSeparator, Pattern.LITERAL);
+		this.ColumnSeparator = Pattern.compile(columnSeparator, Pattern.LITERAL);
+	}
+
+	/**
+	 * Initializes a new instance of the LkTablePublisher class, with the default separators, that obtains the pages and delivers the rows in the common ForkJoinPool.
+	 * @param tableReader Operation that obtains every page of the table with a GetTable with the pagination option.
+	 * @param headerRows Number of header rows at the beginning of every page, defined by the rowHeaders and rowProperties options.
+	 */
+	public LkTablePublisher(LkPageOperation tableReader, int headerRows)
+	{
+		this(tableReader, headerRows, DEFAULT_ROW_SEPARATOR, DEFAULT_COLUMN_SEPARATOR, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Initializes a new instance of the LkTablePublisher class, for tables without header rows, with the default separators, that obtains the pages and delivers the rows in the common ForkJoinPool.
+	 * @param tableReader Operation that obtains every page of the table with a GetTable with the pagination option.
+	 */
+	public LkTablePublisher(LkPageOperation tableReader)
+	{
+		this(tableReader, 0);
+	}
+
+	@Override
+	Page<String[]> ExtractPage(String result, int numPage, long obtained) throws Exception
+	{
+		ArrayList<String[]> rows = new ArrayList<String[]>();
+		if (result == null || result.length() == 0)
+			return new Page<String[]>(rows, true);
+
+		String[] lines = this.RowSeparator.split(result, -1);
+		int dataRows = 0;
+		for (int i = 0; i < lines.length; i++)
+		{
+			boolean header = (i < this.HeaderRows);
+			if (header && numPage > 1)
+				continue;
+			if (!header)
+			{
+				if (i == lines.length - 1 && lines[i].length() == 0)
+					break;
+				dataRows++;
+			}
+			rows.add(this.ColumnSeparator.split(lines[i], -1));
+		}
+		// A page with only headers is the end of the table.
+		if (dataRows == 0)
+			return new Page<String[]>(numPage == 1 ? rows : new ArrayList<String[]>(), true);
+		return new Page<String[]>(rows, false);
+	}
+}
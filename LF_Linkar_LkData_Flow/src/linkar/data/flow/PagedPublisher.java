@@ -0,0 +1,209 @@
+package linkar.data.flow;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import linkar.data.LkPageOperation;
+import linkar.functions.OperationContext;
+
+/**
+ * Base class of the publishers over paginated operations.
+ * <p>
+ * Every subscription obtains the pages one by one in the executor, and only when the subscriber has pending demand and the items of the previous page
+ * have been delivered, so a slow subscriber never forces to keep more than one page in memory. After the cancellation of the subscription, no more pages are obtained.
+ * <p>
+ * The {@link OperationContext} of the thread that subscribes is attached while the pages are obtained. When it is done, the subscription ends with an error.
+ * @param <T> Type of the items of the pages.
+ */
+abstract class PagedPublisher<T> implements Flow.Publisher<T> {
+
+	/**
+	 * Items of one page, and whether it is the last page.
+	 */
+	static final class Page<T>
+	{
+		final List<T> Items;
+		final boolean Last;
+
+		Page(List<T> items, boolean last)
+		{
+			this.Items = items;
+			this.Last = last;
+		}
+	}
+
+	private final LkPageOperation PageOperation;
+	private final Executor Executor;
+
+	PagedPublisher(LkPageOperation pageOperation, Executor executor)
+	{
+		this.PageOperation = Objects.requireNonNull(pageOperation);
+		this.Executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Extracts the items of a page from the string result of the page operation.
+	 * @param result The string result of the page operation.
+	 * @param numPage The page number, starting by 1.
+	 * @param obtained Number of items obtained in the previous pages.
+	 * @return The items of the page.
+	 * @throws Exception When the result contains errors.
+	 */
+	abstract Page<T> ExtractPage(String result, int numPage, long obtained) throws Exception;
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+		PagedSubscription subscription = new PagedSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	private final class PagedSubscription implements Flow.Subscription
+	{
+		private final Flow.Subscriber<? super T> Subscriber;
+		private final OperationContext Context = OperationContext.Current();
+		private final AtomicLong Requested = new AtomicLong();
+		private final AtomicInteger Wip = new AtomicInteger();
+		private volatile boolean Cancelled;
+		private volatile boolean BadRequest;
+
+		// Only accessed from the drain loop.
+		private final ArrayDeque<T> Buffer = new ArrayDeque<T>();
+		private int NumPage;
+		private long Obtained;
+		private boolean Finished;
+
+		PagedSubscription(Flow.Subscriber<? super T> subscriber)
+		{
+			this.Subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n)
+		{
+			if (n <= 0)
+				this.BadRequest = true;
+			else
+			{
+				long current, next;
+				do
+				{
+					current = this.Requested.get();
+					next = current + n;
+					if (next < 0)
+						next = Long.MAX_VALUE;
+				} while (!this.Requested.compareAndSet(current, next));
+			}
+			Drain();
+		}
+
+		@Override
+		public void cancel()
+		{
+			this.Cancelled = true;
+		}
+
+		private void Drain()
+		{
+			if (this.Wip.getAndIncrement() == 0)
+				PagedPublisher.this.Executor.execute(this::DrainLoop);
+		}
+
+		private void DrainLoop()
+		{
+			int missed = 1;
+			while (true)
+			{
+				if (this.Cancelled)
+					return;
+				if (this.BadRequest)
+				{
+					this.Cancelled = true;
+					this.Subscriber.onError(new IllegalArgumentException("The number of requested items must be positive"));
+					return;
+				}
+
+				long requested = this.Requested.get();
+				long emitted = 0;
+				while (emitted != requested)
+				{
+					if (this.Cancelled)
+						return;
+					T item = this.Buffer.poll();
+					if (item == null)
+					{
+						if (this.Finished)
+							break;
+						try
+						{
+							FetchPage();
+						}
+						catch (Throwable e)
+						{
+							this.Cancelled = true;
+							this.Subscriber.onError(e);
+							return;
+						}
+						continue;
+					}
+					try
+					{
+						this.Subscriber.onNext(item);
+					}
+					catch (Throwable e)
+					{
+						// A subscriber that throws breaks the rules of the Reactive Streams: the subscription is considered cancelled.
+						this.Cancelled = true;
+						return;
+					}
+					emitted++;
+				}
+
+				if (this.Finished && this.Buffer.isEmpty() && !this.Cancelled)
+				{
+					this.Cancelled = true;
+					this.Subscriber.onComplete();
+					return;
+				}
+
+				if (emitted != 0 && requested != Long.MAX_VALUE)
+					this.Requested.addAndGet(-emitted);
+				missed = this.Wip.addAndGet(-missed);
+				if (missed == 0)
+					return;
+			}
+		}
+
+		private void FetchPage() throws Exception
+		{
+			int numPage = ++this.NumPage;
+			String result;
+			if (this.Context == null)
+				result = PagedPublisher.this.PageOperation.Execute(numPage);
+			else
+			{
+				OperationContext.Scope scope = this.Context.Attach();
+				try
+				{
+					this.Context.ThrowIfDone();
+					result = PagedPublisher.this.PageOperation.Execute(numPage);
+				}
+				finally
+				{
+					scope.close();
+				}
+			}
+			Page<T> page = ExtractPage(result, numPage, this.Obtained);
+			this.Buffer.addAll(page.Items);
+			this.Obtained += page.Items.size();
+			if (page.Last || page.Items.isEmpty())
+				this.Finished = true;
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package linkar.loadtest;
+
+/**
+ * Client driven by the {@link LoadTest}.
+ */
+public enum CLIENT_TYPE {
+	/** The functions of linkar.functions.direct.mv.Functions, without session. */
+	DIRECT,
+	/** The linkar.functions.persistent.mv.LinkarClient class, with one session for every operation in flight. */
+	PERSISTENT
+}
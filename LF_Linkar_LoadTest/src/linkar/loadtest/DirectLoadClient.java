@@ -0,0 +1,61 @@
+package linkar.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+import linkar.CredentialOptions;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.direct.mv.Functions;
+
+/**
+ * Client of the load tests over the Direct functions in MV format.
+ */
+class DirectLoadClient implements LoadClient {
+
+	private final CredentialOptions Credentials;
+
+	DirectLoadClient(CredentialOptions credentials)
+	{
+		this.Credentials = credentials;
+	}
+
+	@Override
+	public String Execute(OPERATION_CODE operationCode, String filename, String argument) throws Exception
+	{
+		switch (operationCode)
+		{
+			case READ:
+				return Functions.Read(this.Credentials, filename, argument);
+			case UPDATE:
+				return Functions.Update(this.Credentials, filename, argument);
+			case NEW:
+				return Functions.New(this.Credentials, filename, argument);
+			case DELETE:
+				return Functions.Delete(this.Credentials, filename, argument);
+			default:
+				return Functions.Select(this.Credentials, filename, argument);
+		}
+	}
+
+	@Override
+	public CompletableFuture<String> ExecuteAsync(OPERATION_CODE operationCode, String filename, String argument) throws Exception
+	{
+		switch (operationCode)
+		{
+			case READ:
+				return Functions.ReadAsync(this.Credentials, filename, argument);
+			case UPDATE:
+				return Functions.UpdateAsync(this.Credentials, filename, argument);
+			case NEW:
+				return Functions.NewAsync(this.Credentials, filename, argument);
+			case DELETE:
+				return Functions.DeleteAsync(this.Credentials, filename, argument);
+			default:
+				return Functions.SelectAsync(this.Credentials, filename, argument);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+	}
+}
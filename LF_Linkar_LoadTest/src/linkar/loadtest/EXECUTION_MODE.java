@@ -0,0 +1,13 @@
+package linkar.loadtest;
+
+/**
+ * How the {@link LoadTest} executes the operations.
+ */
+public enum EXECUTION_MODE {
+	/** Every thread executes one synchronous operation after another. */
+	SYNC,
+	/** Every thread keeps several operations of the *Async functions in flight, starting a new one as soon as one is completed. */
+	ASYNC,
+	/** Every thread executes one bulk operation of {@link linkar.data.LkBulkOperations} after another, split in chunks. */
+	BATCHED
+}
@@ -0,0 +1,15 @@
+package linkar.loadtest;
+
+/**
+ * Distribution of the latencies simulated by the {@link StubServer}.
+ */
+public enum LATENCY_TYPE {
+	/** Every operation takes the mean latency. */
+	CONSTANT,
+	/** Latencies uniformly distributed between the mean minus the deviation and the mean plus the deviation. */
+	UNIFORM,
+	/** Latencies exponentially distributed with the mean latency. The deviation is not used. */
+	EXPONENTIAL,
+	/** Latencies log-normally distributed with the mean latency and the deviation, with the long tail of the real servers. */
+	LOGNORMAL
+}
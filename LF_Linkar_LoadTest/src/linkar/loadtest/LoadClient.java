@@ -0,0 +1,37 @@
+package linkar.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+import linkar.functions.OPERATION_CODE;
+
+/**
+ * Client driven by the workers of the {@link LoadTest}, over the Direct or the Persistent functions.
+ */
+interface LoadClient extends AutoCloseable {
+
+	/**
+	 * Executes an operation in a synchronous way.
+	 * @param operationCode READ, UPDATE, NEW, DELETE or SELECT.
+	 * @param filename Name of the file.
+	 * @param argument The recordIds of the Read operations, the records of the Update, New and Delete operations, or the selectClause of the Select operations.
+	 * @return The result of the operation in MV output format.
+	 * @throws Exception
+	 */
+	String Execute(OPERATION_CODE operationCode, String filename, String argument) throws Exception;
+
+	/**
+	 * Executes an operation with the *Async functions.
+	 * @param operationCode READ, UPDATE, NEW, DELETE or SELECT.
+	 * @param filename Name of the file.
+	 * @param argument The recordIds of the Read operations, the records of the Update, New and Delete operations, or the selectClause of the Select operations.
+	 * @return The result of the operation in MV output format.
+	 * @throws Exception
+	 */
+	CompletableFuture<String> ExecuteAsync(OPERATION_CODE operationCode, String filename, String argument) throws Exception;
+
+	/**
+	 * Releases the sessions of the client. The errors are ignored, because the measurement has already ended.
+	 */
+	@Override
+	void close();
+}
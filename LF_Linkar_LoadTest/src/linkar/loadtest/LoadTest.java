@@ -0,0 +1,438 @@
+package linkar.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import linkar.CredentialOptions;
+import linkar.data.LkBulkOperations;
+import linkar.data.LkDataCRUD;
+import linkar.data.LkItem;
+import linkar.data.LkItems;
+import linkar.diagnostics.LatencyHistogram;
+import linkar.functions.ASCII_Chars;
+import linkar.functions.AsyncOperations;
+import linkar.functions.ChunkOptions;
+import linkar.functions.OPERATION_CODE;
+
+/**
+ * Load test of the Direct and Persistent clients against a {@link StubServer}, to compare client configurations (pool sizes, executors, chunk sizes...)
+ * before using them with a real server.
+ * <p>
+ * Several threads execute a mix of Read, Update, New, Delete and Select operations during a warmup period and a measurement period,
+ * in SYNC, ASYNC or BATCHED mode. Every result is loaded in a LkDataCRUD, as an application would do. The result reports the throughput,
+ * the percentiles of the latency, the threads of the JVM and the garbage collections during the measurement.
+ * <p>
+ * Example:
+ * <pre>
+ * LoadTestOptions options = new LoadTestOptions(CLIENT_TYPE.PERSISTENT, EXECUTION_MODE.ASYNC, 8, 30000);
+ * LoadTestResult result = LoadTest.Run(options, new StubServerOptions(LATENCY_TYPE.LOGNORMAL, 5, 3));
+ * System.out.println(result);
+ * </pre>
+ * It can also be executed from the command line, with arguments key=value, to run every combination of clients and modes:
+ * <pre>
+ * java linkar.loadtest.LoadTest clients=DIRECT,PERSISTENT modes=SYNC,ASYNC,BATCHED threads=16 duration=20000 latency=2 latencyType=LOGNORMAL
+ * </pre>
+ */
+public class LoadTest {
+
+	private static final String FILENAME = "LK.LOADTEST";
+	private static final int KEYS = 1000000;
+	private static final int RECORDS_POOL = 64;
+
+	private final LoadTestOptions Options;
+	private final StubServerOptions ServerOptions;
+	private final CredentialOptions Credentials = new CredentialOptions("127.0.0.1", "LOADTEST", 11300, "admin", "admin");
+	private final LatencyHistogram Latency = new LatencyHistogram();
+	private final LongAdder Operations = new LongAdder();
+	private final LongAdder Errors = new LongAdder();
+	private final LongAdder Records = new LongAdder();
+	private final AtomicLong NextId = new AtomicLong(KEYS);
+	private volatile boolean Running = true;
+	private volatile boolean Measuring;
+	private volatile long MeasureStart;
+
+	private LoadTest(LoadTestOptions options, StubServerOptions serverOptions)
+	{
+		this.Options = (options == null ? new LoadTestOptions() : options);
+		this.ServerOptions = serverOptions;
+	}
+
+	/**
+	 * Runs a load test against a new {@link StubServer}, installed as the transport of all the functions during the test.
+	 * @param options Object that defines the client, the mode, the concurrency, the duration and the operations.
+	 * @param serverOptions Object that defines the latencies and the size of the records of the stub server.
+	 * @return The measurements.
+	 * @throws Exception
+	 */
+	public static LoadTestResult Run(LoadTestOptions options, StubServerOptions serverOptions) throws Exception
+	{
+		StubServer server = StubServer.Install(serverOptions);
+		try
+		{
+			return Run(options, server);
+		}
+		finally
+		{
+			server.Uninstall();
+		}
+	}
+
+	/**
+	 * Runs a load test over the current transport of all the functions, that must end in the given {@link StubServer}.
+	 * This allows measuring transports installed over the stub server, for example a ConcurrencyLimitTransport or a MetricsTransport.
+	 * @param options Object that defines the client, the mode, the concurrency, the duration and the operations.
+	 * @param server The stub server at the end of the current transport. Its options define the size of the records written.
+	 * @return The measurements.
+	 * @throws Exception
+	 */
+	public static LoadTestResult Run(LoadTestOptions options, StubServer server) throws Exception
+	{
+		LoadTest loadTest = new LoadTest(options, server.getOptions());
+		Executor previousExecutor = AsyncOperations.getExecutor();
+		if (loadTest.Options.getAsyncExecutor() != null)
+			AsyncOperations.setExecutor(loadTest.Options.getAsyncExecutor());
+		try
+		{
+			return loadTest.Execute();
+		}
+		finally
+		{
+			AsyncOperations.setExecutor(previousExecutor);
+		}
+	}
+
+	private LoadTestResult Execute() throws Exception
+	{
+		int threads = this.Options.getThreads();
+		ArrayList<LoadClient> clients = new ArrayList<LoadClient>(threads);
+		ArrayList<Thread> workers = new ArrayList<Thread>(threads);
+		try
+		{
+			for (int i = 0; i < threads; i++)
+			{
+				LoadClient client = NewClient();
+				clients.add(client);
+				Random random = new Random(i);
+				Thread worker = new Thread(() -> Work(client, random), "LoadTest-" + (i + 1));
+				worker.setDaemon(true);
+				workers.add(worker);
+			}
+			for (Thread worker : workers)
+				worker.start();
+			Thread.sleep(this.Options.getWarmup());
+
+			ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+			long[] gc = GetGarbageCollections();
+			long startedThreads = threadBean.getTotalStartedThreadCount();
+			threadBean.resetPeakThreadCount();
+			this.MeasureStart = System.nanoTime();
+			this.Measuring = true;
+			Thread.sleep(this.Options.getDuration());
+			this.Measuring = false;
+			long elapsed = System.nanoTime() - this.MeasureStart;
+			int peakThreads = threadBean.getPeakThreadCount();
+			int liveThreads = threadBean.getThreadCount();
+			startedThreads = threadBean.getTotalStartedThreadCount() - startedThreads;
+			long[] gcEnd = GetGarbageCollections();
+
+			return new LoadTestResult(this.Options, this.Operations.sum(), this.Errors.sum(), this.Records.sum(), elapsed, this.Latency,
+					peakThreads, liveThreads, startedThreads, gcEnd[0] - gc[0], gcEnd[1] - gc[1]);
+		}
+		finally
+		{
+			this.Running = false;
+			for (Thread worker : workers)
+				worker.join();
+			for (LoadClient client : clients)
+				client.close();
+		}
+	}
+
+	private LoadClient NewClient() throws Exception
+	{
+		if (this.Options.getClientType() == CLIENT_TYPE.DIRECT)
+			return new DirectLoadClient(this.Credentials);
+		int sessions = 1;
+		if (this.Options.getMode() == EXECUTION_MODE.ASYNC)
+			sessions = this.Options.getInFlight();
+		else if (this.Options.getMode() == EXECUTION_MODE.BATCHED)
+			sessions = this.Options.getChunkOptions().getParallelism();
+		return new PersistentLoadClient(this.Credentials, sessions);
+	}
+
+	private void Work(LoadClient client, Random random)
+	{
+		String[] records = new String[RECORDS_POOL];
+		for (int i = 0; i < RECORDS_POOL; i++)
+			records[i] = MvRecords.Record(random, this.ServerOptions.getRecordFields(), this.ServerOptions.getValueLength());
+		Semaphore inFlight = new Semaphore(this.Options.getInFlight());
+		try
+		{
+			while (this.Running)
+			{
+				OPERATION_CODE operationCode = this.Options.getMix().Next(random);
+				switch (this.Options.getMode())
+				{
+					case ASYNC:
+						inFlight.acquire();
+						ExecuteAsync(client, operationCode, random, records, inFlight);
+						break;
+					case BATCHED:
+						ExecuteBatched(client, operationCode, random, records);
+						break;
+					default:
+						Execute(client, operationCode, random, records);
+						break;
+				}
+			}
+			inFlight.acquire(this.Options.getInFlight());
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void Execute(LoadClient client, OPERATION_CODE operationCode, Random random, String[] records)
+	{
+		String argument = GetArgument(operationCode, random, records);
+		long start = System.nanoTime();
+		try
+		{
+			Completed(start, new LkDataCRUD(client.Execute(operationCode, FILENAME, argument)));
+		}
+		catch (Exception ex)
+		{
+			Failed(start);
+		}
+	}
+
+	private void ExecuteAsync(LoadClient client, OPERATION_CODE operationCode, Random random, String[] records, Semaphore inFlight)
+	{
+		String argument = GetArgument(operationCode, random, records);
+		long start = System.nanoTime();
+		CompletableFuture<String> future;
+		try
+		{
+			future = client.ExecuteAsync(operationCode, FILENAME, argument);
+		}
+		catch (Exception ex)
+		{
+			Failed(start);
+			inFlight.release();
+			return;
+		}
+		future.whenComplete((result, error) -> {
+			try
+			{
+				if (error == null)
+					Completed(start, new LkDataCRUD(result));
+				else
+					Failed(start);
+			}
+			finally
+			{
+				inFlight.release();
+			}
+		});
+	}
+
+	private void ExecuteBatched(LoadClient client, OPERATION_CODE operationCode, Random random, String[] records)
+	{
+		ChunkOptions chunkOptions = this.Options.getChunkOptions();
+		LkItems lkItems = GetItems(operationCode, random, records);
+		long start = System.nanoTime();
+		try
+		{
+			LkDataCRUD result;
+			switch (operationCode)
+			{
+				case READ:
+					result = LkBulkOperations.Read(lkItems, chunkOptions, (buffer) -> client.Execute(OPERATION_CODE.READ, FILENAME, buffer));
+					break;
+				case UPDATE:
+					result = LkBulkOperations.Update(lkItems, false, chunkOptions, (buffer) -> client.Execute(OPERATION_CODE.UPDATE, FILENAME, buffer));
+					break;
+				case NEW:
+					result = LkBulkOperations.New(lkItems, chunkOptions, (buffer) -> client.Execute(OPERATION_CODE.NEW, FILENAME, buffer));
+					break;
+				case DELETE:
+					result = LkBulkOperations.Delete(lkItems, false, chunkOptions, (buffer) -> client.Execute(OPERATION_CODE.DELETE, FILENAME, buffer));
+					break;
+				default:
+					result = new LkDataCRUD(client.Execute(OPERATION_CODE.SELECT, FILENAME, GetArgument(operationCode, random, records)));
+					break;
+			}
+			Completed(start, result);
+		}
+		catch (Exception ex)
+		{
+			Failed(start);
+		}
+	}
+
+	private String GetArgument(OPERATION_CODE operationCode, Random random, String[] records)
+	{
+		switch (operationCode)
+		{
+			case READ:
+				return GetItems(operationCode, random, records).ComposeReadBuffer();
+			case UPDATE:
+				return GetItems(operationCode, random, records).ComposeUpdateBuffer(false);
+			case NEW:
+				return GetItems(operationCode, random, records).ComposeNewBuffer();
+			case DELETE:
+				return GetItems(operationCode, random, records).ComposeDeleteBuffer(false);
+			default:
+				return "WITH CUSTOMER = " + (random.nextInt(KEYS) + 1);
+		}
+	}
+
+	private LkItems GetItems(OPERATION_CODE operationCode, Random random, String[] records)
+	{
+		int count = (operationCode == OPERATION_CODE.SELECT ? 0 : this.Options.getRecordsPerOperation());
+		long firstId = (operationCode == OPERATION_CODE.NEW ? this.NextId.getAndAdd(count) : random.nextInt(KEYS - count) + 1);
+		LkItems lkItems = new LkItems();
+		for (int i = 0; i < count; i++)
+		{
+			String recordId = String.valueOf(firstId + i);
+			if (operationCode == OPERATION_CODE.READ || operationCode == OPERATION_CODE.DELETE)
+				lkItems.add(new LkItem(recordId));
+			else
+				lkItems.add(new LkItem(recordId, records[random.nextInt(records.length)]));
+		}
+		return lkItems;
+	}
+
+	private void Completed(long start, LkDataCRUD result)
+	{
+		long end = System.nanoTime();
+		if (!this.Measuring || start - this.MeasureStart < 0)
+			return;
+		this.Latency.Record(end - start);
+		this.Operations.increment();
+		this.Records.add(result.LkRecords.size());
+		if (result.getErrors().length > 0)
+			this.Errors.increment();
+	}
+
+	private void Failed(long start)
+	{
+		long end = System.nanoTime();
+		if (!this.Measuring || start - this.MeasureStart < 0)
+			return;
+		this.Latency.Record(end - start);
+		this.Operations.increment();
+		this.Errors.increment();
+	}
+
+	private static long[] GetGarbageCollections()
+	{
+		long[] totals = new long[2];
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+		{
+			totals[0] += Math.max(collector.getCollectionCount(), 0);
+			totals[1] += Math.max(collector.getCollectionTime(), 0);
+		}
+		return totals;
+	}
+
+	/**
+	 * Runs a load test for every combination of the given clients and modes, and prints a table with the results.
+	 * <p>
+	 * Arguments, all optional, in the form key=value:
+	 * <pre>
+	 * clients=DIRECT,PERSISTENT		modes=SYNC,ASYNC,BATCHED		threads=8		inFlight=4
+	 * duration=10000		warmup=2000		records=10		mix=70,20,0,0,10 (read,update,new,delete,select)
+	 * chunkItems=100		parallelism=4		chunkThreads=0 (0 means the pool shared by the bulk operations)
+	 * asyncThreads=0 (0 means the current executor of the *Async functions)
+	 * latencyType=LOGNORMAL		latency=2		deviation=1		fields=20		valueLength=10		selectRecords=10
+	 * </pre>
+	 * @param args The arguments.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		HashMap<String, String> arguments = new HashMap<String, String>();
+		for (String arg : args)
+		{
+			int index = arg.indexOf('=');
+			if (index > 0)
+				arguments.put(arg.substring(0, index), arg.substring(index + 1));
+		}
+		String[] clients = arguments.getOrDefault("clients", "DIRECT,PERSISTENT").split(",");
+		String[] modes = arguments.getOrDefault("modes", "SYNC,ASYNC,BATCHED").split(",");
+		int threads = Integer.parseInt(arguments.getOrDefault("threads", "8"));
+		int inFlight = Integer.parseInt(arguments.getOrDefault("inFlight", "4"));
+		long duration = Long.parseLong(arguments.getOrDefault("duration", "10000"));
+		long warmup = Long.parseLong(arguments.getOrDefault("warmup", "2000"));
+		int records = Integer.parseInt(arguments.getOrDefault("records", "10"));
+		String[] weights = arguments.getOrDefault("mix", "70,20,0,0,10").split(",");
+		OperationMix mix = new OperationMix(Integer.parseInt(weights[0]), Integer.parseInt(weights[1]), Integer.parseInt(weights[2]),
+				Integer.parseInt(weights[3]), Integer.parseInt(weights[4]));
+		int chunkItems = Integer.parseInt(arguments.getOrDefault("chunkItems", "100"));
+		int parallelism = Integer.parseInt(arguments.getOrDefault("parallelism", "4"));
+		int chunkThreads = Integer.parseInt(arguments.getOrDefault("chunkThreads", "0"));
+		int asyncThreads = Integer.parseInt(arguments.getOrDefault("asyncThreads", "0"));
+		StubServerOptions serverOptions = new StubServerOptions(LATENCY_TYPE.valueOf(arguments.getOrDefault("latencyType", "LOGNORMAL")),
+				Double.parseDouble(arguments.getOrDefault("latency", "2")), Double.parseDouble(arguments.getOrDefault("deviation", "1")),
+				Integer.parseInt(arguments.getOrDefault("fields", "20")), Integer.parseInt(arguments.getOrDefault("valueLength", "10")),
+				Integer.parseInt(arguments.getOrDefault("selectRecords", "10")));
+
+		ExecutorService chunkExecutor = (chunkThreads > 0 ? Executors.newFixedThreadPool(chunkThreads, LoadTest::NewDaemonThread) : null);
+		ExecutorService asyncExecutor = (asyncThreads > 0 ? Executors.newFixedThreadPool(asyncThreads, LoadTest::NewDaemonThread) : null);
+		try
+		{
+			ChunkOptions chunkOptions = new ChunkOptions(chunkItems, 0, parallelism, chunkExecutor);
+			System.out.println(String.format(Locale.ROOT, "server: %s latency=%sms deviation=%sms fields=%d valueLength=%d selectRecords=%d",
+					serverOptions.getLatencyType(), serverOptions.getMeanLatency(), serverOptions.getLatencyDeviation(),
+					serverOptions.getRecordFields(), serverOptions.getValueLength(), serverOptions.getSelectRecords()));
+			System.out.println(String.format(Locale.ROOT, "load: threads=%d inFlight=%d records=%d mix=%s chunkItems=%d parallelism=%d chunkThreads=%d asyncThreads=%d duration=%dms warmup=%dms",
+					threads, inFlight, records, mix, chunkItems, parallelism, chunkThreads, asyncThreads, duration, warmup));
+			System.out.println(String.format(Locale.ROOT, "%-10s %-7s %10s %11s %8s %8s %8s %8s %8s %8s %7s %6s %8s %6s %7s",
+					"client", "mode", "ops/s", "records/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+					"errors", "peak", "started", "gc", "gc ms"));
+			for (String client : clients)
+			{
+				for (String mode : modes)
+				{
+					LoadTestOptions options = new LoadTestOptions(CLIENT_TYPE.valueOf(client.trim()), EXECUTION_MODE.valueOf(mode.trim()),
+							threads, inFlight, duration, warmup, records, mix, chunkOptions, asyncExecutor);
+					LoadTestResult result = Run(options, serverOptions);
+					LatencyHistogram latency = result.getLatency();
+					System.out.println(String.format(Locale.ROOT, "%-10s %-7s %10.1f %11.1f %8.3f %8.3f %8.3f %8.3f %8.3f %8.3f %7d %6d %8d %6d %7d",
+							options.getClientType(), options.getMode(), result.getThroughput(), result.getRecordThroughput(),
+							latency.getMeanMillis(), latency.GetPercentile(50), latency.GetPercentile(90), latency.GetPercentile(99),
+							latency.GetPercentile(99.9), latency.getMaxMillis(), result.getErrors(), result.getPeakThreads(),
+							result.getStartedThreads(), result.getGcCount(), result.getGcTime()));
+				}
+			}
+		}
+		finally
+		{
+			if (chunkExecutor != null)
+				chunkExecutor.shutdown();
+			if (asyncExecutor != null)
+				asyncExecutor.shutdown();
+		}
+	}
+
+	private static Thread NewDaemonThread(Runnable runnable)
+	{
+		Thread thread = new Thread(runnable);
+		thread.setDaemon(true);
+		return thread;
+	}
+}
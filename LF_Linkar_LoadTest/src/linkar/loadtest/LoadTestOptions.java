@@ -0,0 +1,193 @@
+package linkar.loadtest;
+
+import java.util.concurrent.Executor;
+
+import linkar.functions.ChunkOptions;
+
+/**
+ * Object that works as an argument in the {@link LoadTest} and defines the client, the execution mode, the concurrency, the duration and the operations of a load test.
+ */
+public class LoadTestOptions {
+
+	private CLIENT_TYPE _ClientType;
+	/**
+	 * Client driven by the load test.
+	 * @return value
+	 */
+	public CLIENT_TYPE getClientType()
+	{
+		return this._ClientType;
+	}
+
+	private EXECUTION_MODE _Mode;
+	/**
+	 * How the operations are executed.
+	 * @return value
+	 */
+	public EXECUTION_MODE getMode()
+	{
+		return this._Mode;
+	}
+
+	private int _Threads;
+	/**
+	 * Number of threads that generate the load.
+	 * @return value
+	 */
+	public int getThreads()
+	{
+		return this._Threads;
+	}
+
+	private int _InFlight;
+	/**
+	 * Number of operations that every thread keeps in flight in the ASYNC mode.
+	 * @return value
+	 */
+	public int getInFlight()
+	{
+		return this._InFlight;
+	}
+
+	private long _Duration;
+	/**
+	 * Duration of the measurement, in milliseconds.
+	 * @return value
+	 */
+	public long getDuration()
+	{
+		return this._Duration;
+	}
+
+	private long _Warmup;
+	/**
+	 * Duration of the load executed before the measurement, in milliseconds, to let the JIT compiler and the pools reach their steady state.
+	 * @return value
+	 */
+	public long getWarmup()
+	{
+		return this._Warmup;
+	}
+
+	private int _RecordsPerOperation;
+	/**
+	 * Number of records read, updated, created or deleted by every operation. In the BATCHED mode, it is the number of records of every bulk operation.
+	 * @return value
+	 */
+	public int getRecordsPerOperation()
+	{
+		return this._RecordsPerOperation;
+	}
+
+	private OperationMix _Mix;
+	/**
+	 * Proportion of every operation.
+	 * @return value
+	 */
+	public OperationMix getMix()
+	{
+		return this._Mix;
+	}
+
+	private ChunkOptions _ChunkOptions;
+	/**
+	 * Size and parallelism of the chunks in the BATCHED mode. For the PERSISTENT client, every thread opens as many sessions as the parallelism.
+	 * @return value
+	 */
+	public ChunkOptions getChunkOptions()
+	{
+		return this._ChunkOptions;
+	}
+
+	private Executor _AsyncExecutor;
+	/**
+	 * Executor of the *Async functions during the load test. When it is null, the executor of {@link linkar.functions.AsyncOperations} is not changed.
+	 * @return value
+	 */
+	public Executor getAsyncExecutor()
+	{
+		return this._AsyncExecutor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadTestOptions} class.
+	* @param clientType				Client driven by the load test.
+	* @param mode					How the operations are executed.
+	* @param threads				Number of threads that generate the load.
+	* @param inFlight				Number of operations that every thread keeps in flight in the ASYNC mode.
+	* @param duration				Duration of the measurement, in milliseconds.
+	* @param warmup					Duration of the load executed before the measurement, in milliseconds.
+	* @param recordsPerOperation	Number of records of every operation, or of every bulk operation in the BATCHED mode.
+	* @param mix					Proportion of every operation. If null, the default OperationMix.
+	* @param chunkOptions			Size and parallelism of the chunks in the BATCHED mode. If null, the default ChunkOptions.
+	* @param asyncExecutor			Executor of the *Async functions during the load test. If null, the current one is used.
+	*/
+	public LoadTestOptions(CLIENT_TYPE clientType, EXECUTION_MODE mode, int threads, int inFlight, long duration, long warmup, int recordsPerOperation,
+			OperationMix mix, ChunkOptions chunkOptions, Executor asyncExecutor)
+	{
+		this._ClientType = (clientType == null ? CLIENT_TYPE.DIRECT : clientType);
+		this._Mode = (mode == null ? EXECUTION_MODE.SYNC : mode);
+		this._Threads = (threads < 1 ? 1 : threads);
+		this._InFlight = (inFlight < 1 ? 1 : inFlight);
+		this._Duration = (duration < 1 ? 1 : duration);
+		this._Warmup = (warmup < 0 ? 0 : warmup);
+		this._RecordsPerOperation = (recordsPerOperation < 1 ? 1 : recordsPerOperation);
+		this._Mix = (mix == null ? new OperationMix() : mix);
+		this._ChunkOptions = (chunkOptions == null ? new ChunkOptions() : chunkOptions);
+		this._AsyncExecutor = asyncExecutor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadTestOptions} class.
+	* @param clientType				Client driven by the load test.
+	* @param mode					How the operations are executed.
+	* @param threads				Number of threads that generate the load.
+	* @param duration				Duration of the measurement, in milliseconds.
+	* @custom.note 					The omitted arguments with following values:
+	<pre>
+	{@code
+	inFlight = 4
+	warmup = 2000
+	recordsPerOperation = 10
+	mix = new OperationMix()
+	chunkOptions = new ChunkOptions()
+	asyncExecutor = null
+	}
+	</pre>
+	*/
+	public LoadTestOptions(CLIENT_TYPE clientType, EXECUTION_MODE mode, int threads, long duration)
+	{
+		this(clientType, mode, threads, 4, duration, 2000, 10, null, null, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadTestOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	clientType = CLIENT_TYPE.DIRECT
+	mode = EXECUTION_MODE.SYNC
+	threads = 8
+	inFlight = 4
+	duration = 10000
+	warmup = 2000
+	recordsPerOperation = 10
+	mix = new OperationMix()
+	chunkOptions = new ChunkOptions()
+	asyncExecutor = null
+	}
+	</pre>
+	*/
+	public LoadTestOptions()
+	{
+		this(CLIENT_TYPE.DIRECT, EXECUTION_MODE.SYNC, 8, 4, 10000, 2000, 10, null, null, null);
+	}
+
+	@Override
+	public String toString()
+	{
+		return this._ClientType + " " + this._Mode + " threads=" + this._Threads + (this._Mode == EXECUTION_MODE.ASYNC ? " inFlight=" + this._InFlight : "")
+				+ (this._Mode == EXECUTION_MODE.BATCHED ? " chunkItems=" + this._ChunkOptions.getMaxItems() + " parallelism=" + this._ChunkOptions.getParallelism() : "")
+				+ " records=" + this._RecordsPerOperation + " mix=" + this._Mix;
+	}
+}
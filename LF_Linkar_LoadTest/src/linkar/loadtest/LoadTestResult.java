@@ -0,0 +1,167 @@
+package linkar.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import linkar.diagnostics.LatencyHistogram;
+
+/**
+ * Result of a {@link LoadTest}: throughput, latencies, threads and garbage collections measured during the measurement, excluding the warmup.
+ */
+public class LoadTestResult {
+
+	private final LoadTestOptions Options;
+	private final long Operations;
+	private final long Errors;
+	private final long Records;
+	private final long ElapsedNanos;
+	private final LatencyHistogram Latency;
+	private final int PeakThreads;
+	private final int LiveThreads;
+	private final long StartedThreads;
+	private final long GcCount;
+	private final long GcTime;
+
+	LoadTestResult(LoadTestOptions options, long operations, long errors, long records, long elapsedNanos, LatencyHistogram latency,
+			int peakThreads, int liveThreads, long startedThreads, long gcCount, long gcTime)
+	{
+		this.Options = options;
+		this.Operations = operations;
+		this.Errors = errors;
+		this.Records = records;
+		this.ElapsedNanos = elapsedNanos;
+		this.Latency = latency;
+		this.PeakThreads = peakThreads;
+		this.LiveThreads = liveThreads;
+		this.StartedThreads = startedThreads;
+		this.GcCount = gcCount;
+		this.GcTime = gcTime;
+	}
+
+	/**
+	 * Options of the load test.
+	 * @return value
+	 */
+	public LoadTestOptions getOptions()
+	{
+		return this.Options;
+	}
+
+	/**
+	 * Number of operations completed, including the failed ones. In the BATCHED mode, every bulk operation counts as one operation.
+	 * @return value
+	 */
+	public long getOperations()
+	{
+		return this.Operations;
+	}
+
+	/**
+	 * Number of operations that have thrown an exception or have returned errors.
+	 * @return value
+	 */
+	public long getErrors()
+	{
+		return this.Errors;
+	}
+
+	/**
+	 * Number of records returned by the completed operations.
+	 * @return value
+	 */
+	public long getRecords()
+	{
+		return this.Records;
+	}
+
+	/**
+	 * Duration of the measurement in milliseconds.
+	 * @return value
+	 */
+	public double getElapsedMillis()
+	{
+		return this.ElapsedNanos / 1000000.0;
+	}
+
+	/**
+	 * Operations completed per second.
+	 * @return value
+	 */
+	public double getThroughput()
+	{
+		return this.Operations * (double)TimeUnit.SECONDS.toNanos(1) / this.ElapsedNanos;
+	}
+
+	/**
+	 * Records returned per second.
+	 * @return value
+	 */
+	public double getRecordThroughput()
+	{
+		return this.Records * (double)TimeUnit.SECONDS.toNanos(1) / this.ElapsedNanos;
+	}
+
+	/**
+	 * Latencies of the operations, from their start until their result is loaded in a LkDataCRUD.
+	 * @return value
+	 */
+	public LatencyHistogram getLatency()
+	{
+		return this.Latency;
+	}
+
+	/**
+	 * Highest number of live threads of the JVM during the measurement.
+	 * @return value
+	 */
+	public int getPeakThreads()
+	{
+		return this.PeakThreads;
+	}
+
+	/**
+	 * Number of live threads of the JVM at the end of the measurement.
+	 * @return value
+	 */
+	public int getLiveThreads()
+	{
+		return this.LiveThreads;
+	}
+
+	/**
+	 * Number of threads started during the measurement, for example by the pools that grow to attend the load.
+	 * @return value
+	 */
+	public long getStartedThreads()
+	{
+		return this.StartedThreads;
+	}
+
+	/**
+	 * Number of garbage collections during the measurement, of all the collectors.
+	 * @return value
+	 */
+	public long getGcCount()
+	{
+		return this.GcCount;
+	}
+
+	/**
+	 * Time spent in garbage collections during the measurement, of all the collectors, in milliseconds.
+	 * @return value
+	 */
+	public long getGcTime()
+	{
+		return this.GcTime;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format(Locale.ROOT, "%s: %.1f ops/s, %.1f records/s, latency mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms,"
+				+ " errors=%d, threads peak=%d live=%d started=%d, gc count=%d time=%dms",
+				this.Options, getThroughput(), getRecordThroughput(), this.Latency.getMeanMillis(), this.Latency.GetPercentile(50), this.Latency.GetPercentile(90),
+				this.Latency.GetPercentile(99), this.Latency.GetPercentile(99.9), this.Latency.getMaxMillis(),
+				this.Errors, this.PeakThreads, this.LiveThreads, this.StartedThreads, this.GcCount, this.GcTime);
+	}
+}
@@ -0,0 +1,34 @@
+package linkar.loadtest;
+
+import java.util.Random;
+
+import linkar.functions.DBMV_Mark;
+
+/**
+ * Generator of the records read and written by the load tests.
+ */
+class MvRecords {
+
+	private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .-";
+
+	/**
+	 * Generates a record.
+	 * @param random The generator of the contents.
+	 * @param fields Number of fields (attributes) of the record.
+	 * @param valueLength Average length of every field.
+	 * @return The record.
+	 */
+	static String Record(Random random, int fields, int valueLength)
+	{
+		StringBuilder record = new StringBuilder(fields * (valueLength + 1));
+		for (int f = 1; f <= fields; f++)
+		{
+			if (f > 1)
+				record.append(DBMV_Mark.AM);
+			int length = (valueLength == 0 ? 0 : valueLength / 2 + random.nextInt(valueLength + 1));
+			for (int i = 0; i < length; i++)
+				record.append(CHARS.charAt(random.nextInt(CHARS.length())));
+		}
+		return record.toString();
+	}
+}
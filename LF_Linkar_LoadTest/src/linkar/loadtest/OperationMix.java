@@ -0,0 +1,123 @@
+package linkar.loadtest;
+
+import java.util.Random;
+
+import linkar.functions.OPERATION_CODE;
+
+/**
+ * Object that works as an argument in the {@link LoadTestOptions} and defines the proportion of every operation executed by the load test.
+ */
+public class OperationMix {
+
+	private int _Read;
+	/**
+	 * Weight of the Read operations.
+	 * @return value
+	 */
+	public int getRead()
+	{
+		return this._Read;
+	}
+
+	private int _Update;
+	/**
+	 * Weight of the Update operations.
+	 * @return value
+	 */
+	public int getUpdate()
+	{
+		return this._Update;
+	}
+
+	private int _New;
+	/**
+	 * Weight of the New operations.
+	 * @return value
+	 */
+	public int getNew()
+	{
+		return this._New;
+	}
+
+	private int _Delete;
+	/**
+	 * Weight of the Delete operations.
+	 * @return value
+	 */
+	public int getDelete()
+	{
+		return this._Delete;
+	}
+
+	private int _Select;
+	/**
+	 * Weight of the Select operations.
+	 * @return value
+	 */
+	public int getSelect()
+	{
+		return this._Select;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #OperationMix} class. Every operation is chosen with a probability proportional to its weight.
+	* @param readWeight	Weight of the Read operations.
+	* @param updateWeight	Weight of the Update operations.
+	* @param newWeight	Weight of the New operations.
+	* @param deleteWeight	Weight of the Delete operations.
+	* @param selectWeight	Weight of the Select operations.
+	*/
+	public OperationMix(int readWeight, int updateWeight, int newWeight, int deleteWeight, int selectWeight)
+	{
+		this._Read = (readWeight < 0 ? 0 : readWeight);
+		this._Update = (updateWeight < 0 ? 0 : updateWeight);
+		this._New = (newWeight < 0 ? 0 : newWeight);
+		this._Delete = (deleteWeight < 0 ? 0 : deleteWeight);
+		this._Select = (selectWeight < 0 ? 0 : selectWeight);
+		if (this._Read + this._Update + this._New + this._Delete + this._Select == 0)
+			this._Read = 1;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #OperationMix} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	readWeight = 70
+	updateWeight = 20
+	newWeight = 0
+	deleteWeight = 0
+	selectWeight = 10
+	}
+	</pre>
+	*/
+	public OperationMix()
+	{
+		this(70, 20, 0, 0, 10);
+	}
+
+	/**
+	 * Chooses the next operation.
+	 * @param random The generator used to choose.
+	 * @return The code of the operation: READ, UPDATE, NEW, DELETE or SELECT.
+	 */
+	OPERATION_CODE Next(Random random)
+	{
+		int value = random.nextInt(this._Read + this._Update + this._New + this._Delete + this._Select);
+		if ((value -= this._Read) < 0)
+			return OPERATION_CODE.READ;
+		if ((value -= this._Update) < 0)
+			return OPERATION_CODE.UPDATE;
+		if ((value -= this._New) < 0)
+			return OPERATION_CODE.NEW;
+		if ((value -= this._Delete) < 0)
+			return OPERATION_CODE.DELETE;
+		return OPERATION_CODE.SELECT;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "read:" + this._Read + ",update:" + this._Update + ",new:" + this._New + ",delete:" + this._Delete + ",select:" + this._Select;
+	}
+}
@@ -0,0 +1,105 @@
+package linkar.loadtest;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+import linkar.CredentialOptions;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.persistent.mv.LinkarClient;
+
+/**
+ * Client of the load tests over persistent sessions in MV format. Every operation in flight takes its own session, so it opens as many sessions
+ * as operations it can have in flight.
+ */
+class PersistentLoadClient implements LoadClient {
+
+	private final LinkarClient[] Clients;
+	private final BlockingQueue<LinkarClient> Idle;
+
+	PersistentLoadClient(CredentialOptions credentials, int sessions) throws Exception
+	{
+		this.Clients = new LinkarClient[sessions];
+		this.Idle = new ArrayBlockingQueue<LinkarClient>(sessions);
+		for (int i = 0; i < sessions; i++)
+		{
+			this.Clients[i] = new LinkarClient();
+			this.Clients[i].Login(credentials);
+			this.Idle.add(this.Clients[i]);
+		}
+	}
+
+	@Override
+	public String Execute(OPERATION_CODE operationCode, String filename, String argument) throws Exception
+	{
+		LinkarClient client = this.Idle.take();
+		try
+		{
+			switch (operationCode)
+			{
+				case READ:
+					return client.Read(filename, argument);
+				case UPDATE:
+					return client.Update(filename, argument);
+				case NEW:
+					return client.New(filename, argument);
+				case DELETE:
+					return client.Delete(filename, argument);
+				default:
+					return client.Select(filename, argument);
+			}
+		}
+		finally
+		{
+			this.Idle.add(client);
+		}
+	}
+
+	@Override
+	public CompletableFuture<String> ExecuteAsync(OPERATION_CODE operationCode, String filename, String argument) throws Exception
+	{
+		LinkarClient client = this.Idle.take();
+		CompletableFuture<String> future;
+		try
+		{
+			switch (operationCode)
+			{
+				case READ:
+					future = client.ReadAsync(filename, argument);
+					break;
+				case UPDATE:
+					future = client.UpdateAsync(filename, argument);
+					break;
+				case NEW:
+					future = client.NewAsync(filename, argument);
+					break;
+				case DELETE:
+					future = client.DeleteAsync(filename, argument);
+					break;
+				default:
+					future = client.SelectAsync(filename, argument);
+					break;
+			}
+		}
+		catch (Exception ex)
+		{
+			this.Idle.add(client);
+			throw ex;
+		}
+		return future.whenComplete((result, error) -> this.Idle.add(client));
+	}
+
+	@Override
+	public void close()
+	{
+		for (LinkarClient client : this.Clients)
+		{
+			try
+			{
+				client.Logout();
+			}
+			catch (Exception ex)
+			{ }
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package linkar.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.ASCII_Chars;
+import linkar.functions.DBMV_Mark;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationArguments;
+import linkar.functions.OperationExecutor;
+import linkar.strings.StringFunctions;
+
+/**
+ * In-process stand-in for the Linkar Server, used to measure the clients without a real server.
+ * <p>
+ * It answers every operation in MV output format after a simulated latency: Login returns a new session, Read returns a record for every requested recordId,
+ * Update, New and Delete return the recordIds received, Select returns a fixed number of records, and the rest of operations return an empty result.
+ * The records are taken from a pool generated when the server is created, so answering an operation takes very little CPU compared with the clients.
+ * <p>
+ * Example:
+ * <pre>
+ * StubServer server = StubServer.Install(new StubServerOptions(LATENCY_TYPE.LOGNORMAL, 2, 1));
+ * String result = linkar.functions.direct.mv.Functions.Read(credentials, "LK.CUSTOMERS", "1");
+ * server.Uninstall();
+ * </pre>
+ */
+public class StubServer implements LinkarTransport {
+
+	private static final int POOL_SIZE = 256;
+
+	private final LinkarTransport Transport;
+	private final StubServerOptions Options;
+	private final String[] Records;
+	private final double LogMean;
+	private final double LogDeviation;
+	private final AtomicLong Sessions = new AtomicLong();
+	private final LongAdder Operations = new LongAdder();
+
+	/**
+	 * Initializes a new instance of the StubServer class.
+	 * @param options Object that defines the latencies and the size of the records.
+	 * @param transport The transport restored by {@link #Uninstall}.
+	 */
+	public StubServer(StubServerOptions options, LinkarTransport transport)
+	{
+		this.Options = (options == null ? new StubServerOptions() : options);
+		this.Transport = transport;
+		Random random = new Random(POOL_SIZE);
+		this.Records = new String[POOL_SIZE];
+		for (int i = 0; i < POOL_SIZE; i++)
+			this.Records[i] = MvRecords.Record(random, this.Options.getRecordFields(), this.Options.getValueLength());
+		// Parameters of the normal distribution whose exponential has the requested mean and deviation.
+		double mean = Math.max(this.Options.getMeanLatency(), 0.001);
+		double variance = Math.log(1 + Math.pow(this.Options.getLatencyDeviation() / mean, 2));
+		this.LogDeviation = Math.sqrt(variance);
+		this.LogMean = Math.log(mean) - variance / 2;
+	}
+
+	/**
+	 * Initializes a new instance of the StubServer class, that restores the current transport of {@link OperationExecutor} when it is uninstalled.
+	 * @param options Object that defines the latencies and the size of the records.
+	 */
+	public StubServer(StubServerOptions options)
+	{
+		this(options, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new StubServer as the transport of {@link OperationExecutor}, for all the functions.
+	 * @param options Object that defines the latencies and the size of the records.
+	 * @return The installed transport.
+	 */
+	public static StubServer Install(StubServerOptions options)
+	{
+		StubServer server = new StubServer(options);
+		OperationExecutor.setTransport(server);
+		return server;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * Object that defines the latencies and the size of the records.
+	 * @return value
+	 */
+	public StubServerOptions getOptions()
+	{
+		return this.Options;
+	}
+
+	/**
+	 * Number of operations answered.
+	 * @return value
+	 */
+	public long getOperations()
+	{
+		return this.Operations.sum();
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Execute(operationCode, operationArgs);
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Execute(operationCode, operationArgs);
+	}
+
+	private String Execute(byte operationCode, String operationArgs)
+	{
+		this.Operations.increment();
+		Wait();
+		StringBuilder header = new StringBuilder("THISLIST");
+		StringBuilder blocks = new StringBuilder();
+		if (operationCode == OPERATION_CODE.LOGIN.getnumVal())
+			AppendBlock(header, blocks, StringFunctions.RECORD_IDS_KEY, "LOADTEST" + this.Sessions.incrementAndGet());
+		else if (operationCode == OPERATION_CODE.READ.getnumVal())
+		{
+			String[] recordIds = OperationArguments.GetRecordIds(operationCode, operationArgs).split(ASCII_Chars.RS_str, -1);
+			String[] records = new String[recordIds.length];
+			for (int i = 0; i < recordIds.length; i++)
+				records[i] = this.Records[(recordIds[i].hashCode() & 0x7FFFFFFF) % POOL_SIZE];
+			AppendRecords(header, blocks, recordIds, records);
+		}
+		else if (operationCode == OPERATION_CODE.UPDATE.getnumVal() || operationCode == OPERATION_CODE.NEW.getnumVal()
+				|| operationCode == OPERATION_CODE.DELETE.getnumVal())
+		{
+			String[] recordIds = OperationArguments.GetRecordIds(operationCode, operationArgs).split(ASCII_Chars.RS_str, -1);
+			AppendBlock(header, blocks, StringFunctions.TOTAL_RECORDS_KEY, String.valueOf(recordIds.length));
+			AppendBlock(header, blocks, StringFunctions.RECORD_IDS_KEY, String.join(ASCII_Chars.RS_str, recordIds));
+		}
+		else if (operationCode == OPERATION_CODE.SELECT.getnumVal())
+		{
+			String[] recordIds = new String[this.Options.getSelectRecords()];
+			String[] records = new String[recordIds.length];
+			for (int i = 0; i < recordIds.length; i++)
+			{
+				recordIds[i] = String.valueOf(i + 1);
+				records[i] = this.Records[i % POOL_SIZE];
+			}
+			AppendRecords(header, blocks, recordIds, records);
+		}
+		AppendBlock(header, blocks, StringFunctions.ERRORS_KEY, "");
+		return header.append(blocks).toString();
+	}
+
+	private void Wait()
+	{
+		double millis;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		switch (this.Options.getLatencyType())
+		{
+			case UNIFORM:
+				millis = this.Options.getMeanLatency() + (random.nextDouble() * 2 - 1) * this.Options.getLatencyDeviation();
+				break;
+			case EXPONENTIAL:
+				millis = -this.Options.getMeanLatency() * Math.log(1 - random.nextDouble());
+				break;
+			case LOGNORMAL:
+				millis = (this.Options.getMeanLatency() == 0 ? 0 : Math.exp(this.LogMean + this.LogDeviation * random.nextGaussian()));
+				break;
+			default:
+				millis = this.Options.getMeanLatency();
+				break;
+		}
+		long nanos = (long)(millis * TimeUnit.MILLISECONDS.toNanos(1));
+		if (nanos <= 0)
+			return;
+		long deadline = System.nanoTime() + nanos;
+		while (nanos > 0)
+		{
+			LockSupport.parkNanos(nanos);
+			nanos = deadline - System.nanoTime();
+		}
+	}
+
+	private static void AppendRecords(StringBuilder header, StringBuilder blocks, String[] recordIds, String[] records)
+	{
+		AppendBlock(header, blocks, StringFunctions.TOTAL_RECORDS_KEY, String.valueOf(recordIds.length));
+		AppendBlock(header, blocks, StringFunctions.RECORD_IDS_KEY, String.join(ASCII_Chars.RS_str, recordIds));
+		AppendBlock(header, blocks, StringFunctions.RECORDS_KEY, String.join(ASCII_Chars.RS_str, records));
+	}
+
+	private static void AppendBlock(StringBuilder header, StringBuilder blocks, String tag, String value)
+	{
+		header.append(DBMV_Mark.AM).append(tag);
+		blocks.append(ASCII_Chars.FS_chr).append(value);
+	}
+}
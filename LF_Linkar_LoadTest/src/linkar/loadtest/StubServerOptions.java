@@ -0,0 +1,143 @@
+package linkar.loadtest;
+
+/**
+ * Object that works as an argument in the {@link StubServer} and defines the latencies of the operations and the size of the records returned.
+ */
+public class StubServerOptions {
+
+	private LATENCY_TYPE _LatencyType;
+	/**
+	 * Distribution of the latencies of the operations.
+	 * @return value
+	 */
+	public LATENCY_TYPE getLatencyType()
+	{
+		return this._LatencyType;
+	}
+
+	private double _MeanLatency;
+	/**
+	 * Mean latency of the operations, in milliseconds.
+	 * @return value
+	 */
+	public double getMeanLatency()
+	{
+		return this._MeanLatency;
+	}
+
+	private double _LatencyDeviation;
+	/**
+	 * Deviation of the latencies of the operations, in milliseconds, for the UNIFORM and LOGNORMAL distributions.
+	 * @return value
+	 */
+	public double getLatencyDeviation()
+	{
+		return this._LatencyDeviation;
+	}
+
+	private int _RecordFields;
+	/**
+	 * Number of fields of the records returned by the Read and Select operations.
+	 * @return value
+	 */
+	public int getRecordFields()
+	{
+		return this._RecordFields;
+	}
+
+	private int _ValueLength;
+	/**
+	 * Average length of every field of the records returned.
+	 * @return value
+	 */
+	public int getValueLength()
+	{
+		return this._ValueLength;
+	}
+
+	private int _SelectRecords;
+	/**
+	 * Number of records returned by every Select operation.
+	 * @return value
+	 */
+	public int getSelectRecords()
+	{
+		return this._SelectRecords;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #StubServerOptions} class.
+	* @param latencyType		Distribution of the latencies of the operations.
+	* @param meanLatency		Mean latency of the operations, in milliseconds. 0 means no latency.
+	* @param latencyDeviation	Deviation of the latencies, in milliseconds, for the UNIFORM and LOGNORMAL distributions.
+	* @param recordFields		Number of fields of the records returned by the Read and Select operations.
+	* @param valueLength		Average length of every field of the records returned.
+	* @param selectRecords		Number of records returned by every Select operation.
+	*/
+	public StubServerOptions(LATENCY_TYPE latencyType, double meanLatency, double latencyDeviation, int recordFields, int valueLength, int selectRecords)
+	{
+		this._LatencyType = (latencyType == null ? LATENCY_TYPE.CONSTANT : latencyType);
+		this._MeanLatency = (meanLatency < 0 ? 0 : meanLatency);
+		this._LatencyDeviation = (latencyDeviation < 0 ? 0 : latencyDeviation);
+		this._RecordFields = (recordFields < 1 ? 1 : recordFields);
+		this._ValueLength = (valueLength < 0 ? 0 : valueLength);
+		this._SelectRecords = (selectRecords < 0 ? 0 : selectRecords);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #StubServerOptions} class.
+	* @param latencyType		Distribution of the latencies of the operations.
+	* @param meanLatency		Mean latency of the operations, in milliseconds. 0 means no latency.
+	* @param latencyDeviation	Deviation of the latencies, in milliseconds, for the UNIFORM and LOGNORMAL distributions.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	recordFields = 20
+	valueLength = 10
+	selectRecords = 10
+	}
+	</pre>
+	*/
+	public StubServerOptions(LATENCY_TYPE latencyType, double meanLatency, double latencyDeviation)
+	{
+		this(latencyType, meanLatency, latencyDeviation, 20, 10, 10);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #StubServerOptions} class.
+	* @param meanLatency		Mean latency of the operations, in milliseconds. 0 means no latency.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	latencyType = LATENCY_TYPE.CONSTANT
+	latencyDeviation = 0
+	recordFields = 20
+	valueLength = 10
+	selectRecords = 10
+	}
+	</pre>
+	*/
+	public StubServerOptions(double meanLatency)
+	{
+		this(LATENCY_TYPE.CONSTANT, meanLatency, 0, 20, 10, 10);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #StubServerOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	latencyType = LATENCY_TYPE.LOGNORMAL
+	meanLatency = 2
+	latencyDeviation = 1
+	recordFields = 20
+	valueLength = 10
+	selectRecords = 10
+	}
+	</pre>
+	*/
+	public StubServerOptions()
+	{
+		this(LATENCY_TYPE.LOGNORMAL, 2, 1, 20, 10, 10);
+	}
+}
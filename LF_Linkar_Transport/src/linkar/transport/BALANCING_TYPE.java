@@ -0,0 +1,11 @@
+package linkar.transport;
+
+/**
+ * Criteria used by the {@link LoadBalancingTransport} to choose the target of every operation.
+ */
+public enum BALANCING_TYPE {
+	/** The target with fewer operations in progress. */
+	LEAST_OUTSTANDING,
+	/** The target with the lowest exponentially weighted moving average of the latency, multiplied by its operations in progress. */
+	EWMA_LATENCY
+}
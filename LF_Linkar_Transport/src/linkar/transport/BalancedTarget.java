@@ -0,0 +1,136 @@
+package linkar.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import linkar.CredentialOptions;
+
+/**
+ * One of the equivalent targets of a {@link LoadBalancingTransport}, with the statistics used to choose it.
+ */
+public class BalancedTarget {
+
+	private static final double EWMA_WEIGHT = 0.2;
+	private static final double MIN_SLOW_START_SHARE = 0.1;
+
+	private final CredentialOptions CredentialOptions;
+	private final AtomicInteger Outstanding = new AtomicInteger();
+	private double Latency;
+	private int ConsecutiveFailures;
+	private int Ejections;
+	private long EjectedUntil;
+	private boolean Ejected;
+
+	BalancedTarget(CredentialOptions credentialOptions)
+	{
+		this.CredentialOptions = credentialOptions;
+	}
+
+	/**
+	 * Credentials of the target.
+	 * @return value
+	 */
+	public CredentialOptions getCredentialOptions()
+	{
+		return this.CredentialOptions;
+	}
+
+	/**
+	 * Number of operations in progress in the target.
+	 * @return value
+	 */
+	public int getOutstanding()
+	{
+		return this.Outstanding.get();
+	}
+
+	/**
+	 * Exponentially weighted moving average of the latency of the target, in milliseconds.
+	 * @return value
+	 */
+	public synchronized double getLatency()
+	{
+		return this.Latency / 1000000.0;
+	}
+
+	/**
+	 * Indicates if the target is ejected now.
+	 * @return value
+	 */
+	public synchronized boolean isEjected()
+	{
+		return this.Ejected && System.nanoTime() - this.EjectedUntil < 0;
+	}
+
+	void Start()
+	{
+		this.Outstanding.incrementAndGet();
+	}
+
+	synchronized void Success(long latencyNanos)
+	{
+		this.Outstanding.decrementAndGet();
+		// Peak EWMA: a slower response is taken at once, a faster one is averaged.
+		if (this.Latency == 0 || latencyNanos > this.Latency)
+			this.Latency = latencyNanos;
+		else
+			this.Latency += EWMA_WEIGHT * (latencyNanos - this.Latency);
+		this.ConsecutiveFailures = 0;
+		if (!this.Ejected)
+			this.Ejections = 0;
+	}
+
+	synchronized void Failure(LoadBalancingOptions options)
+	{
+		this.Outstanding.decrementAndGet();
+		this.ConsecutiveFailures++;
+		if (this.ConsecutiveFailures >= options.getFailuresToEject() && !isEjected())
+		{
+			this.Ejections = Math.min(this.Ejections + 1, 8);
+			this.EjectedUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.getEjectionTime() * this.Ejections);
+			this.Ejected = true;
+			this.ConsecutiveFailures = 0;
+		}
+	}
+
+	void Cancelled()
+	{
+		this.Outstanding.decrementAndGet();
+	}
+
+	/**
+	 * Cost of sending one more operation to the target. The lowest cost is chosen.
+	 */
+	synchronized double GetCost(LoadBalancingOptions options)
+	{
+		double cost = this.Outstanding.get() + 1;
+		if (options.getBalancingType() == BALANCING_TYPE.EWMA_LATENCY)
+			cost *= (this.Latency == 0 ? 1 : this.Latency);
+		return cost / GetShare(options);
+	}
+
+	/**
+	 * Remaining ejection time in nanoseconds, 0 or less if it is not ejected.
+	 */
+	synchronized long GetRemainingEjection()
+	{
+		return this.Ejected ? this.EjectedUntil - System.nanoTime() : 0;
+	}
+
+	private double GetShare(LoadBalancingOptions options)
+	{
+		if (!this.Ejected)
+			return 1;
+		long sinceReintroduction = System.nanoTime() - this.EjectedUntil;
+		long slowStart = TimeUnit.MILLISECONDS.toNanos(options.getSlowStartTime());
+		if (sinceReintroduction < 0)
+			return (slowStart == 0 ? 1 : MIN_SLOW_START_SHARE);
+		// The ejection ends with the slow start, so the next success resets the count of ejections.
+		if (sinceReintroduction >= slowStart)
+		{
+			this.Ejected = false;
+			return 1;
+		}
+		return MIN_SLOW_START_SHARE + (1 - MIN_SLOW_START_SHARE) * sinceReintroduction / slowStart;
+	}
+}
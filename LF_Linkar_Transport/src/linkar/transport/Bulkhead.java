@@ -0,0 +1,91 @@
+package linkar.transport;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded concurrency and queue of the operations of one tenant of a {@link BulkheadTransport}.
+ */
+public class Bulkhead {
+
+	private final String Tenant;
+	private final BulkheadOptions Options;
+	private final Semaphore Permits;
+	private final AtomicInteger Queued = new AtomicInteger();
+	private final AtomicLong Rejected = new AtomicLong();
+
+	Bulkhead(String tenant, BulkheadOptions options)
+	{
+		this.Tenant = tenant;
+		this.Options = options;
+		this.Permits = new Semaphore(options.getMaxConcurrent(), true);
+	}
+
+	/**
+	 * Key of the tenant.
+	 * @return value
+	 */
+	public String getTenant()
+	{
+		return this.Tenant;
+	}
+
+	/**
+	 * Number of operations of the tenant in progress.
+	 * @return value
+	 */
+	public int getInFlight()
+	{
+		return this.Options.getMaxConcurrent() - this.Permits.availablePermits();
+	}
+
+	/**
+	 * Number of operations of the tenant waiting.
+	 * @return value
+	 */
+	public int getQueued()
+	{
+		return this.Queued.get();
+	}
+
+	/**
+	 * Number of operations of the tenant rejected.
+	 * @return value
+	 */
+	public long getRejected()
+	{
+		return this.Rejected.get();
+	}
+
+	void Acquire(long maxWaitMillis) throws InterruptedException
+	{
+		if (this.Permits.tryAcquire())
+			return;
+		if (this.Queued.incrementAndGet() > this.Options.getMaxQueued())
+		{
+			this.Queued.decrementAndGet();
+			this.Rejected.incrementAndGet();
+			throw new RejectedExecutionException("The queue of the tenant " + this.Tenant + " is full");
+		}
+		try
+		{
+			if (!this.Permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS))
+			{
+				this.Rejected.incrementAndGet();
+				throw new RejectedExecutionException("The operation of the tenant " + this.Tenant + " has waited too long for a free slot");
+			}
+		}
+		finally
+		{
+			this.Queued.decrementAndGet();
+		}
+	}
+
+	void Release()
+	{
+		this.Permits.release();
+	}
+}
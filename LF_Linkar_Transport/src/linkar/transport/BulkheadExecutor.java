@@ -0,0 +1,109 @@
+package linkar.transport;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import linkar.functions.AsyncOperations;
+import linkar.functions.OperationContext;
+
+/**
+ * Executor for the asynchronous functions with a separate bounded pool of threads and queue for every tenant, so the asynchronous work of one
+ * tenant cannot take the threads of the others. The tenant of a task is the one of the {@link OperationContext} of the thread that submits it.
+ * The tasks without tenant use a shared pool with the default options.
+ * <p>
+ * When the queue of a tenant is full, the task is rejected and its CompletableFuture completes with a RejectedExecutionException.
+ * <p>
+ * Example:
+ * <pre>
+ * BulkheadExecutor executor = BulkheadExecutor.Install(new BulkheadOptions(4, 100));
+ * </pre>
+ */
+public class BulkheadExecutor implements Executor {
+
+	private static final String NO_TENANT = "";
+
+	private final BulkheadOptions DefaultOptions;
+	private final ConcurrentHashMap<String, BulkheadOptions> OptionsByTenant = new ConcurrentHashMap<String, BulkheadOptions>();
+	private final ConcurrentHashMap<String, ThreadPoolExecutor> Pools = new ConcurrentHashMap<String, ThreadPoolExecutor>();
+	private volatile boolean Shutdown;
+
+	/**
+	 * Initializes a new instance of the BulkheadExecutor class.
+	 * @param bulkheadOptions Object that defines the default threads and queue of every tenant.
+	 */
+	public BulkheadExecutor(BulkheadOptions bulkheadOptions)
+	{
+		this.DefaultOptions = (bulkheadOptions == null ? new BulkheadOptions() : bulkheadOptions);
+	}
+
+	/**
+	 * Installs a new BulkheadExecutor as the executor of the asynchronous functions.
+	 * @param bulkheadOptions Object that defines the default threads and queue of every tenant.
+	 * @return The installed executor.
+	 */
+	public static BulkheadExecutor Install(BulkheadOptions bulkheadOptions)
+	{
+		BulkheadExecutor executor = new BulkheadExecutor(bulkheadOptions);
+		AsyncOperations.setExecutor(executor);
+		return executor;
+	}
+
+	/**
+	 * Restores the default executor of the asynchronous functions, if this one is still installed, and stops the pools once their tasks are finished.
+	 */
+	public void Uninstall()
+	{
+		if (AsyncOperations.getExecutor() == this)
+			AsyncOperations.setExecutor(null);
+		this.Shutdown = true;
+		for (ThreadPoolExecutor pool : this.Pools.values())
+			pool.shutdown();
+	}
+
+	/**
+	 * Defines the threads and queue of a tenant. It must be called before the first task of the tenant.
+	 * @param tenant The key of the tenant.
+	 * @param bulkheadOptions Object that defines the threads and queue of the tenant.
+	 */
+	public void setOptions(String tenant, BulkheadOptions bulkheadOptions)
+	{
+		this.OptionsByTenant.put(tenant, bulkheadOptions);
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		OperationContext context = OperationContext.Current();
+		String tenant = (context == null || context.getTenant() == null ? NO_TENANT : context.getTenant());
+		GetPool(tenant).execute(command);
+	}
+
+	private ThreadPoolExecutor GetPool(String tenant)
+	{
+		return this.Pools.computeIfAbsent(tenant, k -> {
+			BulkheadOptions options = this.OptionsByTenant.getOrDefault(k, this.DefaultOptions);
+			BlockingQueue<Runnable> queue;
+			if (options.getMaxQueued() == 0)
+				queue = new SynchronousQueue<Runnable>();
+			else if (options.getMaxQueued() == Integer.MAX_VALUE)
+				queue = new LinkedBlockingQueue<Runnable>();
+			else
+				queue = new ArrayBlockingQueue<Runnable>(options.getMaxQueued());
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(options.getMaxConcurrent(), options.getMaxConcurrent(), 60, TimeUnit.SECONDS, queue, r -> {
+				Thread thread = new Thread(r, "linkar-bulkhead-" + (k.isEmpty() ? "default" : k));
+				thread.setDaemon(true);
+				return thread;
+			});
+			pool.allowCoreThreadTimeOut(true);
+			if (this.Shutdown)
+				pool.shutdown();
+			return pool;
+		});
+	}
+}
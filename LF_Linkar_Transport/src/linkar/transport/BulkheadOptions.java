@@ -0,0 +1,82 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link BulkheadTransport} and the {@link BulkheadExecutor}, and defines the resources of every tenant.
+ */
+public class BulkheadOptions {
+
+	private int _MaxConcurrent;
+	/**
+	 * Maximum number of operations of the tenant executed at the same time.
+	 * @return value
+	 */
+	public int getMaxConcurrent()
+	{
+		return this._MaxConcurrent;
+	}
+
+	private int _MaxQueued;
+	/**
+	 * Maximum number of operations of the tenant waiting when the maximum concurrency has been reached. More operations are rejected at once.
+	 * @return value
+	 */
+	public int getMaxQueued()
+	{
+		return this._MaxQueued;
+	}
+
+	private long _MaxWaitTime;
+	/**
+	 * Maximum time in milliseconds that an operation waits in the queue of the tenant before being rejected. Only used by the {@link BulkheadTransport}.
+	 * @return value
+	 */
+	public long getMaxWaitTime()
+	{
+		return this._MaxWaitTime;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #BulkheadOptions} class.
+	* @param maxConcurrent	Maximum number of operations of the tenant executed at the same time. It must be bigger than 0.
+	* @param maxQueued		Maximum number of operations of the tenant waiting.
+	* @param maxWaitTime	Maximum time in milliseconds that an operation waits in the queue.
+	*/
+	public BulkheadOptions(int maxConcurrent, int maxQueued, long maxWaitTime)
+	{
+		this._MaxConcurrent = (maxConcurrent < 1 ? 1 : maxConcurrent);
+		this._MaxQueued = (maxQueued < 0 ? 0 : maxQueued);
+		this._MaxWaitTime = (maxWaitTime < 0 ? 0 : maxWaitTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #BulkheadOptions} class.
+	* @param maxConcurrent	Maximum number of operations of the tenant executed at the same time. It must be bigger than 0.
+	* @param maxQueued		Maximum number of operations of the tenant waiting.
+	* @custom.note 			The omitted argument with following value:
+	<pre>
+	{@code
+	maxWaitTime = 1000
+	}
+	</pre>
+	*/
+	public BulkheadOptions(int maxConcurrent, int maxQueued)
+	{
+		this(maxConcurrent, maxQueued, 1000);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #BulkheadOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxConcurrent = 10
+	maxQueued = 50
+	maxWaitTime = 1000
+	}
+	</pre>
+	*/
+	public BulkheadOptions()
+	{
+		this(10, 50, 1000);
+	}
+}
@@ -0,0 +1,151 @@
+package linkar.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that isolates the tenants from each other, with a bulkhead (bounded concurrency and queue) for every tenant, so the massive work
+ * of one tenant cannot take all the connections and sessions.
+ * <p>
+ * The tenant of an operation is the one of the {@link OperationContext} of the thread, or, without it, the key obtained from the credentials
+ * of the operation: by default the server, EntryPoint and user. Every tenant uses the default options, or the ones defined with {@link #setOptions}.
+ * <p>
+ * Installed over a PooledDirectTransport, it also limits the pooled sessions that every tenant can take. The asynchronous functions are isolated
+ * by the {@link BulkheadExecutor}.
+ * <p>
+ * Example:
+ * <pre>
+ * BulkheadTransport transport = BulkheadTransport.Install(new BulkheadOptions(10, 50));
+ * transport.setOptions("EXPORTS", new BulkheadOptions(2, 10));
+ * </pre>
+ */
+public class BulkheadTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final BulkheadOptions DefaultOptions;
+	private final Function<CredentialOptions, String> TenantSelector;
+	private final ConcurrentHashMap<String, BulkheadOptions> OptionsByTenant = new ConcurrentHashMap<String, BulkheadOptions>();
+	private final ConcurrentHashMap<String, Bulkhead> Bulkheads = new ConcurrentHashMap<String, Bulkhead>();
+
+	/**
+	 * Initializes a new instance of the BulkheadTransport class.
+	 * @param bulkheadOptions Object that defines the default resources of every tenant.
+	 * @param tenantSelector Function that obtains the tenant of an operation from its credentials, when there is no tenant in the OperationContext. If null, the server, EntryPoint and user.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public BulkheadTransport(BulkheadOptions bulkheadOptions, Function<CredentialOptions, String> tenantSelector, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.DefaultOptions = (bulkheadOptions == null ? new BulkheadOptions() : bulkheadOptions);
+		this.TenantSelector = (tenantSelector == null ? BulkheadTransport::GetDefaultTenant : tenantSelector);
+	}
+
+	/**
+	 * Initializes a new instance of the BulkheadTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param bulkheadOptions Object that defines the default resources of every tenant.
+	 */
+	public BulkheadTransport(BulkheadOptions bulkheadOptions)
+	{
+		this(bulkheadOptions, null, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new BulkheadTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param bulkheadOptions Object that defines the default resources of every tenant.
+	 * @return The installed transport.
+	 */
+	public static BulkheadTransport Install(BulkheadOptions bulkheadOptions)
+	{
+		BulkheadTransport transport = new BulkheadTransport(bulkheadOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * Defines the resources of a tenant. It must be called before the first operation of the tenant.
+	 * @param tenant The key of the tenant.
+	 * @param bulkheadOptions Object that defines the resources of the tenant.
+	 */
+	public void setOptions(String tenant, BulkheadOptions bulkheadOptions)
+	{
+		this.OptionsByTenant.put(tenant, bulkheadOptions);
+	}
+
+	/**
+	 * The bulkheads of the tenants used until now.
+	 * @return value
+	 */
+	public List<Bulkhead> getBulkheads()
+	{
+		return new ArrayList<Bulkhead>(this.Bulkheads.values());
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		Bulkhead bulkhead = Acquire(credentialOptions);
+		try
+		{
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		finally
+		{
+			bulkhead.Release();
+		}
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		Bulkhead bulkhead = Acquire(connectionInfo.getCredentialOptions());
+		try
+		{
+			return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		finally
+		{
+			bulkhead.Release();
+		}
+	}
+
+	private Bulkhead Acquire(CredentialOptions credentialOptions) throws InterruptedException
+	{
+		OperationContext context = OperationContext.Current();
+		String tenant = (context == null ? null : context.getTenant());
+		if (tenant == null)
+			tenant = (credentialOptions == null ? "" : this.TenantSelector.apply(credentialOptions));
+		BulkheadOptions options = this.OptionsByTenant.getOrDefault(tenant, this.DefaultOptions);
+		Bulkhead bulkhead = this.Bulkheads.computeIfAbsent(tenant, k -> new Bulkhead(k, options));
+
+		long maxWait = options.getMaxWaitTime();
+		if (context != null)
+			maxWait = Math.min(maxWait, Math.max(context.getRemainingMillis(), 0));
+		bulkhead.Acquire(maxWait);
+		return bulkhead;
+	}
+
+	private static String GetDefaultTenant(CredentialOptions credentialOptions)
+	{
+		return CredentialOptionsKey.GetEntryPoint(credentialOptions) + "/" + credentialOptions.getUsername();
+	}
+}
@@ -0,0 +1,13 @@
+package linkar.transport;
+
+/**
+ * States of a {@link CircuitBreaker}.
+ */
+public enum CIRCUIT_STATE {
+	/** The operations are sent to the target. */
+	CLOSED,
+	/** The operations are rejected without being sent, because the target is failing. */
+	OPEN,
+	/** Some trial operations are sent to the target to check if it has recovered. */
+	HALF_OPEN
+}
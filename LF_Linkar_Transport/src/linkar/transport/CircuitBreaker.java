@@ -0,0 +1,128 @@
+package linkar.transport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one target of a {@link ResilienceTransport}.
+ */
+public class CircuitBreaker {
+
+	private final String Target;
+	private final CircuitBreakerOptions Options;
+	private final boolean[] Window;
+	private int Position;
+	private int Calls;
+	private int Failures;
+	private CIRCUIT_STATE State = CIRCUIT_STATE.CLOSED;
+	private long OpenedAt;
+	private int TrialPermits;
+	private int TrialSuccesses;
+
+	CircuitBreaker(String target, CircuitBreakerOptions options)
+	{
+		this.Target = target;
+		this.Options = options;
+		this.Window = new boolean[options.getWindowSize()];
+	}
+
+	/**
+	 * Server and EntryPoint of the target.
+	 * @return value
+	 */
+	public String getTarget()
+	{
+		return this.Target;
+	}
+
+	/**
+	 * Current state of the circuit.
+	 * @return value
+	 */
+	public synchronized CIRCUIT_STATE getState()
+	{
+		return this.State;
+	}
+
+	/**
+	 * Indicates if an operation can be sent to the target. In HALF_OPEN state, it takes one of the trial permits.
+	 */
+	synchronized boolean TryAcquire()
+	{
+		if (this.State == CIRCUIT_STATE.OPEN)
+		{
+			if (System.nanoTime() - this.OpenedAt < TimeUnit.MILLISECONDS.toNanos(this.Options.getOpenTime()))
+				return false;
+			this.State = CIRCUIT_STATE.HALF_OPEN;
+			this.TrialPermits = this.Options.getHalfOpenCalls();
+			this.TrialSuccesses = 0;
+		}
+		if (this.State == CIRCUIT_STATE.HALF_OPEN)
+		{
+			if (this.TrialPermits == 0)
+				return false;
+			this.TrialPermits--;
+		}
+		return true;
+	}
+
+	synchronized void OnSuccess()
+	{
+		if (this.State == CIRCUIT_STATE.HALF_OPEN)
+		{
+			if (++this.TrialSuccesses >= this.Options.getHalfOpenCalls())
+				Close();
+		}
+		else if (this.State == CIRCUIT_STATE.CLOSED)
+			Record(false);
+	}
+
+	synchronized void OnFailure()
+	{
+		if (this.State == CIRCUIT_STATE.HALF_OPEN)
+			Open();
+		else if (this.State == CIRCUIT_STATE.CLOSED)
+		{
+			Record(true);
+			if (this.Calls >= this.Options.getMinimumCalls() && this.Failures * 100 >= this.Options.getFailureRateThreshold() * this.Calls)
+				Open();
+		}
+	}
+
+	/**
+	 * The operation has not reached the target, so its permit is returned without recording it.
+	 */
+	synchronized void OnIgnored()
+	{
+		if (this.State == CIRCUIT_STATE.HALF_OPEN)
+			this.TrialPermits++;
+	}
+
+	private void Record(boolean failure)
+	{
+		if (this.Calls == this.Window.length)
+		{
+			if (this.Window[this.Position])
+				this.Failures--;
+		}
+		else
+			this.Calls++;
+		this.Window[this.Position] = failure;
+		if (failure)
+			this.Failures++;
+		this.Position = (this.Position + 1) % this.Window.length;
+	}
+
+	private void Open()
+	{
+		this.State = CIRCUIT_STATE.OPEN;
+		this.OpenedAt = System.nanoTime();
+	}
+
+	private void Close()
+	{
+		this.State = CIRCUIT_STATE.CLOSED;
+		this.Calls = 0;
+		this.Failures = 0;
+		this.Position = 0;
+	}
+}
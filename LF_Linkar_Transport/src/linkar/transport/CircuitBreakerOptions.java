@@ -0,0 +1,110 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link ResilienceTransport} and defines when the circuit breaker of a target opens and closes.
+ */
+public class CircuitBreakerOptions {
+
+	private int _WindowSize;
+	/**
+	 * Number of the most recent operations of the target used to calculate its failure rate.
+	 * @return value
+	 */
+	public int getWindowSize()
+	{
+		return this._WindowSize;
+	}
+
+	private int _MinimumCalls;
+	/**
+	 * Minimum number of operations in the window before the failure rate is considered.
+	 * @return value
+	 */
+	public int getMinimumCalls()
+	{
+		return this._MinimumCalls;
+	}
+
+	private int _FailureRateThreshold;
+	/**
+	 * Percentage of failed operations in the window that opens the circuit.
+	 * @return value
+	 */
+	public int getFailureRateThreshold()
+	{
+		return this._FailureRateThreshold;
+	}
+
+	private long _OpenTime;
+	/**
+	 * Time in milliseconds that the circuit stays open before trying some operations again.
+	 * @return value
+	 */
+	public long getOpenTime()
+	{
+		return this._OpenTime;
+	}
+
+	private int _HalfOpenCalls;
+	/**
+	 * Number of trial operations that must succeed to close the circuit again.
+	 * @return value
+	 */
+	public int getHalfOpenCalls()
+	{
+		return this._HalfOpenCalls;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CircuitBreakerOptions} class.
+	* @param windowSize				Number of the most recent operations used to calculate the failure rate.
+	* @param minimumCalls			Minimum number of operations in the window before the failure rate is considered.
+	* @param failureRateThreshold	Percentage of failed operations in the window that opens the circuit. Between 1 and 100.
+	* @param openTime				Time in milliseconds that the circuit stays open.
+	* @param halfOpenCalls			Number of trial operations that must succeed to close the circuit again.
+	*/
+	public CircuitBreakerOptions(int windowSize, int minimumCalls, int failureRateThreshold, long openTime, int halfOpenCalls)
+	{
+		this._WindowSize = (windowSize < 1 ? 1 : windowSize);
+		this._MinimumCalls = Math.max(1, Math.min(minimumCalls, this._WindowSize));
+		this._FailureRateThreshold = Math.max(1, Math.min(failureRateThreshold, 100));
+		this._OpenTime = (openTime < 0 ? 0 : openTime);
+		this._HalfOpenCalls = (halfOpenCalls < 1 ? 1 : halfOpenCalls);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CircuitBreakerOptions} class.
+	* @param failureRateThreshold	Percentage of failed operations in the window that opens the circuit. Between 1 and 100.
+	* @param openTime				Time in milliseconds that the circuit stays open.
+	* @custom.note 					The omitted arguments with following values:
+	<pre>
+	{@code
+	windowSize = 20
+	minimumCalls = 10
+	halfOpenCalls = 3
+	}
+	</pre>
+	*/
+	public CircuitBreakerOptions(int failureRateThreshold, long openTime)
+	{
+		this(20, 10, failureRateThreshold, openTime, 3);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #CircuitBreakerOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	windowSize = 20
+	minimumCalls = 10
+	failureRateThreshold = 50
+	openTime = 10000
+	halfOpenCalls = 3
+	}
+	</pre>
+	*/
+	public CircuitBreakerOptions()
+	{
+		this(20, 10, 50, 10000, 3);
+	}
+}
@@ -0,0 +1,128 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link ConcurrencyLimitTransport} and defines how the limit of operations in progress of every target adapts.
+ * <p>
+ * The limit grows by one operation every round of operations without congestion (additive increase), and it is multiplied by the backoff ratio
+ * when an operation fails by a timeout or a connection error, or its latency is bigger than the latency tolerance multiplied by the lowest recent
+ * latency of the same operation in the target (multiplicative decrease). The limit decreases at most once for the operations that were already in progress when it decreased.
+ */
+public class ConcurrencyLimitOptions {
+
+	private int _InitialLimit;
+	/**
+	 * Limit of operations in progress of every target before its latencies are known.
+	 * @return value
+	 */
+	public int getInitialLimit()
+	{
+		return this._InitialLimit;
+	}
+
+	private int _MinLimit;
+	/**
+	 * Lowest limit of operations in progress of every target.
+	 * @return value
+	 */
+	public int getMinLimit()
+	{
+		return this._MinLimit;
+	}
+
+	private int _MaxLimit;
+	/**
+	 * Highest limit of operations in progress of every target.
+	 * @return value
+	 */
+	public int getMaxLimit()
+	{
+		return this._MaxLimit;
+	}
+
+	private double _BackoffRatio;
+	/**
+	 * Factor applied to the limit when congestion is detected. Between 0.5 and 0.99.
+	 * @return value
+	 */
+	public double getBackoffRatio()
+	{
+		return this._BackoffRatio;
+	}
+
+	private double _LatencyTolerance;
+	/**
+	 * How many times the lowest recent latency of the same operation in the target an operation can last before it is considered a sign of congestion.
+	 * @return value
+	 */
+	public double getLatencyTolerance()
+	{
+		return this._LatencyTolerance;
+	}
+
+	private long _MaxWaitTime;
+	/**
+	 * Maximum time in milliseconds that an operation waits when the limit of its target has been reached, before it is rejected. 0 means rejecting at once.
+	 * @return value
+	 */
+	public long getMaxWaitTime()
+	{
+		return this._MaxWaitTime;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ConcurrencyLimitOptions} class.
+	* @param initialLimit		Limit of operations in progress of every target before its latencies are known.
+	* @param minLimit			Lowest limit of operations in progress of every target. It must be bigger than 0.
+	* @param maxLimit			Highest limit of operations in progress of every target.
+	* @param backoffRatio		Factor applied to the limit when congestion is detected. Between 0.5 and 0.99.
+	* @param latencyTolerance	How many times the lowest latency an operation can last before it is considered a sign of congestion. At least 1.
+	* @param maxWaitTime		Maximum time in milliseconds waiting when the limit has been reached. 0 means rejecting at once.
+	*/
+	public ConcurrencyLimitOptions(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance, long maxWaitTime)
+	{
+		this._MinLimit = (minLimit < 1 ? 1 : minLimit);
+		this._MaxLimit = Math.max(maxLimit, this._MinLimit);
+		this._InitialLimit = Math.max(this._MinLimit, Math.min(initialLimit, this._MaxLimit));
+		this._BackoffRatio = Math.max(0.5, Math.min(backoffRatio, 0.99));
+		this._LatencyTolerance = Math.max(1, latencyTolerance);
+		this._MaxWaitTime = (maxWaitTime < 0 ? 0 : maxWaitTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ConcurrencyLimitOptions} class.
+	* @param initialLimit		Limit of operations in progress of every target before its latencies are known.
+	* @param maxLimit			Highest limit of operations in progress of every target.
+	* @param maxWaitTime		Maximum time in milliseconds waiting when the limit has been reached. 0 means rejecting at once.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	minLimit = 1
+	backoffRatio = 0.9
+	latencyTolerance = 2
+	}
+	</pre>
+	*/
+	public ConcurrencyLimitOptions(int initialLimit, int maxLimit, long maxWaitTime)
+	{
+		this(initialLimit, 1, maxLimit, 0.9, 2, maxWaitTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ConcurrencyLimitOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	initialLimit = 20
+	minLimit = 1
+	maxLimit = 200
+	backoffRatio = 0.9
+	latencyTolerance = 2
+	maxWaitTime = 0
+	}
+	</pre>
+	*/
+	public ConcurrencyLimitOptions()
+	{
+		this(20, 1, 200, 0.9, 2, 0);
+	}
+}
@@ -0,0 +1,160 @@
+package linkar.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationCodes;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that limits the operations in progress in every target (Linkar Server and EntryPoint), with a limit that adapts to the latencies
+ * of the target, so the server keeps working at the concurrency that gives it the best throughput instead of accumulating timeouts.
+ * <p>
+ * When the limit of a target has been reached, the operation waits for the maximum wait time of the options, and then it is rejected
+ * with a RejectedExecutionException, without being sent to the server.
+ * <p>
+ * Example:
+ * <pre>
+ * ConcurrencyLimitTransport transport = ConcurrencyLimitTransport.Install(new ConcurrencyLimitOptions(20, 100, 50));
+ * </pre>
+ */
+public class ConcurrencyLimitTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final ConcurrencyLimitOptions Options;
+	private final ConcurrentHashMap<String, ConcurrencyLimiter> Limiters = new ConcurrentHashMap<String, ConcurrencyLimiter>();
+
+	/**
+	 * Initializes a new instance of the ConcurrencyLimitTransport class.
+	 * @param concurrencyLimitOptions Object that defines how the limit of every target adapts.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public ConcurrencyLimitTransport(ConcurrencyLimitOptions concurrencyLimitOptions, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.Options = (concurrencyLimitOptions == null ? new ConcurrencyLimitOptions() : concurrencyLimitOptions);
+	}
+
+	/**
+	 * Initializes a new instance of the ConcurrencyLimitTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param concurrencyLimitOptions Object that defines how the limit of every target adapts.
+	 */
+	public ConcurrencyLimitTransport(ConcurrencyLimitOptions concurrencyLimitOptions)
+	{
+		this(concurrencyLimitOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new ConcurrencyLimitTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param concurrencyLimitOptions Object that defines how the limit of every target adapts.
+	 * @return The installed transport.
+	 */
+	public static ConcurrencyLimitTransport Install(ConcurrencyLimitOptions concurrencyLimitOptions)
+	{
+		ConcurrencyLimitTransport transport = new ConcurrencyLimitTransport(concurrencyLimitOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * The limiters of the targets used until now.
+	 * @return value
+	 */
+	public List<ConcurrencyLimiter> getLimiters()
+	{
+		return new ArrayList<ConcurrencyLimiter>(this.Limiters.values());
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		ConcurrencyLimiter limiter = GetLimiter(credentialOptions);
+		long sequence = Acquire(limiter);
+		long start = System.nanoTime();
+		String result;
+		try
+		{
+			result = this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		catch (CancellationException | InterruptedException e)
+		{
+			limiter.Ignore();
+			throw e;
+		}
+		catch (Exception e)
+		{
+			// Only the timeouts and the connection errors are signs of congestion; the errors of the server are not measures of the target.
+			if (OperationCodes.IsTransportFailure(e))
+				limiter.Release(operationCode, sequence, System.nanoTime() - start, true);
+			else
+				limiter.Ignore();
+			throw e;
+		}
+		limiter.Release(operationCode, sequence, System.nanoTime() - start, false);
+		return result;
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		if (connectionInfo.getCredentialOptions() == null)
+			return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		ConcurrencyLimiter limiter = GetLimiter(connectionInfo.getCredentialOptions());
+		long sequence = Acquire(limiter);
+		long start = System.nanoTime();
+		String result;
+		try
+		{
+			result = this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		catch (CancellationException | InterruptedException e)
+		{
+			limiter.Ignore();
+			throw e;
+		}
+		catch (Exception e)
+		{
+			// Only the timeouts and the connection errors are signs of congestion; the errors of the server are not measures of the target.
+			if (OperationCodes.IsTransportFailure(e))
+				limiter.Release(operationCode, sequence, System.nanoTime() - start, true);
+			else
+				limiter.Ignore();
+			throw e;
+		}
+		limiter.Release(operationCode, sequence, System.nanoTime() - start, false);
+		return result;
+	}
+
+	private ConcurrencyLimiter GetLimiter(CredentialOptions credentialOptions)
+	{
+		return this.Limiters.computeIfAbsent(CredentialOptionsKey.GetEntryPoint(credentialOptions), k -> new ConcurrencyLimiter(k, this.Options));
+	}
+
+	private long Acquire(ConcurrencyLimiter limiter) throws InterruptedException
+	{
+		long maxWait = this.Options.getMaxWaitTime();
+		OperationContext context = OperationContext.Current();
+		if (context != null)
+			maxWait = Math.min(maxWait, Math.max(context.getRemainingMillis(), 0));
+		return limiter.Acquire(maxWait);
+	}
+}
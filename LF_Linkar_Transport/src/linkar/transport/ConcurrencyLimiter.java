@@ -0,0 +1,201 @@
+package linkar.transport;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit of the operations in progress of one target of a {@link ConcurrencyLimitTransport}.
+ */
+public class ConcurrencyLimiter {
+
+	private static final int LATENCY_WINDOW = 200;
+
+	private final String Target;
+	private final ConcurrencyLimitOptions Options;
+	private final ReentrantLock Lock = new ReentrantLock();
+	private final Condition Released = this.Lock.newCondition();
+	private double Limit;
+	private int InFlight;
+	private final OperationLatency[] Latencies = new OperationLatency[256];
+	private long Started;
+	private long LastBackoff;
+	private long Rejected;
+
+	ConcurrencyLimiter(String target, ConcurrencyLimitOptions options)
+	{
+		this.Target = target;
+		this.Options = options;
+		this.Limit = options.getInitialLimit();
+	}
+
+	/**
+	 * Server and EntryPoint of the target.
+	 * @return value
+	 */
+	public String getTarget()
+	{
+		return this.Target;
+	}
+
+	/**
+	 * Current limit of operations in progress.
+	 * @return value
+	 */
+	public int getLimit()
+	{
+		this.Lock.lock();
+		try
+		{
+			return (int)this.Limit;
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Number of operations in progress.
+	 * @return value
+	 */
+	public int getInFlight()
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.InFlight;
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Number of operations rejected because the limit had been reached.
+	 * @return value
+	 */
+	public long getRejected()
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.Rejected;
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	long Acquire(long maxWaitMillis) throws InterruptedException
+	{
+		this.Lock.lock();
+		try
+		{
+			long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+			while (this.InFlight >= (int)this.Limit)
+			{
+				if (remaining <= 0)
+				{
+					this.Rejected++;
+					throw new RejectedExecutionException("The limit of " + (int)this.Limit + " operations in progress in " + this.Target + " has been reached");
+				}
+				remaining = this.Released.awaitNanos(remaining);
+			}
+			this.InFlight++;
+			return ++this.Started;
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	void Release(byte operationCode, long sequence, long latencyNanos, boolean failed)
+	{
+		this.Lock.lock();
+		try
+		{
+			// Every operation has its own usual latency, because a Select or a Subroutine can last much more than a Read without any congestion.
+			int index = operationCode & 0xFF;
+			OperationLatency latency = this.Latencies[index];
+			if (latency == null)
+				latency = this.Latencies[index] = new OperationLatency();
+			double baseline = latency.GetBaseline();
+			boolean congested = failed || (baseline > 0 && latencyNanos > baseline * this.Options.getLatencyTolerance());
+			// A failure can be much faster than a normal operation, so only the successful operations are samples of the usual latency.
+			if (!failed)
+				latency.Add(latencyNanos);
+			if (congested)
+			{
+				// The operations started before the last backoff do not know the new limit yet, so the limit only decreases once for all of them.
+				if (sequence > this.LastBackoff)
+				{
+					this.Limit = Math.max(this.Options.getMinLimit(), this.Limit * this.Options.getBackoffRatio());
+					this.LastBackoff = this.Started;
+				}
+			}
+			else if (this.InFlight * 2 >= this.Limit)
+			{
+				// The limit only grows while it is being used, not when the application sends few operations.
+				this.Limit = Math.min(this.Options.getMaxLimit(), this.Limit + 1 / this.Limit);
+			}
+			this.InFlight--;
+			this.Released.signal();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases an operation that has not measured the target, like one cancelled or rejected by the server, without changing the limit.
+	 */
+	void Ignore()
+	{
+		this.Lock.lock();
+		try
+		{
+			this.InFlight--;
+			this.Released.signal();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Usual latency of an operation: the lowest one of the last two windows of successful operations, so an unusually fast operation
+	 * is forgotten after two windows, and the usual latency adapts to a server that becomes slower for good.
+	 */
+	private static final class OperationLatency
+	{
+		private double Current;
+		private double Previous;
+		private int Samples;
+
+		double GetBaseline()
+		{
+			if (this.Current == 0)
+				return this.Previous;
+			return (this.Previous == 0 ? this.Current : Math.min(this.Current, this.Previous));
+		}
+
+		void Add(long latencyNanos)
+		{
+			if (this.Current == 0 || latencyNanos < this.Current)
+				this.Current = latencyNanos;
+			if (++this.Samples >= LATENCY_WINDOW)
+			{
+				this.Previous = this.Current;
+				this.Current = 0;
+				this.Samples = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package linkar.transport;
+
+import java.util.concurrent.ExecutorService;
+
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationCodes;
+
+/**
+ * Object that works as an argument in the {@link HedgingTransport} and defines which operations are hedged, when, and how many.
+ */
+public class HedgingOptions {
+
+	private OPERATION_CODE[] _OperationCodes;
+	/**
+	 * Operations that can be hedged. Only read-only operations are accepted: READ, SELECT, DICTIONARIES, CONVERSION, FORMAT, VERSION, LKSCHEMAS, LKPROPERTIES and GETTABLE.
+	 * @return value
+	 */
+	public OPERATION_CODE[] getOperationCodes()
+	{
+		return this._OperationCodes.clone();
+	}
+
+	private double _Percentile;
+	/**
+	 * Percentile of the recent latencies of the operation after which the hedged request is sent, for example 95.
+	 * @return value
+	 */
+	public double getPercentile()
+	{
+		return this._Percentile;
+	}
+
+	private long _MinDelay;
+	/**
+	 * Minimum time in milliseconds before sending the hedged request. It is also the delay used until there are enough latencies of the operation.
+	 * @return value
+	 */
+	public long getMinDelay()
+	{
+		return this._MinDelay;
+	}
+
+	private double _BudgetPercent;
+	/**
+	 * Maximum number of hedged requests, as a percentage of the operations that can be hedged.
+	 * @return value
+	 */
+	public double getBudgetPercent()
+	{
+		return this._BudgetPercent;
+	}
+
+	private ExecutorService _Executor;
+	/**
+	 * Executor where the original and the hedged requests are executed. When it is null, an internal pool of daemon threads is used.
+	 * @return value
+	 */
+	public ExecutorService getExecutor()
+	{
+		return this._Executor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HedgingOptions} class.
+	* @param operationCodes	Read-only operations that can be hedged.
+	* @param percentile		Percentile of the recent latencies after which the hedged request is sent. Between 50 and 99.9.
+	* @param minDelay		Minimum time in milliseconds before sending the hedged request.
+	* @param budgetPercent	Maximum number of hedged requests, as a percentage of the operations that can be hedged.
+	* @param executor		Executor where the requests are executed. If null, an internal pool is used.
+	* @throws IllegalArgumentException When any operation code is not read-only.
+	*/
+	public HedgingOptions(OPERATION_CODE[] operationCodes, double percentile, long minDelay, double budgetPercent, ExecutorService executor)
+	{
+		for (OPERATION_CODE operationCode : operationCodes)
+		{
+			if (!IsReadOnly(operationCode))
+				throw new IllegalArgumentException("The operation " + operationCode + " cannot be hedged");
+		}
+		this._OperationCodes = operationCodes.clone();
+		this._Percentile = Math.max(50, Math.min(percentile, 99.9));
+		this._MinDelay = (minDelay < 0 ? 0 : minDelay);
+		this._BudgetPercent = Math.max(0, Math.min(budgetPercent, 100));
+		this._Executor = executor;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HedgingOptions} class.
+	* @param operationCodes	Read-only operations that can be hedged.
+	* @param percentile		Percentile of the recent latencies after which the hedged request is sent. Between 50 and 99.9.
+	* @param budgetPercent	Maximum number of hedged requests, as a percentage of the operations that can be hedged.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	minDelay = 10
+	executor = null
+	}
+	</pre>
+	*/
+	public HedgingOptions(OPERATION_CODE[] operationCodes, double percentile, double budgetPercent)
+	{
+		this(operationCodes, percentile, 10, budgetPercent, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #HedgingOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	operationCodes = { OPERATION_CODE.READ, OPERATION_CODE.SELECT }
+	percentile = 95
+	minDelay = 10
+	budgetPercent = 5
+	executor = null
+	}
+	</pre>
+	*/
+	public HedgingOptions()
+	{
+		this(new OPERATION_CODE[] { OPERATION_CODE.READ, OPERATION_CODE.SELECT }, 95, 10, 5, null);
+	}
+
+	/**
+	 * Indicates if an operation only reads data, so it can be executed twice without side effects.
+	 * @param operationCode The operation.
+	 * @return true for READ, SELECT, DICTIONARIES, CONVERSION, FORMAT, VERSION, LKSCHEMAS, LKPROPERTIES and GETTABLE.
+	 */
+	public static boolean IsReadOnly(OPERATION_CODE operationCode)
+	{
+		return OperationCodes.IsReadOnly(operationCode.getnumVal());
+	}
+}
@@ -0,0 +1,232 @@
+package linkar.transport;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that hedges the read-only direct operations: when an operation has not finished after the percentile of its recent latencies,
+ * an identical operation is sent, and the first result is used. The other one is discarded.
+ * <p>
+ * The second operation goes through the same underlying transport, so over a {@link LoadBalancingTransport} it is usually sent to another target,
+ * and over a PooledDirectTransport it uses another session. The number of hedged operations is limited by the budget of the options.
+ * Write operations, and the operations in established sessions, are never hedged.
+ * <p>
+ * Example:
+ * <pre>
+ * HedgingTransport transport = HedgingTransport.Install(new HedgingOptions());
+ * </pre>
+ */
+public class HedgingTransport implements LinkarTransport {
+
+	private static final double MAX_BUDGET = 10;
+
+	private final LinkarTransport Transport;
+	private final HedgingOptions Options;
+	private final ExecutorService Executor;
+	private final boolean OwnExecutor;
+	private final LatencyWindow[] Windows = new LatencyWindow[256];
+	private final AtomicLong HedgedOperations = new AtomicLong();
+	private final AtomicLong HedgeWins = new AtomicLong();
+	private double Budget;
+
+	/**
+	 * Initializes a new instance of the HedgingTransport class.
+	 * @param hedgingOptions Object that defines which operations are hedged, when, and how many.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public HedgingTransport(HedgingOptions hedgingOptions, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.Options = (hedgingOptions == null ? new HedgingOptions() : hedgingOptions);
+		for (OPERATION_CODE operationCode : this.Options.getOperationCodes())
+			this.Windows[operationCode.getnumVal() & 0xFF] = new LatencyWindow(this.Options.getPercentile());
+		if (this.Options.getExecutor() != null)
+		{
+			this.Executor = this.Options.getExecutor();
+			this.OwnExecutor = false;
+		}
+		else
+		{
+			this.Executor = Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, "linkar-hedging");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.OwnExecutor = true;
+		}
+		this.Budget = MAX_BUDGET;
+	}
+
+	/**
+	 * Initializes a new instance of the HedgingTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param hedgingOptions Object that defines which operations are hedged, when, and how many.
+	 */
+	public HedgingTransport(HedgingOptions hedgingOptions)
+	{
+		this(hedgingOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new HedgingTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param hedgingOptions Object that defines which operations are hedged, when, and how many.
+	 * @return The installed transport.
+	 */
+	public static HedgingTransport Install(HedgingOptions hedgingOptions)
+	{
+		HedgingTransport transport = new HedgingTransport(hedgingOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed, and stops the internal pool.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+		if (this.OwnExecutor)
+			this.Executor.shutdown();
+	}
+
+	/**
+	 * Number of hedged operations sent.
+	 * @return value
+	 */
+	public long getHedgedOperations()
+	{
+		return this.HedgedOperations.get();
+	}
+
+	/**
+	 * Number of times that the result of the hedged operation has been used.
+	 * @return value
+	 */
+	public long getHedgeWins()
+	{
+		return this.HedgeWins.get();
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		LatencyWindow window = this.Windows[operationCode & 0xFF];
+		if (window == null)
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		DepositBudget();
+		OperationContext context = OperationContext.Current();
+		Callable<String> operation = () -> this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		CompletionService<String> completionService = new ExecutorCompletionService<String>(this.Executor);
+		long start = System.nanoTime();
+		Future<String> original = completionService.submit(Attach(context, operation));
+		Future<String> hedge = null;
+		try
+		{
+			long delay = Math.max(window.GetPercentile(), TimeUnit.MILLISECONDS.toNanos(this.Options.getMinDelay()));
+			Future<String> done = completionService.poll(delay, TimeUnit.NANOSECONDS);
+			if (done == null)
+			{
+				if (TryWithdrawBudget())
+				{
+					hedge = completionService.submit(Attach(context, operation));
+					this.HedgedOperations.incrementAndGet();
+				}
+				done = completionService.take();
+			}
+			try
+			{
+				String result = done.get();
+				// The latency observed by the caller is recorded before cancelling the slower one, also when the hedged one wins,
+				// so the slow operations that have triggered the hedging are not missing from the percentile.
+				window.Add(System.nanoTime() - start);
+				if (done == hedge)
+					this.HedgeWins.incrementAndGet();
+				return result;
+			}
+			catch (ExecutionException e)
+			{
+				if (hedge == null)
+					throw Unwrap(e);
+				// The first one has failed: the result of the other one is used.
+				Future<String> other = completionService.take();
+				try
+				{
+					String result = other.get();
+					window.Add(System.nanoTime() - start);
+					if (other == hedge)
+						this.HedgeWins.incrementAndGet();
+					return result;
+				}
+				catch (ExecutionException e2)
+				{
+					throw Unwrap(e);
+				}
+			}
+		}
+		finally
+		{
+			original.cancel(true);
+			if (hedge != null)
+				hedge.cancel(true);
+		}
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+
+	private synchronized void DepositBudget()
+	{
+		this.Budget = Math.min(MAX_BUDGET, this.Budget + this.Options.getBudgetPercent() / 100);
+	}
+
+	private synchronized boolean TryWithdrawBudget()
+	{
+		if (this.Budget < 1)
+			return false;
+		this.Budget--;
+		return true;
+	}
+
+	private static Callable<String> Attach(OperationContext context, Callable<String> operation)
+	{
+		if (context == null)
+			return operation;
+		return () -> {
+			OperationContext.Scope scope = context.Attach();
+			try
+			{
+				return operation.call();
+			}
+			finally
+			{
+				scope.close();
+			}
+		};
+	}
+
+	private static Exception Unwrap(ExecutionException e)
+	{
+		Throwable cause = e.getCause();
+		return (cause instanceof Exception ? (Exception)cause : e);
+	}
+}
@@ -0,0 +1,50 @@
+package linkar.transport;
+
+import java.util.Arrays;
+
+/**
+ * Auxiliary class with the most recent latencies of an operation, to estimate their percentiles.
+ * The percentile is recalculated only every few new latencies, so the cost of every operation is constant.
+ */
+final class LatencyWindow {
+
+	private static final int SIZE = 512;
+	private static final int MIN_SAMPLES = 32;
+	private static final int RECALCULATE_EVERY = 32;
+
+	private final long[] Latencies = new long[SIZE];
+	private final double Percentile;
+	private int Count;
+	private int Position;
+	private int Pending;
+	private long Value = -1;
+
+	LatencyWindow(double percentile)
+	{
+		this.Percentile = percentile;
+	}
+
+	synchronized void Add(long latencyNanos)
+	{
+		this.Latencies[this.Position] = latencyNanos;
+		this.Position = (this.Position + 1) % SIZE;
+		if (this.Count < SIZE)
+			this.Count++;
+		if (++this.Pending >= RECALCULATE_EVERY && this.Count >= MIN_SAMPLES)
+		{
+			long[] sorted = Arrays.copyOf(this.Latencies, this.Count);
+			Arrays.sort(sorted);
+			int index = (int)Math.ceil(this.Percentile / 100 * this.Count) - 1;
+			this.Value = sorted[Math.max(0, Math.min(index, this.Count - 1))];
+			this.Pending = 0;
+		}
+	}
+
+	/**
+	 * The percentile of the latencies in nanoseconds, or -1 until there are enough latencies.
+	 */
+	synchronized long GetPercentile()
+	{
+		return this.Value;
+	}
+}
@@ -0,0 +1,96 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link LoadBalancingTransport} and defines how the targets are chosen, ejected and reintroduced.
+ */
+public class LoadBalancingOptions {
+
+	private BALANCING_TYPE _BalancingType;
+	/**
+	 * Criteria used to choose the target of every operation.
+	 * @return value
+	 */
+	public BALANCING_TYPE getBalancingType()
+	{
+		return this._BalancingType;
+	}
+
+	private int _FailuresToEject;
+	/**
+	 * Number of consecutive operations failed by a timeout or a connection error after which a target is ejected. The errors reported by the server do not count.
+	 * @return value
+	 */
+	public int getFailuresToEject()
+	{
+		return this._FailuresToEject;
+	}
+
+	private long _EjectionTime;
+	/**
+	 * Time in milliseconds that a target stays ejected. It is multiplied by the number of consecutive ejections of the target, up to 8 times.
+	 * @return value
+	 */
+	public long getEjectionTime()
+	{
+		return this._EjectionTime;
+	}
+
+	private long _SlowStartTime;
+	/**
+	 * Time in milliseconds, after the end of an ejection, during which the share of operations of the target grows from 10% to its full share.
+	 * @return value
+	 */
+	public long getSlowStartTime()
+	{
+		return this._SlowStartTime;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadBalancingOptions} class.
+	* @param balancingType		Criteria used to choose the target of every operation.
+	* @param failuresToEject	Number of consecutive failed operations after which a target is ejected. It must be bigger than 0.
+	* @param ejectionTime		Time in milliseconds that a target stays ejected the first time.
+	* @param slowStartTime		Time in milliseconds during which a reintroduced target receives a growing share of the operations. 0 means no slow start.
+	*/
+	public LoadBalancingOptions(BALANCING_TYPE balancingType, int failuresToEject, long ejectionTime, long slowStartTime)
+	{
+		this._BalancingType = (balancingType == null ? BALANCING_TYPE.LEAST_OUTSTANDING : balancingType);
+		this._FailuresToEject = (failuresToEject < 1 ? 1 : failuresToEject);
+		this._EjectionTime = (ejectionTime < 0 ? 0 : ejectionTime);
+		this._SlowStartTime = (slowStartTime < 0 ? 0 : slowStartTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadBalancingOptions} class.
+	* @param balancingType		Criteria used to choose the target of every operation.
+	* @custom.note 				The omitted arguments with following values:
+	<pre>
+	{@code
+	failuresToEject = 3
+	ejectionTime = 30000
+	slowStartTime = 60000
+	}
+	</pre>
+	*/
+	public LoadBalancingOptions(BALANCING_TYPE balancingType)
+	{
+		this(balancingType, 3, 30000, 60000);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #LoadBalancingOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	balancingType = BALANCING_TYPE.LEAST_OUTSTANDING
+	failuresToEject = 3
+	ejectionTime = 30000
+	slowStartTime = 60000
+	}
+	</pre>
+	*/
+	public LoadBalancingOptions()
+	{
+		this(BALANCING_TYPE.LEAST_OUTSTANDING, 3, 30000, 60000);
+	}
+}
@@ -0,0 +1,174 @@
+package linkar.transport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationCodes;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that distributes the direct operations among several equivalent targets: Linkar Servers or EntryPoints in front of the same database.
+ * <p>
+ * The direct operations sent with the credentials of any of the targets are executed in the target chosen by the {@link BALANCING_TYPE} of the options,
+ * between two random targets (power of two choices). A target whose operations fail consecutively is ejected for a while, and when it is reintroduced
+ * its share of operations grows slowly. The operations in established sessions are not balanced, because the session belongs to one server.
+ * <p>
+ * To balance the sessions of a PooledDirectTransport, install this transport after it, so the sessions are borrowed
+ * with the credentials of the chosen target.
+ * <p>
+ * Example:
+ * <pre>
+ * LoadBalancingTransport transport = LoadBalancingTransport.Install(Arrays.asList(server1, server2, server3), new LoadBalancingOptions(BALANCING_TYPE.EWMA_LATENCY));
+ * String result = linkar.functions.direct.mv.Functions.Read(server1, "LK.CUSTOMERS", "2");
+ * </pre>
+ */
+public class LoadBalancingTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final LoadBalancingOptions Options;
+	private final BalancedTarget[] Targets;
+	private final HashMap<String, BalancedTarget> TargetsByKey = new HashMap<String, BalancedTarget>();
+
+	/**
+	 * Initializes a new instance of the LoadBalancingTransport class.
+	 * @param targets Credentials of the equivalent targets.
+	 * @param loadBalancingOptions Object that defines how the targets are chosen, ejected and reintroduced.
+	 * @param transport The transport that sends the operations to the targets.
+	 */
+	public LoadBalancingTransport(List<CredentialOptions> targets, LoadBalancingOptions loadBalancingOptions, LinkarTransport transport)
+	{
+		if (targets == null || targets.isEmpty())
+			throw new IllegalArgumentException("At least one target is required");
+		this.Transport = transport;
+		this.Options = (loadBalancingOptions == null ? new LoadBalancingOptions() : loadBalancingOptions);
+		this.Targets = new BalancedTarget[targets.size()];
+		for (int i = 0; i < this.Targets.length; i++)
+		{
+			this.Targets[i] = new BalancedTarget(targets.get(i));
+			this.TargetsByKey.put(CredentialOptionsKey.Get(targets.get(i)), this.Targets[i]);
+		}
+	}
+
+	/**
+	 * Initializes a new instance of the LoadBalancingTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param targets Credentials of the equivalent targets.
+	 * @param loadBalancingOptions Object that defines how the targets are chosen, ejected and reintroduced.
+	 */
+	public LoadBalancingTransport(List<CredentialOptions> targets, LoadBalancingOptions loadBalancingOptions)
+	{
+		this(targets, loadBalancingOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new LoadBalancingTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param targets Credentials of the equivalent targets.
+	 * @param loadBalancingOptions Object that defines how the targets are chosen, ejected and reintroduced.
+	 * @return The installed transport.
+	 */
+	public static LoadBalancingTransport Install(List<CredentialOptions> targets, LoadBalancingOptions loadBalancingOptions)
+	{
+		LoadBalancingTransport transport = new LoadBalancingTransport(targets, loadBalancingOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * The targets and their statistics.
+	 * @return value
+	 */
+	public List<BalancedTarget> getTargets()
+	{
+		return Collections.unmodifiableList(Arrays.asList(this.Targets));
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		if (!this.TargetsByKey.containsKey(CredentialOptionsKey.Get(credentialOptions)))
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		BalancedTarget target = Choose();
+		target.Start();
+		long start = System.nanoTime();
+		String result;
+		try
+		{
+			result = this.Transport.ExecuteDirectOperation(target.getCredentialOptions(), operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		catch (CancellationException | InterruptedException e)
+		{
+			target.Cancelled();
+			throw e;
+		}
+		catch (Exception e)
+		{
+			// The errors reported by the server, like a bad query, and the deadline of the caller do not mean that the target is unhealthy.
+			if (OperationCodes.IsTransportFailure(e))
+				target.Failure(this.Options);
+			else
+				target.Cancelled();
+			throw e;
+		}
+		target.Success(System.nanoTime() - start);
+		return result;
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+
+	private BalancedTarget Choose()
+	{
+		ArrayList<BalancedTarget> available = new ArrayList<BalancedTarget>(this.Targets.length);
+		for (BalancedTarget target : this.Targets)
+		{
+			if (!target.isEjected())
+				available.add(target);
+		}
+
+		if (available.isEmpty())
+		{
+			// All the targets are ejected: the one that is reintroduced first is used.
+			BalancedTarget first = this.Targets[0];
+			for (BalancedTarget target : this.Targets)
+			{
+				if (target.GetRemainingEjection() < first.GetRemainingEjection())
+					first = target;
+			}
+			return first;
+		}
+		if (available.size() == 1)
+			return available.get(0);
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int i = random.nextInt(available.size());
+		int j = random.nextInt(available.size() - 1);
+		if (j >= i)
+			j++;
+		BalancedTarget a = available.get(i);
+		BalancedTarget b = available.get(j);
+		return (a.GetCost(this.Options) <= b.GetCost(this.Options) ? a : b);
+	}
+}
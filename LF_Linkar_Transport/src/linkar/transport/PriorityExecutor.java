@@ -0,0 +1,144 @@
+package linkar.transport;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import linkar.functions.AsyncOperations;
+import linkar.functions.OPERATION_PRIORITY;
+import linkar.functions.OperationContext;
+
+/**
+ * Executor for the asynchronous functions with a fixed number of threads that take the pending tasks by priority lanes, with weighted fair
+ * scheduling. The priority of a task is the one of the {@link OperationContext} of the thread that submits it, NORMAL by default.
+ * <p>
+ * Example:
+ * <pre>
+ * PriorityExecutor executor = PriorityExecutor.Install(new PriorityOptions(16));
+ * </pre>
+ */
+public class PriorityExecutor implements Executor {
+
+	private final PriorityOptions Options;
+	private final ReentrantLock Lock = new ReentrantLock();
+	private final Condition NotEmpty = this.Lock.newCondition();
+	private final PriorityLanes<Runnable> Lanes;
+	private final Thread[] Workers;
+	private volatile boolean Shutdown;
+
+	/**
+	 * Initializes a new instance of the PriorityExecutor class, and starts its threads.
+	 * @param priorityOptions Object that defines the number of threads and the weights of the lanes.
+	 */
+	public PriorityExecutor(PriorityOptions priorityOptions)
+	{
+		this.Options = (priorityOptions == null ? new PriorityOptions() : priorityOptions);
+		this.Lanes = new PriorityLanes<Runnable>(this.Options);
+		this.Workers = new Thread[this.Options.getMaxConcurrent()];
+		for (int i = 0; i < this.Workers.length; i++)
+		{
+			this.Workers[i] = new Thread(this::Work, "linkar-priority-" + i);
+			this.Workers[i].setDaemon(true);
+			this.Workers[i].start();
+		}
+	}
+
+	/**
+	 * Installs a new PriorityExecutor as the executor of the asynchronous functions.
+	 * @param priorityOptions Object that defines the number of threads and the weights of the lanes.
+	 * @return The installed executor.
+	 */
+	public static PriorityExecutor Install(PriorityOptions priorityOptions)
+	{
+		PriorityExecutor executor = new PriorityExecutor(priorityOptions);
+		AsyncOperations.setExecutor(executor);
+		return executor;
+	}
+
+	/**
+	 * Restores the default executor of the asynchronous functions, if this one is still installed, and stops the threads once the pending tasks are finished.
+	 */
+	public void Uninstall()
+	{
+		if (AsyncOperations.getExecutor() == this)
+			AsyncOperations.setExecutor(null);
+		this.Lock.lock();
+		try
+		{
+			this.Shutdown = true;
+			this.NotEmpty.signalAll();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Number of tasks waiting in a lane.
+	 * @param priority The priority of the lane.
+	 * @return value
+	 */
+	public int getWaiting(OPERATION_PRIORITY priority)
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.Lanes.getSize(priority);
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		OperationContext context = OperationContext.Current();
+		OPERATION_PRIORITY priority = (context == null ? OPERATION_PRIORITY.NORMAL : context.getPriority());
+		this.Lock.lock();
+		try
+		{
+			if (this.Shutdown)
+				throw new RejectedExecutionException("The executor has been uninstalled");
+			this.Lanes.Add(priority, command);
+			this.NotEmpty.signal();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	private void Work()
+	{
+		while (true)
+		{
+			Runnable task;
+			this.Lock.lock();
+			try
+			{
+				while (this.Lanes.getSize() == 0)
+				{
+					if (this.Shutdown)
+						return;
+					this.NotEmpty.awaitUninterruptibly();
+				}
+				task = this.Lanes.Poll();
+			}
+			finally
+			{
+				this.Lock.unlock();
+			}
+			try
+			{
+				task.run();
+			}
+			catch (RuntimeException e)
+			{
+			}
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package linkar.transport;
+
+import java.util.ArrayDeque;
+
+import linkar.functions.OPERATION_PRIORITY;
+
+/**
+ * Queues of the priority lanes, served with smooth weighted round robin: while several lanes have elements waiting, every lane obtains
+ * a share of the turns proportional to its weight, so the BULK lane is slowed down but never starved. Not thread safe.
+ */
+final class PriorityLanes<T> {
+
+	private final ArrayDeque<T>[] Queues;
+	private final int[] Weights;
+	private final int[] Current;
+	private int Size;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	PriorityLanes(PriorityOptions options)
+	{
+		OPERATION_PRIORITY[] priorities = OPERATION_PRIORITY.values();
+		this.Queues = new ArrayDeque[priorities.length];
+		this.Weights = new int[priorities.length];
+		this.Current = new int[priorities.length];
+		for (int i = 0; i < priorities.length; i++)
+		{
+			this.Queues[i] = new ArrayDeque<T>();
+			this.Weights[i] = options.GetWeight(priorities[i]);
+		}
+	}
+
+	int getSize()
+	{
+		return this.Size;
+	}
+
+	int getSize(OPERATION_PRIORITY priority)
+	{
+		return this.Queues[priority.ordinal()].size();
+	}
+
+	void Add(OPERATION_PRIORITY priority, T element)
+	{
+		this.Queues[priority.ordinal()].addLast(element);
+		this.Size++;
+	}
+
+	boolean Remove(OPERATION_PRIORITY priority, T element)
+	{
+		if (!this.Queues[priority.ordinal()].remove(element))
+			return false;
+		this.Size--;
+		return true;
+	}
+
+	T Poll()
+	{
+		if (this.Size == 0)
+			return null;
+		int total = 0;
+		int selected = -1;
+		for (int i = 0; i < this.Queues.length; i++)
+		{
+			if (this.Queues[i].isEmpty())
+				continue;
+			this.Current[i] += this.Weights[i];
+			total += this.Weights[i];
+			if (selected < 0 || this.Current[i] > this.Current[selected])
+				selected = i;
+		}
+		this.Current[selected] -= total;
+		if (this.Queues[selected].size() == 1)
+			this.Current[selected] = 0;
+		this.Size--;
+		return this.Queues[selected].pollFirst();
+	}
+}
@@ -0,0 +1,145 @@
+package linkar.transport;
+
+import linkar.functions.OPERATION_PRIORITY;
+
+/**
+ * Object that works as an argument in the {@link PriorityTransport} and the {@link PriorityExecutor}, and defines how the operations of the
+ * different priority lanes share the available slots.
+ */
+public class PriorityOptions {
+
+	private int _MaxConcurrent;
+	/**
+	 * Maximum number of operations executed at the same time, of all the priorities.
+	 * @return value
+	 */
+	public int getMaxConcurrent()
+	{
+		return this._MaxConcurrent;
+	}
+
+	private int _InteractiveWeight;
+	/**
+	 * Share of the free slots given to the INTERACTIVE lane while there are operations waiting in other lanes.
+	 * @return value
+	 */
+	public int getInteractiveWeight()
+	{
+		return this._InteractiveWeight;
+	}
+
+	private int _NormalWeight;
+	/**
+	 * Share of the free slots given to the NORMAL lane while there are operations waiting in other lanes.
+	 * @return value
+	 */
+	public int getNormalWeight()
+	{
+		return this._NormalWeight;
+	}
+
+	private int _BulkWeight;
+	/**
+	 * Share of the free slots given to the BULK lane while there are operations waiting in other lanes.
+	 * @return value
+	 */
+	public int getBulkWeight()
+	{
+		return this._BulkWeight;
+	}
+
+	private long _MaxWaitTime;
+	/**
+	 * Maximum time in milliseconds that an operation waits for a free slot before being rejected. 0 means wait indefinitely, or until the deadline
+	 * of its {@link linkar.functions.OperationContext}. Only used by the {@link PriorityTransport}.
+	 * @return value
+	 */
+	public long getMaxWaitTime()
+	{
+		return this._MaxWaitTime;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #PriorityOptions} class.
+	* @param maxConcurrent		Maximum number of operations executed at the same time. It must be bigger than 0.
+	* @param interactiveWeight	Share of the free slots given to the INTERACTIVE lane. It must be bigger than 0.
+	* @param normalWeight		Share of the free slots given to the NORMAL lane. It must be bigger than 0.
+	* @param bulkWeight			Share of the free slots given to the BULK lane. It must be bigger than 0.
+	* @param maxWaitTime		Maximum time in milliseconds that an operation waits for a free slot. 0 means wait indefinitely.
+	*/
+	public PriorityOptions(int maxConcurrent, int interactiveWeight, int normalWeight, int bulkWeight, long maxWaitTime)
+	{
+		this._MaxConcurrent = (maxConcurrent < 1 ? 1 : maxConcurrent);
+		this._InteractiveWeight = (interactiveWeight < 1 ? 1 : interactiveWeight);
+		this._NormalWeight = (normalWeight < 1 ? 1 : normalWeight);
+		this._BulkWeight = (bulkWeight < 1 ? 1 : bulkWeight);
+		this._MaxWaitTime = (maxWaitTime < 0 ? 0 : maxWaitTime);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #PriorityOptions} class.
+	* @param maxConcurrent		Maximum number of operations executed at the same time. It must be bigger than 0.
+	* @param interactiveWeight	Share of the free slots given to the INTERACTIVE lane. It must be bigger than 0.
+	* @param normalWeight		Share of the free slots given to the NORMAL lane. It must be bigger than 0.
+	* @param bulkWeight			Share of the free slots given to the BULK lane. It must be bigger than 0.
+	* @custom.note 				The omitted argument with following value:
+	<pre>
+	{@code
+	maxWaitTime = 30000
+	}
+	</pre>
+	*/
+	public PriorityOptions(int maxConcurrent, int interactiveWeight, int normalWeight, int bulkWeight)
+	{
+		this(maxConcurrent, interactiveWeight, normalWeight, bulkWeight, 30000);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #PriorityOptions} class.
+	* @param maxConcurrent	Maximum number of operations executed at the same time. It must be bigger than 0.
+	* @custom.note 			The omitted arguments with following values:
+	<pre>
+	{@code
+	interactiveWeight = 8
+	normalWeight = 3
+	bulkWeight = 1
+	maxWaitTime = 30000
+	}
+	</pre>
+	*/
+	public PriorityOptions(int maxConcurrent)
+	{
+		this(maxConcurrent, 8, 3, 1, 30000);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #PriorityOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxConcurrent = 8
+	interactiveWeight = 8
+	normalWeight = 3
+	bulkWeight = 1
+	maxWaitTime = 30000
+	}
+	</pre>
+	*/
+	public PriorityOptions()
+	{
+		this(8, 8, 3, 1, 30000);
+	}
+
+	int GetWeight(OPERATION_PRIORITY priority)
+	{
+		switch (priority)
+		{
+			case INTERACTIVE:
+				return this._InteractiveWeight;
+			case BULK:
+				return this._BulkWeight;
+			default:
+				return this._NormalWeight;
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package linkar.transport;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OPERATION_CODE;
+import linkar.functions.OPERATION_PRIORITY;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that limits the operations in progress and, when the limit has been reached, dispatches the waiting operations by priority lanes
+ * with weighted fair scheduling, so the interactive operations do not queue behind thousands of bulk operations.
+ * <p>
+ * The priority of an operation is the one of the {@link OperationContext} of the thread, NORMAL by default. The chunks of the bulk operations
+ * are executed with BULK priority, so they give way to the other lanes between a chunk and the next one. Installed over a PooledDirectTransport,
+ * with a maximum concurrency not bigger than the maximum sessions of the pool, it decides which operation obtains the next free session.
+ * The Login and Logout operations are not limited, because the pool executes them to open and close its sessions while the direct operation
+ * that needs the session already holds its slot.
+ * <p>
+ * Example:
+ * <pre>
+ * PriorityTransport.Install(new PriorityOptions(8));
+ * OperationContext context = new OperationContext(2000);
+ * context.setPriority(OPERATION_PRIORITY.INTERACTIVE);
+ * </pre>
+ */
+public class PriorityTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final PriorityOptions Options;
+	private final ReentrantLock Lock = new ReentrantLock();
+	private final PriorityLanes<Waiter> Lanes;
+	private int InFlight;
+
+	/**
+	 * Initializes a new instance of the PriorityTransport class.
+	 * @param priorityOptions Object that defines the maximum concurrency and the weights of the lanes.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public PriorityTransport(PriorityOptions priorityOptions, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.Options = (priorityOptions == null ? new PriorityOptions() : priorityOptions);
+		this.Lanes = new PriorityLanes<Waiter>(this.Options);
+	}
+
+	/**
+	 * Initializes a new instance of the PriorityTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param priorityOptions Object that defines the maximum concurrency and the weights of the lanes.
+	 */
+	public PriorityTransport(PriorityOptions priorityOptions)
+	{
+		this(priorityOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new PriorityTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param priorityOptions Object that defines the maximum concurrency and the weights of the lanes.
+	 * @return The installed transport.
+	 */
+	public static PriorityTransport Install(PriorityOptions priorityOptions)
+	{
+		PriorityTransport transport = new PriorityTransport(priorityOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * Number of operations in progress.
+	 * @return value
+	 */
+	public int getInFlight()
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.InFlight;
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	/**
+	 * Number of operations waiting in a lane.
+	 * @param priority The priority of the lane.
+	 * @return value
+	 */
+	public int getWaiting(OPERATION_PRIORITY priority)
+	{
+		this.Lock.lock();
+		try
+		{
+			return this.Lanes.getSize(priority);
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		Acquire();
+		try
+		{
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		finally
+		{
+			Release();
+		}
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		if (operationCode == OPERATION_CODE.LOGIN.getnumVal() || operationCode == OPERATION_CODE.LOGOUT.getnumVal())
+			return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		Acquire();
+		try
+		{
+			return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		finally
+		{
+			Release();
+		}
+	}
+
+	private void Acquire() throws InterruptedException
+	{
+		OperationContext context = OperationContext.Current();
+		OPERATION_PRIORITY priority = (context == null ? OPERATION_PRIORITY.NORMAL : context.getPriority());
+		long maxWait = (this.Options.getMaxWaitTime() > 0 ? this.Options.getMaxWaitTime() : Long.MAX_VALUE);
+		if (context != null)
+			maxWait = Math.min(maxWait, Math.max(context.getRemainingMillis(), 0));
+
+		this.Lock.lock();
+		try
+		{
+			if (this.InFlight < this.Options.getMaxConcurrent() && this.Lanes.getSize() == 0)
+			{
+				this.InFlight++;
+				return;
+			}
+			Waiter waiter = new Waiter(this.Lock.newCondition());
+			this.Lanes.Add(priority, waiter);
+			long remaining = (maxWait == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(maxWait));
+			try
+			{
+				while (!waiter.Granted)
+				{
+					if (remaining <= 0)
+					{
+						this.Lanes.Remove(priority, waiter);
+						throw new RejectedExecutionException("The operation has waited too long for a free slot in the " + priority + " lane");
+					}
+					if (remaining == Long.MAX_VALUE)
+						waiter.Signal.await();
+					else
+						remaining = waiter.Signal.awaitNanos(remaining);
+				}
+			}
+			catch (InterruptedException e)
+			{
+				if (waiter.Granted)
+					ReleaseLocked();
+				else
+					this.Lanes.Remove(priority, waiter);
+				throw e;
+			}
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	private void Release()
+	{
+		this.Lock.lock();
+		try
+		{
+			ReleaseLocked();
+		}
+		finally
+		{
+			this.Lock.unlock();
+		}
+	}
+
+	private void ReleaseLocked()
+	{
+		this.InFlight--;
+		while (this.InFlight < this.Options.getMaxConcurrent() && this.Lanes.getSize() > 0)
+		{
+			Waiter waiter = this.Lanes.Poll();
+			waiter.Granted = true;
+			this.InFlight++;
+			waiter.Signal.signal();
+		}
+	}
+
+	private static final class Waiter
+	{
+		final Condition Signal;
+		boolean Granted;
+
+		Waiter(Condition signal)
+		{
+			this.Signal = signal;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link ReadWriteSplitTransport} and defines how the read-only operations are sent to the replicas.
+ */
+public class ReadWriteSplitOptions {
+
+	private long _StickyTime;
+	/**
+	 * Time in milliseconds, after a write operation, during which the read-only operations of the same context are sent to the primary,
+	 * so they read their own writes even when the replicas are behind. The context is the root {@link linkar.functions.OperationContext}
+	 * attached to the thread or, without it, the thread, which is also the context of the asynchronous operations it starts. 0 means the reads are always sent to the replicas.
+	 * @return value
+	 */
+	public long getStickyTime()
+	{
+		return this._StickyTime;
+	}
+
+	private boolean _FallbackToPrimary;
+	/**
+	 * When the operation sent to a replica throws an exception, it is sent again to the primary.
+	 * @return value
+	 */
+	public boolean getFallbackToPrimary()
+	{
+		return this._FallbackToPrimary;
+	}
+
+	private LoadBalancingOptions _LoadBalancingOptions;
+	/**
+	 * Object that defines how the replica of every read-only operation is chosen, ejected and reintroduced.
+	 * @return value
+	 */
+	public LoadBalancingOptions getLoadBalancingOptions()
+	{
+		return this._LoadBalancingOptions;
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReadWriteSplitOptions} class.
+	* @param stickyTime				Time in milliseconds, after a write operation, during which the read-only operations of the same context are sent to the primary. 0 means never.
+	* @param fallbackToPrimary		When the operation sent to a replica throws an exception, it is sent again to the primary.
+	* @param loadBalancingOptions	Object that defines how the replica of every read-only operation is chosen. If null, the default LoadBalancingOptions.
+	*/
+	public ReadWriteSplitOptions(long stickyTime, boolean fallbackToPrimary, LoadBalancingOptions loadBalancingOptions)
+	{
+		this._StickyTime = (stickyTime < 0 ? 0 : stickyTime);
+		this._FallbackToPrimary = fallbackToPrimary;
+		this._LoadBalancingOptions = (loadBalancingOptions == null ? new LoadBalancingOptions() : loadBalancingOptions);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReadWriteSplitOptions} class.
+	* @param stickyTime	Time in milliseconds, after a write operation, during which the read-only operations of the same context are sent to the primary. 0 means never.
+	* @custom.note 		The omitted arguments with following values:
+	<pre>
+	{@code
+	fallbackToPrimary = true
+	loadBalancingOptions = new LoadBalancingOptions()
+	}
+	</pre>
+	*/
+	public ReadWriteSplitOptions(long stickyTime)
+	{
+		this(stickyTime, true, null);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #ReadWriteSplitOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	stickyTime = 0
+	fallbackToPrimary = true
+	loadBalancingOptions = new LoadBalancingOptions()
+	}
+	</pre>
+	*/
+	public ReadWriteSplitOptions()
+	{
+		this(0, true, null);
+	}
+}
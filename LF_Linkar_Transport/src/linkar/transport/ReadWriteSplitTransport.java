@@ -0,0 +1,206 @@
+package linkar.transport;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationCodes;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+
+/**
+ * Transport that sends the read-only direct operations (Read, Select, GetTable...) of a primary to a pool of read-only replicas, reachable
+ * through other Linkar Servers or EntryPoints, and the rest of operations to the primary.
+ * <p>
+ * The direct operations sent with the credentials of the primary are routed; any other operation is sent unchanged. The replica of every
+ * read-only operation is chosen as in the {@link LoadBalancingTransport}. Optionally, the reads of a context that has written recently are
+ * sent to the primary, to read their own writes. A context is identified by its root OperationContext, or by the thread that started the operations
+ * when they have not any context attached, including the asynchronous operations started from that thread. The operations in established sessions are not routed, because the session belongs to one server.
+ * <p>
+ * To route the sessions of a PooledDirectTransport, install this transport after it, so the sessions are borrowed with the credentials of the chosen target.
+ * <p>
+ * Example:
+ * <pre>
+ * ReadWriteSplitTransport.Install(primary, Arrays.asList(replica1, replica2), new ReadWriteSplitOptions(2000));
+ * String result = linkar.functions.direct.mv.Functions.Read(primary, "LK.CUSTOMERS", "2");
+ * </pre>
+ */
+public class ReadWriteSplitTransport implements LinkarTransport {
+
+	private final LinkarTransport Transport;
+	private final ReadWriteSplitOptions Options;
+	private final String PrimaryKey;
+	private final CredentialOptions Replica;
+	private final LoadBalancingTransport Replicas;
+	private final Map<Object, Long> LastWrites = Collections.synchronizedMap(new WeakHashMap<Object, Long>());
+	private final AtomicLong ReplicaReads = new AtomicLong();
+	private final AtomicLong PrimaryReads = new AtomicLong();
+
+	/**
+	 * Initializes a new instance of the ReadWriteSplitTransport class.
+	 * @param primary Credentials of the primary, used by the functions.
+	 * @param replicas Credentials of the read-only replicas.
+	 * @param readWriteSplitOptions Object that defines how the read-only operations are sent to the replicas.
+	 * @param transport The transport that sends the operations to the primary and the replicas.
+	 */
+	public ReadWriteSplitTransport(CredentialOptions primary, List<CredentialOptions> replicas, ReadWriteSplitOptions readWriteSplitOptions, LinkarTransport transport)
+	{
+		if (primary == null)
+			throw new IllegalArgumentException("The primary is required");
+		if (replicas == null || replicas.isEmpty())
+			throw new IllegalArgumentException("At least one replica is required");
+		this.Transport = transport;
+		this.Options = (readWriteSplitOptions == null ? new ReadWriteSplitOptions() : readWriteSplitOptions);
+		this.PrimaryKey = CredentialOptionsKey.Get(primary);
+		this.Replica = replicas.get(0);
+		this.Replicas = new LoadBalancingTransport(replicas, this.Options.getLoadBalancingOptions(), transport);
+	}
+
+	/**
+	 * Initializes a new instance of the ReadWriteSplitTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param primary Credentials of the primary, used by the functions.
+	 * @param replicas Credentials of the read-only replicas.
+	 * @param readWriteSplitOptions Object that defines how the read-only operations are sent to the replicas.
+	 */
+	public ReadWriteSplitTransport(CredentialOptions primary, List<CredentialOptions> replicas, ReadWriteSplitOptions readWriteSplitOptions)
+	{
+		this(primary, replicas, readWriteSplitOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new ReadWriteSplitTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param primary Credentials of the primary, used by the functions.
+	 * @param replicas Credentials of the read-only replicas.
+	 * @param readWriteSplitOptions Object that defines how the read-only operations are sent to the replicas.
+	 * @return The installed transport.
+	 */
+	public static ReadWriteSplitTransport Install(CredentialOptions primary, List<CredentialOptions> replicas, ReadWriteSplitOptions readWriteSplitOptions)
+	{
+		ReadWriteSplitTransport transport = new ReadWriteSplitTransport(primary, replicas, readWriteSplitOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * The replicas and their statistics.
+	 * @return value
+	 */
+	public List<BalancedTarget> getReplicas()
+	{
+		return this.Replicas.getTargets();
+	}
+
+	/**
+	 * Number of read-only operations executed in the replicas.
+	 * @return value
+	 */
+	public long getReplicaReads()
+	{
+		return this.ReplicaReads.get();
+	}
+
+	/**
+	 * Number of read-only operations executed in the primary, because of the stickiness after a write or the fallback from a replica.
+	 * @return value
+	 */
+	public long getPrimaryReads()
+	{
+		return this.PrimaryReads.get();
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		if (!this.PrimaryKey.equals(CredentialOptionsKey.Get(credentialOptions)))
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+
+		if (!OperationCodes.IsReadOnly(operationCode))
+		{
+			try
+			{
+				return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			}
+			finally
+			{
+				MarkWrite();
+			}
+		}
+
+		if (isSticky())
+		{
+			this.PrimaryReads.incrementAndGet();
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+		try
+		{
+			String result = this.Replicas.ExecuteDirectOperation(this.Replica, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+			this.ReplicaReads.incrementAndGet();
+			return result;
+		}
+		catch (CancellationException | InterruptedException | TimeoutException e)
+		{
+			throw e;
+		}
+		catch (Exception e)
+		{
+			if (!this.Options.getFallbackToPrimary())
+				throw e;
+			this.PrimaryReads.incrementAndGet();
+			return this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		}
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+	}
+
+	private void MarkWrite()
+	{
+		if (this.Options.getStickyTime() <= 0)
+			return;
+		this.LastWrites.put(GetWriter(), System.nanoTime());
+	}
+
+	private boolean isSticky()
+	{
+		if (this.Options.getStickyTime() <= 0)
+			return false;
+		Long lastWrite = this.LastWrites.get(GetWriter());
+		return lastWrite != null && (System.nanoTime() - lastWrite) / 1000000 < this.Options.getStickyTime();
+	}
+
+	/**
+	 * Returns the root context of the current operation, or the thread that started it when it has not any context, so the asynchronous
+	 * and bulk operations started without context are identified with the synchronous ones of the same thread.
+	 */
+	private static Object GetWriter()
+	{
+		OperationContext context = OperationContext.Current();
+		while (context != null && context.getParent() != null)
+			context = context.getParent();
+		if (context == null)
+			return Thread.currentThread();
+		return (context.getOrigin() == null ? context : context.getOrigin());
+	}
+}
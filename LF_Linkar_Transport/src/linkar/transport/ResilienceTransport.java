@@ -0,0 +1,231 @@
+package linkar.transport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import linkar.ConnectionInfo;
+import linkar.CredentialOptions;
+import linkar.LkException;
+import linkar.functions.CredentialOptionsKey;
+import linkar.functions.DATAFORMAT_TYPE;
+import linkar.functions.DBMV_Mark;
+import linkar.functions.LinkarTransport;
+import linkar.functions.OperationCodes;
+import linkar.functions.OperationContext;
+import linkar.functions.OperationExecutor;
+import linkar.strings.StringFunctions;
+
+/**
+ * Transport that protects the direct and persistent operations against transient failures, with a circuit breaker for every target
+ * (Linkar Server and EntryPoint) and retries with jittered exponential backoff limited by a global retry budget.
+ * <p>
+ * An operation fails when the underlying transport throws an exception, or when its MV result contains an error whose code is one of the
+ * retryable error codes of the {@link RetryOptions}. The rest of the errors of the ERRORS tag are final: they are returned to the caller without retrying.
+ * The idempotent operations are retried automatically; the rest only when the retryWrites option is set.
+ * <p>
+ * While the circuit of a target is open, its operations are rejected at once with a RejectedExecutionException, so the threads do not wait for
+ * a server that is down.
+ * <p>
+ * Example:
+ * <pre>
+ * ResilienceTransport transport = ResilienceTransport.Install(new CircuitBreakerOptions(), new RetryOptions(3, false, null));
+ * </pre>
+ */
+public class ResilienceTransport implements LinkarTransport {
+
+	private static final double MAX_BUDGET = 10;
+
+	private final LinkarTransport Transport;
+	private final CircuitBreakerOptions BreakerOptions;
+	private final RetryOptions RetryOptions;
+	private final HashSet<String> RetryableErrorCodes;
+	private final ConcurrentHashMap<String, CircuitBreaker> Breakers = new ConcurrentHashMap<String, CircuitBreaker>();
+	private double Budget;
+
+	/**
+	 * Initializes a new instance of the ResilienceTransport class.
+	 * @param circuitBreakerOptions Object that defines when the circuit breaker of a target opens and closes.
+	 * @param retryOptions Object that defines which failed operations are retried, how many times and when.
+	 * @param transport The transport that sends the operations to the server.
+	 */
+	public ResilienceTransport(CircuitBreakerOptions circuitBreakerOptions, RetryOptions retryOptions, LinkarTransport transport)
+	{
+		this.Transport = transport;
+		this.BreakerOptions = (circuitBreakerOptions == null ? new CircuitBreakerOptions() : circuitBreakerOptions);
+		this.RetryOptions = (retryOptions == null ? new RetryOptions() : retryOptions);
+		this.RetryableErrorCodes = new HashSet<String>(Arrays.asList(this.RetryOptions.getRetryableErrorCodes()));
+		this.Budget = MAX_BUDGET;
+	}
+
+	/**
+	 * Initializes a new instance of the ResilienceTransport class, over the current transport of {@link OperationExecutor}.
+	 * @param circuitBreakerOptions Object that defines when the circuit breaker of a target opens and closes.
+	 * @param retryOptions Object that defines which failed operations are retried, how many times and when.
+	 */
+	public ResilienceTransport(CircuitBreakerOptions circuitBreakerOptions, RetryOptions retryOptions)
+	{
+		this(circuitBreakerOptions, retryOptions, OperationExecutor.getTransport());
+	}
+
+	/**
+	 * Installs a new ResilienceTransport, over the current transport of {@link OperationExecutor}, for all the functions.
+	 * @param circuitBreakerOptions Object that defines when the circuit breaker of a target opens and closes.
+	 * @param retryOptions Object that defines which failed operations are retried, how many times and when.
+	 * @return The installed transport.
+	 */
+	public static ResilienceTransport Install(CircuitBreakerOptions circuitBreakerOptions, RetryOptions retryOptions)
+	{
+		ResilienceTransport transport = new ResilienceTransport(circuitBreakerOptions, retryOptions);
+		OperationExecutor.setTransport(transport);
+		return transport;
+	}
+
+	/**
+	 * Restores the previous transport of {@link OperationExecutor}, if this one is still installed.
+	 */
+	public void Uninstall()
+	{
+		if (OperationExecutor.getTransport() == this)
+			OperationExecutor.setTransport(this.Transport);
+	}
+
+	/**
+	 * The circuit breakers of the targets used until now.
+	 * @return value
+	 */
+	public List<CircuitBreaker> getCircuitBreakers()
+	{
+		return new ArrayList<CircuitBreaker>(this.Breakers.values());
+	}
+
+	@Override
+	public String ExecuteDirectOperation(CredentialOptions credentialOptions, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		return Execute(credentialOptions, operationCode, outputFormat,
+			() -> this.Transport.ExecuteDirectOperation(credentialOptions, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout));
+	}
+
+	@Override
+	public String ExecutePersistentOperation(ConnectionInfo connectionInfo, byte operationCode, String operationArgs,
+			byte inputFormat, byte outputFormat, int receiveTimeout) throws Exception
+	{
+		if (connectionInfo.getCredentialOptions() == null)
+			return this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout);
+		return Execute(connectionInfo.getCredentialOptions(), operationCode, outputFormat,
+			() -> this.Transport.ExecutePersistentOperation(connectionInfo, operationCode, operationArgs, inputFormat, outputFormat, receiveTimeout));
+	}
+
+	private String Execute(CredentialOptions credentialOptions, byte operationCode, byte outputFormat, Callable<String> operation) throws Exception
+	{
+		String target = CredentialOptionsKey.GetEntryPoint(credentialOptions);
+		CircuitBreaker breaker = this.Breakers.computeIfAbsent(target, k -> new CircuitBreaker(k, this.BreakerOptions));
+		boolean retryable = this.RetryOptions.getRetryWrites() || OperationCodes.IsIdempotent(operationCode);
+		DepositBudget();
+
+		int attempt = 0;
+		Exception lastException = null;
+		String lastResult = null;
+		while (true)
+		{
+			if (!breaker.TryAcquire())
+			{
+				// A retry rejected by the circuit ends with the last failure of the operation.
+				if (lastException != null)
+					throw lastException;
+				if (attempt > 0)
+					return lastResult;
+				throw new RejectedExecutionException("The circuit breaker of " + target + " is open");
+			}
+
+			String result;
+			try
+			{
+				result = operation.call();
+			}
+			catch (CancellationException | InterruptedException | TimeoutException | RejectedExecutionException e)
+			{
+				// The operation has been stopped before reaching the server.
+				breaker.OnIgnored();
+				throw e;
+			}
+			catch (Exception e)
+			{
+				if (e instanceof LkException && OperationCodes.IsSessionInvalid((LkException)e))
+				{
+					// The server has answered: the session is not valid, and repeating the operation will not fix it.
+					breaker.OnSuccess();
+					throw e;
+				}
+				breaker.OnFailure();
+				if (!retryable || !Backoff(attempt++))
+					throw e;
+				lastException = e;
+				continue;
+			}
+
+			if (outputFormat == DATAFORMAT_TYPE.MV.getnumVal() && HasRetryableError(result))
+			{
+				breaker.OnFailure();
+				if (!retryable || !Backoff(attempt++))
+					return result;
+				lastException = null;
+				lastResult = result;
+				continue;
+			}
+			breaker.OnSuccess();
+			return result;
+		}
+	}
+
+	private boolean HasRetryableError(String result)
+	{
+		if (this.RetryableErrorCodes.isEmpty() || result == null)
+			return false;
+		for (String error : StringFunctions.ExtractErrors(result))
+		{
+			String code = error.split(DBMV_Mark.VM_str, -1)[0];
+			if (this.RetryableErrorCodes.contains(code))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Waits before a retry.
+	 * @return false when the retry is not possible: no more retries, no retry budget, or not enough time in the OperationContext.
+	 */
+	private boolean Backoff(int attempt) throws InterruptedException
+	{
+		if (attempt >= this.RetryOptions.getMaxRetries() || !TryWithdrawBudget())
+			return false;
+		long maxDelay = Math.min(this.RetryOptions.getMaxDelay(), this.RetryOptions.getBaseDelay() << Math.min(attempt, 20));
+		long delay = ThreadLocalRandom.current().nextLong(maxDelay + 1);
+		OperationContext context = OperationContext.Current();
+		if (context != null && (context.isDone() || context.getRemainingMillis() <= delay))
+			return false;
+		Thread.sleep(delay);
+		return true;
+	}
+
+	private synchronized void DepositBudget()
+	{
+		this.Budget = Math.min(MAX_BUDGET, this.Budget + this.RetryOptions.getBudgetPercent() / 100);
+	}
+
+	private synchronized boolean TryWithdrawBudget()
+	{
+		if (this.Budget < 1)
+			return false;
+		this.Budget--;
+		return true;
+	}
+}
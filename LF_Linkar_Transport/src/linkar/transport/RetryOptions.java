@@ -0,0 +1,125 @@
+package linkar.transport;
+
+/**
+ * Object that works as an argument in the {@link ResilienceTransport} and defines which failed operations are retried, how many times and when.
+ */
+public class RetryOptions {
+
+	private int _MaxRetries;
+	/**
+	 * Maximum number of retries of every operation.
+	 * @return value
+	 */
+	public int getMaxRetries()
+	{
+		return this._MaxRetries;
+	}
+
+	private long _BaseDelay;
+	/**
+	 * Base time in milliseconds of the backoff. The wait before the retry n is a random time between 0 and baseDelay * 2^n, up to the maximum delay.
+	 * @return value
+	 */
+	public long getBaseDelay()
+	{
+		return this._BaseDelay;
+	}
+
+	private long _MaxDelay;
+	/**
+	 * Maximum time in milliseconds waiting before a retry.
+	 * @return value
+	 */
+	public long getMaxDelay()
+	{
+		return this._MaxDelay;
+	}
+
+	private double _BudgetPercent;
+	/**
+	 * Maximum number of retries, as a percentage of all the operations sent through the transport. It prevents the retry storms when a server is down.
+	 * @return value
+	 */
+	public double getBudgetPercent()
+	{
+		return this._BudgetPercent;
+	}
+
+	private boolean _RetryWrites;
+	/**
+	 * Retries also the operations that modify data (NEW, UPDATE, UPDATEPARTIAL, DELETE), SUBROUTINE, EXECUTE, the Commands and LOGIN. By default, only the idempotent operations are retried.
+	 * Every retried Login whose answer has been lost may leave an orphan session in the server, that counts against the licences until it expires.
+	 * @return value
+	 */
+	public boolean getRetryWrites()
+	{
+		return this._RetryWrites;
+	}
+
+	private String[] _RetryableErrorCodes;
+	/**
+	 * Codes of the errors returned in the ERRORS tag of the MV results that are transient, so the operation is retried. The rest of the errors are final.
+	 * @return value
+	 */
+	public String[] getRetryableErrorCodes()
+	{
+		return this._RetryableErrorCodes.clone();
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #RetryOptions} class.
+	* @param maxRetries				Maximum number of retries of every operation.
+	* @param baseDelay				Base time in milliseconds of the backoff.
+	* @param maxDelay				Maximum time in milliseconds waiting before a retry.
+	* @param budgetPercent			Maximum number of retries, as a percentage of all the operations.
+	* @param retryWrites			Retries also the operations that are not idempotent.
+	* @param retryableErrorCodes	Codes of the errors of the ERRORS tag that are transient.
+	*/
+	public RetryOptions(int maxRetries, long baseDelay, long maxDelay, double budgetPercent, boolean retryWrites, String[] retryableErrorCodes)
+	{
+		this._MaxRetries = (maxRetries < 0 ? 0 : maxRetries);
+		this._BaseDelay = (baseDelay < 1 ? 1 : baseDelay);
+		this._MaxDelay = Math.max(maxDelay, this._BaseDelay);
+		this._BudgetPercent = Math.max(0, Math.min(budgetPercent, 100));
+		this._RetryWrites = retryWrites;
+		this._RetryableErrorCodes = (retryableErrorCodes == null ? new String[0] : retryableErrorCodes.clone());
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #RetryOptions} class.
+	* @param maxRetries				Maximum number of retries of every operation.
+	* @param retryWrites			Retries also the operations that are not idempotent.
+	* @param retryableErrorCodes	Codes of the errors of the ERRORS tag that are transient.
+	* @custom.note 					The omitted arguments with following values:
+	<pre>
+	{@code
+	baseDelay = 50
+	maxDelay = 2000
+	budgetPercent = 10
+	}
+	</pre>
+	*/
+	public RetryOptions(int maxRetries, boolean retryWrites, String[] retryableErrorCodes)
+	{
+		this(maxRetries, 50, 2000, 10, retryWrites, retryableErrorCodes);
+	}
+
+	/**
+	* Constructor. Initializes a new instance of the {@link #RetryOptions} class.
+	* @custom.note 	The omitted arguments with following values:
+	<pre>
+	{@code
+	maxRetries = 2
+	baseDelay = 50
+	maxDelay = 2000
+	budgetPercent = 10
+	retryWrites = false
+	retryableErrorCodes = { }
+	}
+	</pre>
+	*/
+	public RetryOptions()
+	{
+		this(2, 50, 2000, 10, false, null);
+	}
+}